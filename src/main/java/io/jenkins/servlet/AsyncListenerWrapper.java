@@ -8,53 +8,92 @@ import javax.servlet.AsyncListener;
 public class AsyncListenerWrapper {
     public static jakarta.servlet.AsyncListener toJakartaAsyncListener(AsyncListener from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.AsyncListener() {
-
-            @Override
-            public void onComplete(jakarta.servlet.AsyncEvent event) throws IOException {
-                from.onComplete(AsyncEventWrapper.fromJakartaServletHttpAsyncEvent(event));
-            }
-
-            @Override
-            public void onTimeout(jakarta.servlet.AsyncEvent event) throws IOException {
-                from.onTimeout(AsyncEventWrapper.fromJakartaServletHttpAsyncEvent(event));
-            }
-
-            @Override
-            public void onError(jakarta.servlet.AsyncEvent event) throws IOException {
-                from.onError(AsyncEventWrapper.fromJakartaServletHttpAsyncEvent(event));
-            }
-
-            @Override
-            public void onStartAsync(jakarta.servlet.AsyncEvent event) throws IOException {
-                from.onStartAsync(AsyncEventWrapper.fromJakartaServletHttpAsyncEvent(event));
-            }
-        };
+        if (from instanceof JavaxAsyncListenerWrapper javax) {
+            return javax.toJakartaAsyncListener();
+        }
+        return new JakartaAsyncListenerWrapperImpl(from);
     }
 
     public static AsyncListener fromJakartaAsyncListener(jakarta.servlet.AsyncListener from) {
         Objects.requireNonNull(from);
-        return new AsyncListener() {
-
-            @Override
-            public void onComplete(AsyncEvent event) throws IOException {
-                from.onComplete(AsyncEventWrapper.toJakartaServletHttpAsyncEvent(event));
-            }
-
-            @Override
-            public void onTimeout(AsyncEvent event) throws IOException {
-                from.onTimeout(AsyncEventWrapper.toJakartaServletHttpAsyncEvent(event));
-            }
-
-            @Override
-            public void onError(AsyncEvent event) throws IOException {
-                from.onError(AsyncEventWrapper.toJakartaServletHttpAsyncEvent(event));
-            }
-
-            @Override
-            public void onStartAsync(AsyncEvent event) throws IOException {
-                from.onStartAsync(AsyncEventWrapper.toJakartaServletHttpAsyncEvent(event));
-            }
-        };
+        if (from instanceof JakartaAsyncListenerWrapper jakarta) {
+            return jakarta.toJavaxAsyncListener();
+        }
+        return new JavaxAsyncListenerWrapperImpl(from);
+    }
+
+    public interface JakartaAsyncListenerWrapper {
+        AsyncListener toJavaxAsyncListener();
+    }
+
+    private static final class JakartaAsyncListenerWrapperImpl
+            implements jakarta.servlet.AsyncListener, JakartaAsyncListenerWrapper {
+        private final AsyncListener from;
+
+        public JakartaAsyncListenerWrapperImpl(AsyncListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void onComplete(jakarta.servlet.AsyncEvent event) throws IOException {
+            from.onComplete(AsyncEventWrapper.fromJakartaServletHttpAsyncEvent(event));
+        }
+
+        @Override
+        public void onTimeout(jakarta.servlet.AsyncEvent event) throws IOException {
+            from.onTimeout(AsyncEventWrapper.fromJakartaServletHttpAsyncEvent(event));
+        }
+
+        @Override
+        public void onError(jakarta.servlet.AsyncEvent event) throws IOException {
+            from.onError(AsyncEventWrapper.fromJakartaServletHttpAsyncEvent(event));
+        }
+
+        @Override
+        public void onStartAsync(jakarta.servlet.AsyncEvent event) throws IOException {
+            from.onStartAsync(AsyncEventWrapper.fromJakartaServletHttpAsyncEvent(event));
+        }
+
+        @Override
+        public AsyncListener toJavaxAsyncListener() {
+            return from;
+        }
+    }
+
+    public interface JavaxAsyncListenerWrapper {
+        jakarta.servlet.AsyncListener toJakartaAsyncListener();
+    }
+
+    private static final class JavaxAsyncListenerWrapperImpl implements AsyncListener, JavaxAsyncListenerWrapper {
+        private final jakarta.servlet.AsyncListener from;
+
+        public JavaxAsyncListenerWrapperImpl(jakarta.servlet.AsyncListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) throws IOException {
+            from.onComplete(AsyncEventWrapper.toJakartaServletHttpAsyncEvent(event));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) throws IOException {
+            from.onTimeout(AsyncEventWrapper.toJakartaServletHttpAsyncEvent(event));
+        }
+
+        @Override
+        public void onError(AsyncEvent event) throws IOException {
+            from.onError(AsyncEventWrapper.toJakartaServletHttpAsyncEvent(event));
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) throws IOException {
+            from.onStartAsync(AsyncEventWrapper.toJakartaServletHttpAsyncEvent(event));
+        }
+
+        @Override
+        public jakarta.servlet.AsyncListener toJakartaAsyncListener() {
+            return from;
+        }
     }
 }
@@ -0,0 +1,171 @@
+package io.jenkins.servlet;
+
+import io.jenkins.servlet.http.HttpSessionAttributeListenerWrapper;
+import io.jenkins.servlet.http.HttpSessionIdListenerWrapper;
+import io.jenkins.servlet.http.HttpSessionListenerWrapper;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.EventListener;
+import java.util.List;
+import java.util.Objects;
+import javax.servlet.ServletContextAttributeListener;
+import javax.servlet.ServletContextListener;
+import javax.servlet.ServletRequestAttributeListener;
+import javax.servlet.ServletRequestListener;
+import javax.servlet.http.HttpSessionAttributeListener;
+import javax.servlet.http.HttpSessionIdListener;
+import javax.servlet.http.HttpSessionListener;
+
+/**
+ * Adapts the listeners added to a bridged context. A listener may implement several of the listener interfaces, so it
+ * is adapted to one listener per interface, each of which is added to the context on the other side of the bridge.
+ */
+public class EventListenerWrapper {
+    private static final List<Class<? extends EventListener>> JAVAX_TYPES = List.of(
+            ServletContextListener.class,
+            ServletContextAttributeListener.class,
+            ServletRequestListener.class,
+            ServletRequestAttributeListener.class,
+            HttpSessionListener.class,
+            HttpSessionAttributeListener.class,
+            HttpSessionIdListener.class);
+
+    private static final List<Class<? extends EventListener>> JAKARTA_TYPES = List.of(
+            jakarta.servlet.ServletContextListener.class,
+            jakarta.servlet.ServletContextAttributeListener.class,
+            jakarta.servlet.ServletRequestListener.class,
+            jakarta.servlet.ServletRequestAttributeListener.class,
+            jakarta.servlet.http.HttpSessionListener.class,
+            jakarta.servlet.http.HttpSessionAttributeListener.class,
+            jakarta.servlet.http.HttpSessionIdListener.class);
+
+    /**
+     * Returns a stand-in for the source of an adapted event. The event constructors reject a null source, so the event
+     * adapters are created with a stand-in and resolve the adapter of the actual source only when a listener asks for
+     * it. Every method of the stand-in throws {@link IllegalStateException}.
+     */
+    public static <T> T unresolvedEventSource(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            throw new IllegalStateException("Unresolved event source");
+        }));
+    }
+
+    /**
+     * Returns the Jakarta adapters of the given listener, one for each listener interface it implements.
+     *
+     * @throws IllegalArgumentException if the listener implements none of the listener interfaces
+     */
+    public static List<EventListener> toJakartaEventListeners(EventListener from) {
+        Objects.requireNonNull(from);
+        List<EventListener> adapters = new ArrayList<>(1);
+        if (from instanceof ServletContextListener l) {
+            adapters.add(ServletContextListenerWrapper.toJakartaServletContextListener(l));
+        }
+        if (from instanceof ServletContextAttributeListener l) {
+            adapters.add(ServletContextAttributeListenerWrapper.toJakartaServletContextAttributeListener(l));
+        }
+        if (from instanceof ServletRequestListener l) {
+            adapters.add(ServletRequestListenerWrapper.toJakartaServletRequestListener(l));
+        }
+        if (from instanceof ServletRequestAttributeListener l) {
+            adapters.add(ServletRequestAttributeListenerWrapper.toJakartaServletRequestAttributeListener(l));
+        }
+        if (from instanceof HttpSessionListener l) {
+            adapters.add(HttpSessionListenerWrapper.toJakartaHttpSessionListener(l));
+        }
+        if (from instanceof HttpSessionAttributeListener l) {
+            adapters.add(HttpSessionAttributeListenerWrapper.toJakartaHttpSessionAttributeListener(l));
+        }
+        if (from instanceof HttpSessionIdListener l) {
+            adapters.add(HttpSessionIdListenerWrapper.toJakartaHttpSessionIdListener(l));
+        }
+        if (adapters.isEmpty()) {
+            throw unsupported(from.getClass());
+        }
+        return adapters;
+    }
+
+    /**
+     * Returns the javax adapters of the given listener, one for each listener interface it implements.
+     *
+     * @throws IllegalArgumentException if the listener implements none of the listener interfaces
+     */
+    public static List<EventListener> fromJakartaEventListeners(EventListener from) {
+        Objects.requireNonNull(from);
+        List<EventListener> adapters = new ArrayList<>(1);
+        if (from instanceof jakarta.servlet.ServletContextListener l) {
+            adapters.add(ServletContextListenerWrapper.fromJakartaServletContextListener(l));
+        }
+        if (from instanceof jakarta.servlet.ServletContextAttributeListener l) {
+            adapters.add(ServletContextAttributeListenerWrapper.fromJakartaServletContextAttributeListener(l));
+        }
+        if (from instanceof jakarta.servlet.ServletRequestListener l) {
+            adapters.add(ServletRequestListenerWrapper.fromJakartaServletRequestListener(l));
+        }
+        if (from instanceof jakarta.servlet.ServletRequestAttributeListener l) {
+            adapters.add(ServletRequestAttributeListenerWrapper.fromJakartaServletRequestAttributeListener(l));
+        }
+        if (from instanceof jakarta.servlet.http.HttpSessionListener l) {
+            adapters.add(HttpSessionListenerWrapper.fromJakartaHttpSessionListener(l));
+        }
+        if (from instanceof jakarta.servlet.http.HttpSessionAttributeListener l) {
+            adapters.add(HttpSessionAttributeListenerWrapper.fromJakartaHttpSessionAttributeListener(l));
+        }
+        if (from instanceof jakarta.servlet.http.HttpSessionIdListener l) {
+            adapters.add(HttpSessionIdListenerWrapper.fromJakartaHttpSessionIdListener(l));
+        }
+        if (adapters.isEmpty()) {
+            throw unsupported(from.getClass());
+        }
+        return adapters;
+    }
+
+    /**
+     * Checks that the given class implements at least one of the javax listener interfaces.
+     *
+     * @throws IllegalArgumentException if it does not
+     */
+    public static void checkJavaxEventListenerType(Class<?> type) {
+        if (!isJavaxEventListenerType(type)) {
+            throw unsupported(type);
+        }
+    }
+
+    /**
+     * Checks that the given class implements at least one of the Jakarta listener interfaces.
+     *
+     * @throws IllegalArgumentException if it does not
+     */
+    public static void checkJakartaEventListenerType(Class<?> type) {
+        if (!isJakartaEventListenerType(type)) {
+            throw unsupported(type);
+        }
+    }
+
+    /**
+     * Returns whether the given class implements at least one of the javax listener interfaces.
+     */
+    public static boolean isJavaxEventListenerType(Class<?> type) {
+        return isType(type, JAVAX_TYPES);
+    }
+
+    /**
+     * Returns whether the given class implements at least one of the Jakarta listener interfaces.
+     */
+    public static boolean isJakartaEventListenerType(Class<?> type) {
+        return isType(type, JAKARTA_TYPES);
+    }
+
+    private static boolean isType(Class<?> type, List<Class<? extends EventListener>> supported) {
+        for (Class<? extends EventListener> listenerType : supported) {
+            if (listenerType.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static IllegalArgumentException unsupported(Class<?> type) {
+        return new IllegalArgumentException("Given class " + type.getName() + " implements no supported listener type");
+    }
+}
@@ -14,54 +14,94 @@ import javax.servlet.http.HttpServletResponse;
 public class FilterChainWrapper {
     public static jakarta.servlet.FilterChain toJakartaFilterChain(FilterChain from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.FilterChain() {
-            @Override
-            public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response)
-                    throws IOException, jakarta.servlet.ServletException {
-                try {
-                    if (request instanceof jakarta.servlet.http.HttpServletRequest
-                            && response instanceof jakarta.servlet.http.HttpServletResponse) {
-                        jakarta.servlet.http.HttpServletRequest httpRequest =
-                                (jakarta.servlet.http.HttpServletRequest) request;
-                        jakarta.servlet.http.HttpServletResponse httpResponse =
-                                (jakarta.servlet.http.HttpServletResponse) response;
-                        from.doFilter(
-                                HttpServletRequestWrapper.fromJakartaHttpServletRequest(httpRequest),
-                                HttpServletResponseWrapper.fromJakartaHttpServletResponse(httpResponse));
-                    } else {
-                        from.doFilter(
-                                ServletRequestWrapper.fromJakartaServletRequest(request),
-                                ServletResponseWrapper.fromJakartaServletResponse(response));
-                    }
-                } catch (ServletException e) {
-                    throw ServletExceptionWrapper.toJakartaServletException(e);
-                }
-            }
-        };
+        if (from instanceof JavaxFilterChainWrapper javax) {
+            return javax.toJakartaFilterChain();
+        }
+        return new JakartaFilterChainWrapperImpl(from);
     }
 
     public static FilterChain fromJakartaFilterChain(jakarta.servlet.FilterChain from) {
         Objects.requireNonNull(from);
-        return new FilterChain() {
-            @Override
-            public void doFilter(ServletRequest request, ServletResponse response)
-                    throws IOException, ServletException {
-                try {
-                    if (request instanceof HttpServletRequest && response instanceof HttpServletResponse) {
-                        HttpServletRequest httpRequest = (HttpServletRequest) request;
-                        HttpServletResponse httpResponse = (HttpServletResponse) response;
-                        from.doFilter(
-                                HttpServletRequestWrapper.toJakartaHttpServletRequest(httpRequest),
-                                HttpServletResponseWrapper.toJakartaHttpServletResponse(httpResponse));
-                    } else {
-                        from.doFilter(
-                                io.jenkins.servlet.ServletRequestWrapper.toJakartaServletRequest(request),
-                                ServletResponseWrapper.toJakartaServletResponse(response));
-                    }
-                } catch (jakarta.servlet.ServletException e) {
-                    throw ServletExceptionWrapper.fromJakartaServletException(e);
+        if (from instanceof JakartaFilterChainWrapper jakarta) {
+            return jakarta.toJavaxFilterChain();
+        }
+        return new JavaxFilterChainWrapperImpl(from);
+    }
+
+    public interface JakartaFilterChainWrapper {
+        FilterChain toJavaxFilterChain();
+    }
+
+    private static final class JakartaFilterChainWrapperImpl
+            implements jakarta.servlet.FilterChain, JakartaFilterChainWrapper {
+        private final FilterChain from;
+
+        public JakartaFilterChainWrapperImpl(FilterChain from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response)
+                throws IOException, jakarta.servlet.ServletException {
+            try {
+                if (request instanceof jakarta.servlet.http.HttpServletRequest
+                        && response instanceof jakarta.servlet.http.HttpServletResponse) {
+                    jakarta.servlet.http.HttpServletRequest httpRequest =
+                            (jakarta.servlet.http.HttpServletRequest) request;
+                    jakarta.servlet.http.HttpServletResponse httpResponse =
+                            (jakarta.servlet.http.HttpServletResponse) response;
+                    from.doFilter(
+                            HttpServletRequestWrapper.fromJakartaHttpServletRequest(httpRequest),
+                            HttpServletResponseWrapper.fromJakartaHttpServletResponse(httpResponse));
+                } else {
+                    from.doFilter(
+                            ServletRequestWrapper.fromJakartaServletRequest(request),
+                            ServletResponseWrapper.fromJakartaServletResponse(response));
+                }
+            } catch (ServletException e) {
+                throw ServletExceptionWrapper.toJakartaServletException(e);
+            }
+        }
+
+        @Override
+        public FilterChain toJavaxFilterChain() {
+            return from;
+        }
+    }
+
+    public interface JavaxFilterChainWrapper {
+        jakarta.servlet.FilterChain toJakartaFilterChain();
+    }
+
+    private static final class JavaxFilterChainWrapperImpl implements FilterChain, JavaxFilterChainWrapper {
+        private final jakarta.servlet.FilterChain from;
+
+        public JavaxFilterChainWrapperImpl(jakarta.servlet.FilterChain from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+            try {
+                if (request instanceof HttpServletRequest && response instanceof HttpServletResponse) {
+                    HttpServletRequest httpRequest = (HttpServletRequest) request;
+                    HttpServletResponse httpResponse = (HttpServletResponse) response;
+                    from.doFilter(
+                            HttpServletRequestWrapper.toJakartaHttpServletRequest(httpRequest),
+                            HttpServletResponseWrapper.toJakartaHttpServletResponse(httpResponse));
+                } else {
+                    from.doFilter(
+                            io.jenkins.servlet.ServletRequestWrapper.toJakartaServletRequest(request),
+                            ServletResponseWrapper.toJakartaServletResponse(response));
                 }
+            } catch (jakarta.servlet.ServletException e) {
+                throw ServletExceptionWrapper.fromJakartaServletException(e);
             }
-        };
+        }
+
+        @Override
+        public jakarta.servlet.FilterChain toJakartaFilterChain() {
+            return from;
+        }
     }
 }
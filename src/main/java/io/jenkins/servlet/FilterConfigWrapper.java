@@ -8,51 +8,92 @@ import javax.servlet.ServletContext;
 public class FilterConfigWrapper {
     public static jakarta.servlet.FilterConfig toJakartaFilterConfig(FilterConfig from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.FilterConfig() {
-            @Override
-            public String getFilterName() {
-                return from.getFilterName();
-            }
-
-            @Override
-            public jakarta.servlet.ServletContext getServletContext() {
-                return ServletContextWrapper.toJakartaServletContext(from.getServletContext());
-            }
-
-            @Override
-            public String getInitParameter(String name) {
-                return from.getInitParameter(name);
-            }
-
-            @Override
-            public Enumeration<String> getInitParameterNames() {
-                return from.getInitParameterNames();
-            }
-        };
+        if (from instanceof JavaxFilterConfigWrapper javax) {
+            return javax.toJakartaFilterConfig();
+        }
+        return new JakartaFilterConfigWrapperImpl(from);
     }
 
     public static FilterConfig fromJakartaFilterConfig(jakarta.servlet.FilterConfig from) {
         Objects.requireNonNull(from);
-        return new FilterConfig() {
-            @Override
-            public String getFilterName() {
-                return from.getFilterName();
-            }
-
-            @Override
-            public ServletContext getServletContext() {
-                return ServletContextWrapper.fromJakartServletContext(from.getServletContext());
-            }
-
-            @Override
-            public String getInitParameter(String name) {
-                return from.getInitParameter(name);
-            }
-
-            @Override
-            public Enumeration<String> getInitParameterNames() {
-                return from.getInitParameterNames();
-            }
-        };
+        if (from instanceof JakartaFilterConfigWrapper jakarta) {
+            return jakarta.toJavaxFilterConfig();
+        }
+        return new JavaxFilterConfigWrapperImpl(from);
+    }
+
+    public interface JakartaFilterConfigWrapper {
+        FilterConfig toJavaxFilterConfig();
+    }
+
+    private static final class JakartaFilterConfigWrapperImpl
+            implements jakarta.servlet.FilterConfig, JakartaFilterConfigWrapper {
+        private final FilterConfig from;
+
+        public JakartaFilterConfigWrapperImpl(FilterConfig from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getFilterName() {
+            return from.getFilterName();
+        }
+
+        @Override
+        public jakarta.servlet.ServletContext getServletContext() {
+            return ServletContextWrapper.toJakartaServletContext(from.getServletContext());
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return from.getInitParameter(name);
+        }
+
+        @Override
+        public Enumeration<String> getInitParameterNames() {
+            return from.getInitParameterNames();
+        }
+
+        @Override
+        public FilterConfig toJavaxFilterConfig() {
+            return from;
+        }
+    }
+
+    public interface JavaxFilterConfigWrapper {
+        jakarta.servlet.FilterConfig toJakartaFilterConfig();
+    }
+
+    private static final class JavaxFilterConfigWrapperImpl implements FilterConfig, JavaxFilterConfigWrapper {
+        private final jakarta.servlet.FilterConfig from;
+
+        public JavaxFilterConfigWrapperImpl(jakarta.servlet.FilterConfig from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getFilterName() {
+            return from.getFilterName();
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            return ServletContextWrapper.fromJakartServletContext(from.getServletContext());
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return from.getInitParameter(name);
+        }
+
+        @Override
+        public Enumeration<String> getInitParameterNames() {
+            return from.getInitParameterNames();
+        }
+
+        @Override
+        public jakarta.servlet.FilterConfig toJakartaFilterConfig() {
+            return from;
+        }
     }
 }
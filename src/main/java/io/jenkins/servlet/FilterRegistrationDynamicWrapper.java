@@ -8,155 +8,232 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import javax.servlet.DispatcherType;
 import javax.servlet.FilterRegistration;
+import javax.servlet.Registration;
 
 public class FilterRegistrationDynamicWrapper {
     public static jakarta.servlet.FilterRegistration.Dynamic toJakartaFilterRegistrationDynamic(
             FilterRegistration.Dynamic from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.FilterRegistration.Dynamic() {
-            @Override
-            public String getName() {
-                return from.getName();
-            }
-
-            @Override
-            public String getClassName() {
-                return from.getClassName();
-            }
-
-            @Override
-            public boolean setInitParameter(String name, String value) {
-                return from.setInitParameter(name, value);
-            }
-
-            @Override
-            public String getInitParameter(String name) {
-                return from.getInitParameter(name);
-            }
-
-            @Override
-            public Set<String> setInitParameters(Map<String, String> initParameters) {
-                return from.setInitParameters(initParameters);
-            }
-
-            @Override
-            public Map<String, String> getInitParameters() {
-                return from.getInitParameters();
-            }
-
-            @Override
-            public void setAsyncSupported(boolean isAsyncSupported) {
-                from.setAsyncSupported(isAsyncSupported);
-            }
-
-            @Override
-            public void addMappingForServletNames(
-                    EnumSet<jakarta.servlet.DispatcherType> dispatcherTypes,
-                    boolean isMatchAfter,
-                    String... servletNames) {
-                from.addMappingForServletNames(
-                        EnumSet.copyOf(dispatcherTypes.stream()
-                                .map(DispatcherTypeWrapper::fromJakartaDispatcherType)
-                                .collect(Collectors.toSet())),
-                        isMatchAfter,
-                        servletNames);
-            }
-
-            @Override
-            public Collection<String> getServletNameMappings() {
-                return from.getServletNameMappings();
-            }
-
-            @Override
-            public void addMappingForUrlPatterns(
-                    EnumSet<jakarta.servlet.DispatcherType> dispatcherTypes,
-                    boolean isMatchAfter,
-                    String... urlPatterns) {
-                from.addMappingForUrlPatterns(
-                        EnumSet.copyOf(dispatcherTypes.stream()
-                                .map(DispatcherTypeWrapper::fromJakartaDispatcherType)
-                                .collect(Collectors.toSet())),
-                        isMatchAfter,
-                        urlPatterns);
-            }
-
-            @Override
-            public Collection<String> getUrlPatternMappings() {
-                return from.getUrlPatternMappings();
-            }
-        };
+        if (from instanceof JavaxFilterRegistrationDynamicWrapper javax) {
+            return javax.toJakartaFilterRegistrationDynamic();
+        }
+        return new JakartaFilterRegistrationDynamicWrapperImpl(from);
     }
 
     public static FilterRegistration.Dynamic fromJakartaFilterRegistrationDynamic(
             jakarta.servlet.FilterRegistration.Dynamic from) {
         Objects.requireNonNull(from);
-        return new FilterRegistration.Dynamic() {
-            @Override
-            public String getName() {
-                return from.getName();
-            }
-
-            @Override
-            public String getClassName() {
-                return from.getClassName();
-            }
-
-            @Override
-            public boolean setInitParameter(String name, String value) {
-                return from.setInitParameter(name, value);
-            }
-
-            @Override
-            public String getInitParameter(String name) {
-                return from.getInitParameter(name);
-            }
-
-            @Override
-            public Set<String> setInitParameters(Map<String, String> initParameters) {
-                return from.setInitParameters(initParameters);
-            }
-
-            @Override
-            public Map<String, String> getInitParameters() {
-                return from.getInitParameters();
-            }
-
-            @Override
-            public void setAsyncSupported(boolean isAsyncSupported) {
-                from.setAsyncSupported(isAsyncSupported);
-            }
-
-            @Override
-            public void addMappingForServletNames(
-                    EnumSet<DispatcherType> dispatcherTypes, boolean isMatchAfter, String... servletNames) {
-                from.addMappingForServletNames(
-                        EnumSet.copyOf(dispatcherTypes.stream()
-                                .map(DispatcherTypeWrapper::toJakartaDispatcherType)
-                                .collect(Collectors.toSet())),
-                        isMatchAfter,
-                        servletNames);
-            }
-
-            @Override
-            public Collection<String> getServletNameMappings() {
-                return from.getServletNameMappings();
-            }
-
-            @Override
-            public void addMappingForUrlPatterns(
-                    EnumSet<DispatcherType> dispatcherTypes, boolean isMatchAfter, String... urlPatterns) {
-                from.addMappingForUrlPatterns(
-                        EnumSet.copyOf(dispatcherTypes.stream()
-                                .map(DispatcherTypeWrapper::toJakartaDispatcherType)
-                                .collect(Collectors.toSet())),
-                        isMatchAfter,
-                        urlPatterns);
-            }
-
-            @Override
-            public Collection<String> getUrlPatternMappings() {
-                return from.getUrlPatternMappings();
-            }
-        };
+        if (from instanceof JakartaFilterRegistrationDynamicWrapper jakarta) {
+            return jakarta.toJavaxFilterRegistrationDynamic();
+        }
+        return new JavaxFilterRegistrationDynamicWrapperImpl(from);
+    }
+
+    public interface JakartaFilterRegistrationDynamicWrapper {
+        FilterRegistration.Dynamic toJavaxFilterRegistrationDynamic();
+    }
+
+    private static final class JakartaFilterRegistrationDynamicWrapperImpl
+            implements jakarta.servlet.FilterRegistration.Dynamic,
+                    JakartaFilterRegistrationDynamicWrapper,
+                    FilterRegistrationWrapper.JakartaFilterRegistrationWrapper,
+                    RegistrationDynamicWrapper.JakartaRegistrationDynamicWrapper,
+                    RegistrationWrapper.JakartaRegistrationWrapper {
+        private final FilterRegistration.Dynamic from;
+
+        public JakartaFilterRegistrationDynamicWrapperImpl(FilterRegistration.Dynamic from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public String getClassName() {
+            return from.getClassName();
+        }
+
+        @Override
+        public boolean setInitParameter(String name, String value) {
+            return from.setInitParameter(name, value);
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return from.getInitParameter(name);
+        }
+
+        @Override
+        public Set<String> setInitParameters(Map<String, String> initParameters) {
+            return from.setInitParameters(initParameters);
+        }
+
+        @Override
+        public Map<String, String> getInitParameters() {
+            return from.getInitParameters();
+        }
+
+        @Override
+        public void setAsyncSupported(boolean isAsyncSupported) {
+            from.setAsyncSupported(isAsyncSupported);
+        }
+
+        @Override
+        public void addMappingForServletNames(
+                EnumSet<jakarta.servlet.DispatcherType> dispatcherTypes, boolean isMatchAfter, String... servletNames) {
+            from.addMappingForServletNames(
+                    EnumSet.copyOf(dispatcherTypes.stream()
+                            .map(DispatcherTypeWrapper::fromJakartaDispatcherType)
+                            .collect(Collectors.toSet())),
+                    isMatchAfter,
+                    servletNames);
+        }
+
+        @Override
+        public Collection<String> getServletNameMappings() {
+            return from.getServletNameMappings();
+        }
+
+        @Override
+        public void addMappingForUrlPatterns(
+                EnumSet<jakarta.servlet.DispatcherType> dispatcherTypes, boolean isMatchAfter, String... urlPatterns) {
+            from.addMappingForUrlPatterns(
+                    EnumSet.copyOf(dispatcherTypes.stream()
+                            .map(DispatcherTypeWrapper::fromJakartaDispatcherType)
+                            .collect(Collectors.toSet())),
+                    isMatchAfter,
+                    urlPatterns);
+        }
+
+        @Override
+        public Collection<String> getUrlPatternMappings() {
+            return from.getUrlPatternMappings();
+        }
+
+        @Override
+        public FilterRegistration.Dynamic toJavaxFilterRegistrationDynamic() {
+            return from;
+        }
+
+        @Override
+        public FilterRegistration toJavaxFilterRegistration() {
+            return from;
+        }
+
+        @Override
+        public Registration.Dynamic toJavaxRegistrationDynamic() {
+            return from;
+        }
+
+        @Override
+        public Registration toJavaxRegistration() {
+            return from;
+        }
+    }
+
+    public interface JavaxFilterRegistrationDynamicWrapper {
+        jakarta.servlet.FilterRegistration.Dynamic toJakartaFilterRegistrationDynamic();
+    }
+
+    private static final class JavaxFilterRegistrationDynamicWrapperImpl
+            implements FilterRegistration.Dynamic,
+                    JavaxFilterRegistrationDynamicWrapper,
+                    FilterRegistrationWrapper.JavaxFilterRegistrationWrapper,
+                    RegistrationDynamicWrapper.JavaxRegistrationDynamicWrapper,
+                    RegistrationWrapper.JavaxRegistrationWrapper {
+        private final jakarta.servlet.FilterRegistration.Dynamic from;
+
+        public JavaxFilterRegistrationDynamicWrapperImpl(jakarta.servlet.FilterRegistration.Dynamic from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public String getClassName() {
+            return from.getClassName();
+        }
+
+        @Override
+        public boolean setInitParameter(String name, String value) {
+            return from.setInitParameter(name, value);
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return from.getInitParameter(name);
+        }
+
+        @Override
+        public Set<String> setInitParameters(Map<String, String> initParameters) {
+            return from.setInitParameters(initParameters);
+        }
+
+        @Override
+        public Map<String, String> getInitParameters() {
+            return from.getInitParameters();
+        }
+
+        @Override
+        public void setAsyncSupported(boolean isAsyncSupported) {
+            from.setAsyncSupported(isAsyncSupported);
+        }
+
+        @Override
+        public void addMappingForServletNames(
+                EnumSet<DispatcherType> dispatcherTypes, boolean isMatchAfter, String... servletNames) {
+            from.addMappingForServletNames(
+                    EnumSet.copyOf(dispatcherTypes.stream()
+                            .map(DispatcherTypeWrapper::toJakartaDispatcherType)
+                            .collect(Collectors.toSet())),
+                    isMatchAfter,
+                    servletNames);
+        }
+
+        @Override
+        public Collection<String> getServletNameMappings() {
+            return from.getServletNameMappings();
+        }
+
+        @Override
+        public void addMappingForUrlPatterns(
+                EnumSet<DispatcherType> dispatcherTypes, boolean isMatchAfter, String... urlPatterns) {
+            from.addMappingForUrlPatterns(
+                    EnumSet.copyOf(dispatcherTypes.stream()
+                            .map(DispatcherTypeWrapper::toJakartaDispatcherType)
+                            .collect(Collectors.toSet())),
+                    isMatchAfter,
+                    urlPatterns);
+        }
+
+        @Override
+        public Collection<String> getUrlPatternMappings() {
+            return from.getUrlPatternMappings();
+        }
+
+        @Override
+        public jakarta.servlet.FilterRegistration.Dynamic toJakartaFilterRegistrationDynamic() {
+            return from;
+        }
+
+        @Override
+        public jakarta.servlet.FilterRegistration toJakartaFilterRegistration() {
+            return from;
+        }
+
+        @Override
+        public jakarta.servlet.Registration.Dynamic toJakartaRegistrationDynamic() {
+            return from;
+        }
+
+        @Override
+        public jakarta.servlet.Registration toJakartaRegistration() {
+            return from;
+        }
     }
 }
@@ -0,0 +1,59 @@
+package io.jenkins.servlet;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Instantiates the classes that the bridge is asked to create on behalf of a container, such as servlets, filters and
+ * listeners registered by class.
+ *
+ * <p>The public no-argument constructor of each class is looked up once and cached as a method handle, so that classes
+ * instantiated repeatedly, like asynchronous listeners created for each request, do not pay for reflection every time.
+ */
+public final class InstanceFactory {
+    private static final MethodType NO_ARGUMENTS = MethodType.methodType(Object.class);
+
+    private static final ClassValue<Object> CONSTRUCTORS = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            try {
+                return MethodHandles.publicLookup()
+                        .unreflectConstructor(type.getConstructor())
+                        .asType(NO_ARGUMENTS);
+            } catch (ReflectiveOperationException e) {
+                // remembered, so that a class that cannot be instantiated fails fast the next time as well
+                return e;
+            }
+        }
+    };
+
+    private InstanceFactory() {}
+
+    /**
+     * Creates an instance of the given class through its public no-argument constructor.
+     *
+     * @param type the class to instantiate
+     * @param failure creates the exception thrown when the class cannot be instantiated, from a message and the cause
+     * @return the new instance
+     * @throws E if the class is abstract, has no public no-argument constructor, or its constructor throws a checked
+     *     exception
+     */
+    public static <T, E extends Exception> T newInstance(
+            Class<T> type, BiFunction<String, Throwable, ? extends E> failure) throws E {
+        Objects.requireNonNull(type);
+        Object constructor = CONSTRUCTORS.get(type);
+        if (constructor instanceof ReflectiveOperationException e) {
+            throw failure.apply("Cannot instantiate " + type.getName(), e);
+        }
+        try {
+            return type.cast((Object) ((MethodHandle) constructor).invokeExact());
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw failure.apply("Cannot instantiate " + type.getName(), t);
+        }
+    }
+}
@@ -7,41 +7,82 @@ import javax.servlet.ReadListener;
 public class ReadListenerWrapper {
     public static jakarta.servlet.ReadListener toJakartaReadListener(ReadListener from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.ReadListener() {
-            @Override
-            public void onDataAvailable() throws IOException {
-                from.onDataAvailable();
-            }
-
-            @Override
-            public void onAllDataRead() throws IOException {
-                from.onAllDataRead();
-            }
-
-            @Override
-            public void onError(Throwable throwable) {
-                from.onError(throwable);
-            }
-        };
+        if (from instanceof JavaxReadListenerWrapper javax) {
+            return javax.toJakartaReadListener();
+        }
+        return new JakartaReadListenerWrapperImpl(from);
     }
 
     public static ReadListener fromJakartaReadListener(jakarta.servlet.ReadListener from) {
         Objects.requireNonNull(from);
-        return new ReadListener() {
-            @Override
-            public void onDataAvailable() throws IOException {
-                from.onDataAvailable();
-            }
-
-            @Override
-            public void onAllDataRead() throws IOException {
-                from.onAllDataRead();
-            }
-
-            @Override
-            public void onError(Throwable t) {
-                from.onError(t);
-            }
-        };
+        if (from instanceof JakartaReadListenerWrapper jakarta) {
+            return jakarta.toJavaxReadListener();
+        }
+        return new JavaxReadListenerWrapperImpl(from);
+    }
+
+    public interface JakartaReadListenerWrapper {
+        ReadListener toJavaxReadListener();
+    }
+
+    private static final class JakartaReadListenerWrapperImpl
+            implements jakarta.servlet.ReadListener, JakartaReadListenerWrapper {
+        private final ReadListener from;
+
+        public JakartaReadListenerWrapperImpl(ReadListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void onDataAvailable() throws IOException {
+            from.onDataAvailable();
+        }
+
+        @Override
+        public void onAllDataRead() throws IOException {
+            from.onAllDataRead();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            from.onError(throwable);
+        }
+
+        @Override
+        public ReadListener toJavaxReadListener() {
+            return from;
+        }
+    }
+
+    public interface JavaxReadListenerWrapper {
+        jakarta.servlet.ReadListener toJakartaReadListener();
+    }
+
+    private static final class JavaxReadListenerWrapperImpl implements ReadListener, JavaxReadListenerWrapper {
+        private final jakarta.servlet.ReadListener from;
+
+        public JavaxReadListenerWrapperImpl(jakarta.servlet.ReadListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void onDataAvailable() throws IOException {
+            from.onDataAvailable();
+        }
+
+        @Override
+        public void onAllDataRead() throws IOException {
+            from.onAllDataRead();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            from.onError(t);
+        }
+
+        @Override
+        public jakarta.servlet.ReadListener toJakartaReadListener() {
+            return from;
+        }
     }
 }
@@ -8,81 +8,137 @@ import javax.servlet.Registration;
 public class RegistrationDynamicWrapper {
     public static jakarta.servlet.Registration.Dynamic toJakartaRegistrationDynamic(Registration.Dynamic from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.Registration.Dynamic() {
-            @Override
-            public String getName() {
-                return from.getName();
-            }
-
-            @Override
-            public String getClassName() {
-                return from.getClassName();
-            }
-
-            @Override
-            public boolean setInitParameter(String name, String value) {
-                return from.setInitParameter(name, value);
-            }
-
-            @Override
-            public String getInitParameter(String name) {
-                return from.getInitParameter(name);
-            }
-
-            @Override
-            public Set<String> setInitParameters(Map<String, String> initParameters) {
-                return from.setInitParameters(initParameters);
-            }
-
-            @Override
-            public Map<String, String> getInitParameters() {
-                return from.getInitParameters();
-            }
-
-            @Override
-            public void setAsyncSupported(boolean isAsyncSupported) {
-                from.setAsyncSupported(isAsyncSupported);
-            }
-        };
+        if (from instanceof JavaxRegistrationDynamicWrapper javax) {
+            return javax.toJakartaRegistrationDynamic();
+        }
+        return new JakartaRegistrationDynamicWrapperImpl(from);
     }
 
     public static Registration.Dynamic fromJakartaRegistrationDynamic(jakarta.servlet.Registration.Dynamic from) {
         Objects.requireNonNull(from);
-        return new Registration.Dynamic() {
-            @Override
-            public String getName() {
-                return from.getName();
-            }
-
-            @Override
-            public String getClassName() {
-                return from.getClassName();
-            }
-
-            @Override
-            public boolean setInitParameter(String name, String value) {
-                return from.setInitParameter(name, value);
-            }
-
-            @Override
-            public String getInitParameter(String name) {
-                return from.getInitParameter(name);
-            }
-
-            @Override
-            public Set<String> setInitParameters(Map<String, String> initParameters) {
-                return from.setInitParameters(initParameters);
-            }
-
-            @Override
-            public Map<String, String> getInitParameters() {
-                return from.getInitParameters();
-            }
-
-            @Override
-            public void setAsyncSupported(boolean isAsyncSupported) {
-                from.setAsyncSupported(isAsyncSupported);
-            }
-        };
+        if (from instanceof JakartaRegistrationDynamicWrapper jakarta) {
+            return jakarta.toJavaxRegistrationDynamic();
+        }
+        return new JavaxRegistrationDynamicWrapperImpl(from);
+    }
+
+    public interface JakartaRegistrationDynamicWrapper {
+        Registration.Dynamic toJavaxRegistrationDynamic();
+    }
+
+    private static final class JakartaRegistrationDynamicWrapperImpl
+            implements jakarta.servlet.Registration.Dynamic,
+                    JakartaRegistrationDynamicWrapper,
+                    RegistrationWrapper.JakartaRegistrationWrapper {
+        private final Registration.Dynamic from;
+
+        public JakartaRegistrationDynamicWrapperImpl(Registration.Dynamic from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public String getClassName() {
+            return from.getClassName();
+        }
+
+        @Override
+        public boolean setInitParameter(String name, String value) {
+            return from.setInitParameter(name, value);
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return from.getInitParameter(name);
+        }
+
+        @Override
+        public Set<String> setInitParameters(Map<String, String> initParameters) {
+            return from.setInitParameters(initParameters);
+        }
+
+        @Override
+        public Map<String, String> getInitParameters() {
+            return from.getInitParameters();
+        }
+
+        @Override
+        public void setAsyncSupported(boolean isAsyncSupported) {
+            from.setAsyncSupported(isAsyncSupported);
+        }
+
+        @Override
+        public Registration.Dynamic toJavaxRegistrationDynamic() {
+            return from;
+        }
+
+        @Override
+        public Registration toJavaxRegistration() {
+            return from;
+        }
+    }
+
+    public interface JavaxRegistrationDynamicWrapper {
+        jakarta.servlet.Registration.Dynamic toJakartaRegistrationDynamic();
+    }
+
+    private static final class JavaxRegistrationDynamicWrapperImpl
+            implements Registration.Dynamic,
+                    JavaxRegistrationDynamicWrapper,
+                    RegistrationWrapper.JavaxRegistrationWrapper {
+        private final jakarta.servlet.Registration.Dynamic from;
+
+        public JavaxRegistrationDynamicWrapperImpl(jakarta.servlet.Registration.Dynamic from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public String getClassName() {
+            return from.getClassName();
+        }
+
+        @Override
+        public boolean setInitParameter(String name, String value) {
+            return from.setInitParameter(name, value);
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return from.getInitParameter(name);
+        }
+
+        @Override
+        public Set<String> setInitParameters(Map<String, String> initParameters) {
+            return from.setInitParameters(initParameters);
+        }
+
+        @Override
+        public Map<String, String> getInitParameters() {
+            return from.getInitParameters();
+        }
+
+        @Override
+        public void setAsyncSupported(boolean isAsyncSupported) {
+            from.setAsyncSupported(isAsyncSupported);
+        }
+
+        @Override
+        public jakarta.servlet.Registration.Dynamic toJakartaRegistrationDynamic() {
+            return from;
+        }
+
+        @Override
+        public jakarta.servlet.Registration toJakartaRegistration() {
+            return from;
+        }
     }
 }
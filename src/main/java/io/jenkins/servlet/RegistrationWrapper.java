@@ -8,71 +8,112 @@ import javax.servlet.Registration;
 public class RegistrationWrapper {
     public static jakarta.servlet.Registration toJakartaRegistration(Registration from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.Registration() {
-            @Override
-            public String getName() {
-                return from.getName();
-            }
-
-            @Override
-            public String getClassName() {
-                return from.getClassName();
-            }
-
-            @Override
-            public boolean setInitParameter(String name, String value) {
-                return from.setInitParameter(name, value);
-            }
-
-            @Override
-            public String getInitParameter(String name) {
-                return from.getInitParameter(name);
-            }
-
-            @Override
-            public Set<String> setInitParameters(Map<String, String> initParameters) {
-                return from.setInitParameters(initParameters);
-            }
-
-            @Override
-            public Map<String, String> getInitParameters() {
-                return from.getInitParameters();
-            }
-        };
+        if (from instanceof JavaxRegistrationWrapper javax) {
+            return javax.toJakartaRegistration();
+        }
+        return new JakartaRegistrationWrapperImpl(from);
     }
 
     public static Registration fromJakartaRegistration(jakarta.servlet.Registration from) {
         Objects.requireNonNull(from);
-        return new Registration() {
-            @Override
-            public String getName() {
-                return from.getName();
-            }
-
-            @Override
-            public String getClassName() {
-                return from.getClassName();
-            }
-
-            @Override
-            public boolean setInitParameter(String name, String value) {
-                return from.setInitParameter(name, value);
-            }
-
-            @Override
-            public String getInitParameter(String name) {
-                return from.getInitParameter(name);
-            }
-
-            @Override
-            public Set<String> setInitParameters(Map<String, String> initParameters) {
-                return from.setInitParameters(initParameters);
-            }
-
-            @Override
-            public Map<String, String> getInitParameters() {
-                return from.getInitParameters();
-            }
-        };
+        if (from instanceof JakartaRegistrationWrapper jakarta) {
+            return jakarta.toJavaxRegistration();
+        }
+        return new JavaxRegistrationWrapperImpl(from);
+    }
+
+    public interface JakartaRegistrationWrapper {
+        Registration toJavaxRegistration();
+    }
+
+    private static final class JakartaRegistrationWrapperImpl
+            implements jakarta.servlet.Registration, JakartaRegistrationWrapper {
+        private final Registration from;
+
+        public JakartaRegistrationWrapperImpl(Registration from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public String getClassName() {
+            return from.getClassName();
+        }
+
+        @Override
+        public boolean setInitParameter(String name, String value) {
+            return from.setInitParameter(name, value);
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return from.getInitParameter(name);
+        }
+
+        @Override
+        public Set<String> setInitParameters(Map<String, String> initParameters) {
+            return from.setInitParameters(initParameters);
+        }
+
+        @Override
+        public Map<String, String> getInitParameters() {
+            return from.getInitParameters();
+        }
+
+        @Override
+        public Registration toJavaxRegistration() {
+            return from;
+        }
+    }
+
+    public interface JavaxRegistrationWrapper {
+        jakarta.servlet.Registration toJakartaRegistration();
+    }
+
+    private static final class JavaxRegistrationWrapperImpl implements Registration, JavaxRegistrationWrapper {
+        private final jakarta.servlet.Registration from;
+
+        public JavaxRegistrationWrapperImpl(jakarta.servlet.Registration from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public String getClassName() {
+            return from.getClassName();
+        }
+
+        @Override
+        public boolean setInitParameter(String name, String value) {
+            return from.setInitParameter(name, value);
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return from.getInitParameter(name);
+        }
+
+        @Override
+        public Set<String> setInitParameters(Map<String, String> initParameters) {
+            return from.setInitParameters(initParameters);
+        }
+
+        @Override
+        public Map<String, String> getInitParameters() {
+            return from.getInitParameters();
+        }
+
+        @Override
+        public jakarta.servlet.Registration toJakartaRegistration() {
+            return from;
+        }
     }
 }
@@ -14,95 +14,136 @@ import javax.servlet.http.HttpServletResponse;
 public class RequestDispatcherWrapper {
     public static jakarta.servlet.RequestDispatcher toJakartaRequestDispatcher(RequestDispatcher from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.RequestDispatcher() {
-            @Override
-            public void forward(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response)
-                    throws jakarta.servlet.ServletException, IOException {
-                try {
-                    if (request instanceof jakarta.servlet.http.HttpServletRequest
-                            && response instanceof jakarta.servlet.http.HttpServletResponse) {
-                        jakarta.servlet.http.HttpServletRequest httpRequest =
-                                (jakarta.servlet.http.HttpServletRequest) request;
-                        jakarta.servlet.http.HttpServletResponse httpResponse =
-                                (jakarta.servlet.http.HttpServletResponse) response;
-                        from.forward(
-                                HttpServletRequestWrapper.fromJakartaHttpServletRequest(httpRequest),
-                                HttpServletResponseWrapper.fromJakartaHttpServletResponse(httpResponse));
-                    } else {
-                        from.forward(
-                                io.jenkins.servlet.ServletRequestWrapper.fromJakartaServletRequest(request),
-                                ServletResponseWrapper.fromJakartaServletResponse(response));
-                    }
-                } catch (ServletException e) {
-                    throw ServletExceptionWrapper.toJakartaServletException(e);
+        if (from instanceof JavaxRequestDispatcherWrapper javax) {
+            return javax.toJakartaRequestDispatcher();
+        }
+        return new JakartaRequestDispatcherWrapperImpl(from);
+    }
+
+    public static RequestDispatcher fromJakartaRequestDispatcher(jakarta.servlet.RequestDispatcher from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaRequestDispatcherWrapper jakarta) {
+            return jakarta.toJavaxRequestDispatcher();
+        }
+        return new JavaxRequestDispatcherWrapperImpl(from);
+    }
+
+    public interface JakartaRequestDispatcherWrapper {
+        RequestDispatcher toJavaxRequestDispatcher();
+    }
+
+    private static final class JakartaRequestDispatcherWrapperImpl
+            implements jakarta.servlet.RequestDispatcher, JakartaRequestDispatcherWrapper {
+        private final RequestDispatcher from;
+
+        public JakartaRequestDispatcherWrapperImpl(RequestDispatcher from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void forward(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response)
+                throws jakarta.servlet.ServletException, IOException {
+            try {
+                if (request instanceof jakarta.servlet.http.HttpServletRequest
+                        && response instanceof jakarta.servlet.http.HttpServletResponse) {
+                    jakarta.servlet.http.HttpServletRequest httpRequest =
+                            (jakarta.servlet.http.HttpServletRequest) request;
+                    jakarta.servlet.http.HttpServletResponse httpResponse =
+                            (jakarta.servlet.http.HttpServletResponse) response;
+                    from.forward(
+                            HttpServletRequestWrapper.fromJakartaHttpServletRequest(httpRequest),
+                            HttpServletResponseWrapper.fromJakartaHttpServletResponse(httpResponse));
+                } else {
+                    from.forward(
+                            io.jenkins.servlet.ServletRequestWrapper.fromJakartaServletRequest(request),
+                            ServletResponseWrapper.fromJakartaServletResponse(response));
                 }
+            } catch (ServletException e) {
+                throw ServletExceptionWrapper.toJakartaServletException(e);
             }
+        }
 
-            @Override
-            public void include(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response)
-                    throws jakarta.servlet.ServletException, IOException {
-                try {
-                    if (request instanceof jakarta.servlet.http.HttpServletRequest
-                            && response instanceof jakarta.servlet.http.HttpServletResponse) {
-                        jakarta.servlet.http.HttpServletRequest httpRequest =
-                                (jakarta.servlet.http.HttpServletRequest) request;
-                        jakarta.servlet.http.HttpServletResponse httpResponse =
-                                (jakarta.servlet.http.HttpServletResponse) response;
-                        from.include(
-                                HttpServletRequestWrapper.fromJakartaHttpServletRequest(httpRequest),
-                                HttpServletResponseWrapper.fromJakartaHttpServletResponse(httpResponse));
-                    } else {
-                        from.include(
-                                ServletRequestWrapper.fromJakartaServletRequest(request),
-                                ServletResponseWrapper.fromJakartaServletResponse(response));
-                    }
-                } catch (ServletException e) {
-                    throw ServletExceptionWrapper.toJakartaServletException(e);
+        @Override
+        public void include(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response)
+                throws jakarta.servlet.ServletException, IOException {
+            try {
+                if (request instanceof jakarta.servlet.http.HttpServletRequest
+                        && response instanceof jakarta.servlet.http.HttpServletResponse) {
+                    jakarta.servlet.http.HttpServletRequest httpRequest =
+                            (jakarta.servlet.http.HttpServletRequest) request;
+                    jakarta.servlet.http.HttpServletResponse httpResponse =
+                            (jakarta.servlet.http.HttpServletResponse) response;
+                    from.include(
+                            HttpServletRequestWrapper.fromJakartaHttpServletRequest(httpRequest),
+                            HttpServletResponseWrapper.fromJakartaHttpServletResponse(httpResponse));
+                } else {
+                    from.include(
+                            ServletRequestWrapper.fromJakartaServletRequest(request),
+                            ServletResponseWrapper.fromJakartaServletResponse(response));
                 }
+            } catch (ServletException e) {
+                throw ServletExceptionWrapper.toJakartaServletException(e);
             }
-        };
+        }
+
+        @Override
+        public RequestDispatcher toJavaxRequestDispatcher() {
+            return from;
+        }
     }
 
-    public static RequestDispatcher fromJakartaRequestDispatcher(jakarta.servlet.RequestDispatcher from) {
-        Objects.requireNonNull(from);
-        return new RequestDispatcher() {
-            @Override
-            public void forward(ServletRequest request, ServletResponse response) throws ServletException, IOException {
-                try {
-                    if (request instanceof HttpServletRequest && response instanceof HttpServletResponse) {
-                        HttpServletRequest httpRequest = (HttpServletRequest) request;
-                        HttpServletResponse httpResponse = (HttpServletResponse) response;
-                        from.forward(
-                                HttpServletRequestWrapper.toJakartaHttpServletRequest(httpRequest),
-                                HttpServletResponseWrapper.toJakartaHttpServletResponse(httpResponse));
-                    } else {
-                        from.forward(
-                                io.jenkins.servlet.ServletRequestWrapper.toJakartaServletRequest(request),
-                                ServletResponseWrapper.toJakartaServletResponse(response));
-                    }
-                } catch (jakarta.servlet.ServletException e) {
-                    throw ServletExceptionWrapper.fromJakartaServletException(e);
+    public interface JavaxRequestDispatcherWrapper {
+        jakarta.servlet.RequestDispatcher toJakartaRequestDispatcher();
+    }
+
+    private static final class JavaxRequestDispatcherWrapperImpl implements RequestDispatcher, JavaxRequestDispatcherWrapper {
+        private final jakarta.servlet.RequestDispatcher from;
+
+        public JavaxRequestDispatcherWrapperImpl(jakarta.servlet.RequestDispatcher from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void forward(ServletRequest request, ServletResponse response) throws ServletException, IOException {
+            try {
+                if (request instanceof HttpServletRequest && response instanceof HttpServletResponse) {
+                    HttpServletRequest httpRequest = (HttpServletRequest) request;
+                    HttpServletResponse httpResponse = (HttpServletResponse) response;
+                    from.forward(
+                            HttpServletRequestWrapper.toJakartaHttpServletRequest(httpRequest),
+                            HttpServletResponseWrapper.toJakartaHttpServletResponse(httpResponse));
+                } else {
+                    from.forward(
+                            io.jenkins.servlet.ServletRequestWrapper.toJakartaServletRequest(request),
+                            ServletResponseWrapper.toJakartaServletResponse(response));
                 }
+            } catch (jakarta.servlet.ServletException e) {
+                throw ServletExceptionWrapper.fromJakartaServletException(e);
             }
+        }
 
-            @Override
-            public void include(ServletRequest request, ServletResponse response) throws ServletException, IOException {
-                try {
-                    if (request instanceof HttpServletRequest && response instanceof HttpServletResponse) {
-                        HttpServletRequest httpRequest = (HttpServletRequest) request;
-                        HttpServletResponse httpResponse = (HttpServletResponse) response;
-                        from.include(
-                                HttpServletRequestWrapper.toJakartaHttpServletRequest(httpRequest),
-                                HttpServletResponseWrapper.toJakartaHttpServletResponse(httpResponse));
-                    } else {
-                        from.include(
-                                io.jenkins.servlet.ServletRequestWrapper.toJakartaServletRequest(request),
-                                ServletResponseWrapper.toJakartaServletResponse(response));
-                    }
-                } catch (jakarta.servlet.ServletException e) {
-                    throw ServletExceptionWrapper.fromJakartaServletException(e);
+        @Override
+        public void include(ServletRequest request, ServletResponse response) throws ServletException, IOException {
+            try {
+                if (request instanceof HttpServletRequest && response instanceof HttpServletResponse) {
+                    HttpServletRequest httpRequest = (HttpServletRequest) request;
+                    HttpServletResponse httpResponse = (HttpServletResponse) response;
+                    from.include(
+                            HttpServletRequestWrapper.toJakartaHttpServletRequest(httpRequest),
+                            HttpServletResponseWrapper.toJakartaHttpServletResponse(httpResponse));
+                } else {
+                    from.include(
+                            io.jenkins.servlet.ServletRequestWrapper.toJakartaServletRequest(request),
+                            ServletResponseWrapper.toJakartaServletResponse(response));
                 }
+            } catch (jakarta.servlet.ServletException e) {
+                throw ServletExceptionWrapper.fromJakartaServletException(e);
             }
-        };
+        }
+
+        @Override
+        public jakarta.servlet.RequestDispatcher toJakartaRequestDispatcher() {
+            return from;
+        }
     }
 }
@@ -8,51 +8,92 @@ import javax.servlet.ServletContext;
 public class ServletConfigWrapper {
     public static jakarta.servlet.ServletConfig toJakartaServletConfig(ServletConfig from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.ServletConfig() {
-            @Override
-            public String getServletName() {
-                return from.getServletName();
-            }
-
-            @Override
-            public jakarta.servlet.ServletContext getServletContext() {
-                return ServletContextWrapper.toJakartaServletContext(from.getServletContext());
-            }
-
-            @Override
-            public String getInitParameter(String name) {
-                return from.getInitParameter(name);
-            }
-
-            @Override
-            public Enumeration<String> getInitParameterNames() {
-                return from.getInitParameterNames();
-            }
-        };
+        if (from instanceof JavaxServletConfigWrapper javax) {
+            return javax.toJakartaServletConfig();
+        }
+        return new JakartaServletConfigWrapperImpl(from);
     }
 
     public static ServletConfig fromJakartaServletConfig(jakarta.servlet.ServletConfig from) {
         Objects.requireNonNull(from);
-        return new ServletConfig() {
-            @Override
-            public String getServletName() {
-                return from.getServletName();
-            }
-
-            @Override
-            public ServletContext getServletContext() {
-                return ServletContextWrapper.fromJakartServletContext(from.getServletContext());
-            }
-
-            @Override
-            public String getInitParameter(String name) {
-                return from.getInitParameter(name);
-            }
-
-            @Override
-            public Enumeration<String> getInitParameterNames() {
-                return from.getInitParameterNames();
-            }
-        };
+        if (from instanceof JakartaServletConfigWrapper jakarta) {
+            return jakarta.toJavaxServletConfig();
+        }
+        return new JavaxServletConfigWrapperImpl(from);
+    }
+
+    public interface JakartaServletConfigWrapper {
+        ServletConfig toJavaxServletConfig();
+    }
+
+    private static final class JakartaServletConfigWrapperImpl
+            implements jakarta.servlet.ServletConfig, JakartaServletConfigWrapper {
+        private final ServletConfig from;
+
+        public JakartaServletConfigWrapperImpl(ServletConfig from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getServletName() {
+            return from.getServletName();
+        }
+
+        @Override
+        public jakarta.servlet.ServletContext getServletContext() {
+            return ServletContextWrapper.toJakartaServletContext(from.getServletContext());
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return from.getInitParameter(name);
+        }
+
+        @Override
+        public Enumeration<String> getInitParameterNames() {
+            return from.getInitParameterNames();
+        }
+
+        @Override
+        public ServletConfig toJavaxServletConfig() {
+            return from;
+        }
+    }
+
+    public interface JavaxServletConfigWrapper {
+        jakarta.servlet.ServletConfig toJakartaServletConfig();
+    }
+
+    private static final class JavaxServletConfigWrapperImpl implements ServletConfig, JavaxServletConfigWrapper {
+        private final jakarta.servlet.ServletConfig from;
+
+        public JavaxServletConfigWrapperImpl(jakarta.servlet.ServletConfig from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getServletName() {
+            return from.getServletName();
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            return ServletContextWrapper.fromJakartServletContext(from.getServletContext());
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return from.getInitParameter(name);
+        }
+
+        @Override
+        public Enumeration<String> getInitParameterNames() {
+            return from.getInitParameterNames();
+        }
+
+        @Override
+        public jakarta.servlet.ServletConfig toJakartaServletConfig() {
+            return from;
+        }
     }
 }
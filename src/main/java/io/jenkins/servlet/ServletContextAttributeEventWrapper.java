@@ -0,0 +1,133 @@
+package io.jenkins.servlet;
+
+import java.util.Objects;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletContextAttributeEvent;
+
+public class ServletContextAttributeEventWrapper {
+    public static jakarta.servlet.ServletContextAttributeEvent toJakartaServletContextAttributeEvent(
+            ServletContextAttributeEvent from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxServletContextAttributeEventWrapper javax) {
+            return javax.toJakartaServletContextAttributeEvent();
+        }
+        return new JakartaServletContextAttributeEventWrapperImpl(from);
+    }
+
+    public static ServletContextAttributeEvent fromJakartaServletContextAttributeEvent(
+            jakarta.servlet.ServletContextAttributeEvent from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaServletContextAttributeEventWrapper jakarta) {
+            return jakarta.toJavaxServletContextAttributeEvent();
+        }
+        return new JavaxServletContextAttributeEventWrapperImpl(from);
+    }
+
+    public interface JakartaServletContextAttributeEventWrapper {
+        ServletContextAttributeEvent toJavaxServletContextAttributeEvent();
+    }
+
+    private static final class JakartaServletContextAttributeEventWrapperImpl
+            extends jakarta.servlet.ServletContextAttributeEvent implements JakartaServletContextAttributeEventWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final transient ServletContextAttributeEvent from;
+        private transient jakarta.servlet.ServletContext context;
+
+        JakartaServletContextAttributeEventWrapperImpl(ServletContextAttributeEvent from) {
+            super(ServletContextEventWrapper.UNRESOLVED_JAKARTA_CONTEXT, null, null);
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public jakarta.servlet.ServletContext getServletContext() {
+            jakarta.servlet.ServletContext resolved = context;
+            if (resolved == null) {
+                resolved = ServletContextWrapper.toJakartaServletContext(from.getServletContext());
+                context = resolved;
+                source = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public Object getValue() {
+            return from.getValue();
+        }
+
+        @Override
+        public Object getSource() {
+            return getServletContext();
+        }
+
+        @Override
+        public String toString() {
+            getSource();
+            return super.toString();
+        }
+
+        @Override
+        public ServletContextAttributeEvent toJavaxServletContextAttributeEvent() {
+            return from;
+        }
+    }
+
+    public interface JavaxServletContextAttributeEventWrapper {
+        jakarta.servlet.ServletContextAttributeEvent toJakartaServletContextAttributeEvent();
+    }
+
+    private static final class JavaxServletContextAttributeEventWrapperImpl extends ServletContextAttributeEvent
+            implements JavaxServletContextAttributeEventWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final transient jakarta.servlet.ServletContextAttributeEvent from;
+        private transient ServletContext context;
+
+        JavaxServletContextAttributeEventWrapperImpl(jakarta.servlet.ServletContextAttributeEvent from) {
+            super(ServletContextEventWrapper.UNRESOLVED_CONTEXT, null, null);
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            ServletContext resolved = context;
+            if (resolved == null) {
+                resolved = ServletContextWrapper.fromJakartServletContext(from.getServletContext());
+                context = resolved;
+                source = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public Object getValue() {
+            return from.getValue();
+        }
+
+        @Override
+        public Object getSource() {
+            return getServletContext();
+        }
+
+        @Override
+        public String toString() {
+            getSource();
+            return super.toString();
+        }
+
+        @Override
+        public jakarta.servlet.ServletContextAttributeEvent toJakartaServletContextAttributeEvent() {
+            return from;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.jenkins.servlet;
+
+import java.util.Objects;
+import javax.servlet.ServletContextAttributeEvent;
+import javax.servlet.ServletContextAttributeListener;
+
+public class ServletContextAttributeListenerWrapper {
+    public static jakarta.servlet.ServletContextAttributeListener toJakartaServletContextAttributeListener(
+            ServletContextAttributeListener from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxServletContextAttributeListenerWrapper javax) {
+            return javax.toJakartaServletContextAttributeListener();
+        }
+        return new JakartaServletContextAttributeListenerWrapperImpl(from);
+    }
+
+    public static ServletContextAttributeListener fromJakartaServletContextAttributeListener(
+            jakarta.servlet.ServletContextAttributeListener from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaServletContextAttributeListenerWrapper jakarta) {
+            return jakarta.toJavaxServletContextAttributeListener();
+        }
+        return new JavaxServletContextAttributeListenerWrapperImpl(from);
+    }
+
+    public interface JakartaServletContextAttributeListenerWrapper {
+        ServletContextAttributeListener toJavaxServletContextAttributeListener();
+    }
+
+    private static final class JakartaServletContextAttributeListenerWrapperImpl
+            implements jakarta.servlet.ServletContextAttributeListener, JakartaServletContextAttributeListenerWrapper {
+        private final ServletContextAttributeListener from;
+
+        public JakartaServletContextAttributeListenerWrapperImpl(ServletContextAttributeListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void attributeAdded(jakarta.servlet.ServletContextAttributeEvent event) {
+            from.attributeAdded(ServletContextAttributeEventWrapper.fromJakartaServletContextAttributeEvent(event));
+        }
+
+        @Override
+        public void attributeRemoved(jakarta.servlet.ServletContextAttributeEvent event) {
+            from.attributeRemoved(ServletContextAttributeEventWrapper.fromJakartaServletContextAttributeEvent(event));
+        }
+
+        @Override
+        public void attributeReplaced(jakarta.servlet.ServletContextAttributeEvent event) {
+            from.attributeReplaced(ServletContextAttributeEventWrapper.fromJakartaServletContextAttributeEvent(event));
+        }
+
+        @Override
+        public ServletContextAttributeListener toJavaxServletContextAttributeListener() {
+            return from;
+        }
+    }
+
+    public interface JavaxServletContextAttributeListenerWrapper {
+        jakarta.servlet.ServletContextAttributeListener toJakartaServletContextAttributeListener();
+    }
+
+    private static final class JavaxServletContextAttributeListenerWrapperImpl
+            implements ServletContextAttributeListener, JavaxServletContextAttributeListenerWrapper {
+        private final jakarta.servlet.ServletContextAttributeListener from;
+
+        public JavaxServletContextAttributeListenerWrapperImpl(jakarta.servlet.ServletContextAttributeListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void attributeAdded(ServletContextAttributeEvent event) {
+            from.attributeAdded(ServletContextAttributeEventWrapper.toJakartaServletContextAttributeEvent(event));
+        }
+
+        @Override
+        public void attributeRemoved(ServletContextAttributeEvent event) {
+            from.attributeRemoved(ServletContextAttributeEventWrapper.toJakartaServletContextAttributeEvent(event));
+        }
+
+        @Override
+        public void attributeReplaced(ServletContextAttributeEvent event) {
+            from.attributeReplaced(ServletContextAttributeEventWrapper.toJakartaServletContextAttributeEvent(event));
+        }
+
+        @Override
+        public jakarta.servlet.ServletContextAttributeListener toJakartaServletContextAttributeListener() {
+            return from;
+        }
+    }
+}
@@ -1,17 +1,120 @@
 package io.jenkins.servlet;
 
 import java.util.Objects;
+import javax.servlet.ServletContext;
 import javax.servlet.ServletContextEvent;
 
+/**
+ * Adapts events delivered to bridged listeners. The context, request or session an event refers to is only adapted
+ * when the listener asks for it, so that a listener that looks at nothing but the attribute name, or ignores the event
+ * altogether, does not pay for it.
+ */
 public class ServletContextEventWrapper {
+    static final ServletContext UNRESOLVED_CONTEXT = EventListenerWrapper.unresolvedEventSource(ServletContext.class);
+    static final jakarta.servlet.ServletContext UNRESOLVED_JAKARTA_CONTEXT =
+            EventListenerWrapper.unresolvedEventSource(jakarta.servlet.ServletContext.class);
+
     public static jakarta.servlet.ServletContextEvent toJakartaServletContextEvent(ServletContextEvent from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.ServletContextEvent(
-                ServletContextWrapper.toJakartaServletContext(from.getServletContext()));
+        if (from instanceof JavaxServletContextEventWrapper javax) {
+            return javax.toJakartaServletContextEvent();
+        }
+        return new JakartaServletContextEventWrapperImpl(from);
     }
 
     public static ServletContextEvent fromJakartaServletContextEvent(jakarta.servlet.ServletContextEvent from) {
         Objects.requireNonNull(from);
-        return new ServletContextEvent(ServletContextWrapper.fromJakartServletContext(from.getServletContext()));
+        if (from instanceof JakartaServletContextEventWrapper jakarta) {
+            return jakarta.toJavaxServletContextEvent();
+        }
+        return new JavaxServletContextEventWrapperImpl(from);
+    }
+
+    public interface JakartaServletContextEventWrapper {
+        ServletContextEvent toJavaxServletContextEvent();
+    }
+
+    private static final class JakartaServletContextEventWrapperImpl extends jakarta.servlet.ServletContextEvent
+            implements JakartaServletContextEventWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final transient ServletContextEvent from;
+        private transient jakarta.servlet.ServletContext context;
+
+        JakartaServletContextEventWrapperImpl(ServletContextEvent from) {
+            super(UNRESOLVED_JAKARTA_CONTEXT);
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public jakarta.servlet.ServletContext getServletContext() {
+            jakarta.servlet.ServletContext resolved = context;
+            if (resolved == null) {
+                resolved = ServletContextWrapper.toJakartaServletContext(from.getServletContext());
+                context = resolved;
+                source = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public Object getSource() {
+            return getServletContext();
+        }
+
+        @Override
+        public String toString() {
+            getSource();
+            return super.toString();
+        }
+
+        @Override
+        public ServletContextEvent toJavaxServletContextEvent() {
+            return from;
+        }
+    }
+
+    public interface JavaxServletContextEventWrapper {
+        jakarta.servlet.ServletContextEvent toJakartaServletContextEvent();
+    }
+
+    private static final class JavaxServletContextEventWrapperImpl extends ServletContextEvent
+            implements JavaxServletContextEventWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final transient jakarta.servlet.ServletContextEvent from;
+        private transient ServletContext context;
+
+        JavaxServletContextEventWrapperImpl(jakarta.servlet.ServletContextEvent from) {
+            super(UNRESOLVED_CONTEXT);
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            ServletContext resolved = context;
+            if (resolved == null) {
+                resolved = ServletContextWrapper.fromJakartServletContext(from.getServletContext());
+                context = resolved;
+                source = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public Object getSource() {
+            return getServletContext();
+        }
+
+        @Override
+        public String toString() {
+            getSource();
+            return super.toString();
+        }
+
+        @Override
+        public jakarta.servlet.ServletContextEvent toJakartaServletContextEvent() {
+            return from;
+        }
     }
 }
@@ -0,0 +1,80 @@
+package io.jenkins.servlet;
+
+import java.util.Objects;
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+
+public class ServletContextListenerWrapper {
+    public static jakarta.servlet.ServletContextListener toJakartaServletContextListener(ServletContextListener from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxServletContextListenerWrapper javax) {
+            return javax.toJakartaServletContextListener();
+        }
+        return new JakartaServletContextListenerWrapperImpl(from);
+    }
+
+    public static ServletContextListener fromJakartaServletContextListener(
+            jakarta.servlet.ServletContextListener from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaServletContextListenerWrapper jakarta) {
+            return jakarta.toJavaxServletContextListener();
+        }
+        return new JavaxServletContextListenerWrapperImpl(from);
+    }
+
+    public interface JakartaServletContextListenerWrapper {
+        ServletContextListener toJavaxServletContextListener();
+    }
+
+    private static final class JakartaServletContextListenerWrapperImpl
+            implements jakarta.servlet.ServletContextListener, JakartaServletContextListenerWrapper {
+        private final ServletContextListener from;
+
+        public JakartaServletContextListenerWrapperImpl(ServletContextListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void contextInitialized(jakarta.servlet.ServletContextEvent event) {
+            from.contextInitialized(ServletContextEventWrapper.fromJakartaServletContextEvent(event));
+        }
+
+        @Override
+        public void contextDestroyed(jakarta.servlet.ServletContextEvent event) {
+            from.contextDestroyed(ServletContextEventWrapper.fromJakartaServletContextEvent(event));
+        }
+
+        @Override
+        public ServletContextListener toJavaxServletContextListener() {
+            return from;
+        }
+    }
+
+    public interface JavaxServletContextListenerWrapper {
+        jakarta.servlet.ServletContextListener toJakartaServletContextListener();
+    }
+
+    private static final class JavaxServletContextListenerWrapperImpl
+            implements ServletContextListener, JavaxServletContextListenerWrapper {
+        private final jakarta.servlet.ServletContextListener from;
+
+        public JavaxServletContextListenerWrapperImpl(jakarta.servlet.ServletContextListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void contextInitialized(ServletContextEvent event) {
+            from.contextInitialized(ServletContextEventWrapper.toJakartaServletContextEvent(event));
+        }
+
+        @Override
+        public void contextDestroyed(ServletContextEvent event) {
+            from.contextDestroyed(ServletContextEventWrapper.toJakartaServletContextEvent(event));
+        }
+
+        @Override
+        public jakarta.servlet.ServletContextListener toJakartaServletContextListener() {
+            return from;
+        }
+    }
+}
@@ -4,7 +4,6 @@ import io.jenkins.servlet.descriptor.JspConfigDescriptorWrapper;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.Collections;
 import java.util.Enumeration;
 import java.util.EventListener;
 import java.util.Map;
@@ -23,670 +22,753 @@ import javax.servlet.SessionTrackingMode;
 import javax.servlet.descriptor.JspConfigDescriptor;
 
 public class ServletContextWrapper {
-    public static jakarta.servlet.ServletContext toJakartaServletContext(ServletContext from) {
-        Objects.requireNonNull(from);
-        return new jakarta.servlet.ServletContext() {
-            @Override
-            public String getContextPath() {
-                return from.getContextPath();
-            }
-
-            @Override
-            public jakarta.servlet.ServletContext getContext(String uripath) {
-                return toJakartaServletContext(from.getContext(uripath));
-            }
-
-            @Override
-            public int getMajorVersion() {
-                return from.getMajorVersion();
-            }
-
-            @Override
-            public int getMinorVersion() {
-                return from.getMinorVersion();
-            }
-
-            @Override
-            public int getEffectiveMajorVersion() {
-                return from.getEffectiveMajorVersion();
-            }
-
-            @Override
-            public int getEffectiveMinorVersion() {
-                return from.getEffectiveMinorVersion();
-            }
-
-            @Override
-            public String getMimeType(String file) {
-                return from.getMimeType(file);
-            }
-
-            @Override
-            public Set<String> getResourcePaths(String paths) {
-                return from.getResourcePaths(paths);
-            }
-
-            @Override
-            public URL getResource(String path) throws MalformedURLException {
-                return from.getResource(path);
-            }
-
-            @Override
-            public InputStream getResourceAsStream(String path) {
-                return from.getResourceAsStream(path);
-            }
-
-            @Override
-            public jakarta.servlet.RequestDispatcher getRequestDispatcher(String path) {
-                return RequestDispatcherWrapper.toJakartaRequestDispatcher(from.getRequestDispatcher(path));
-            }
-
-            @Override
-            public jakarta.servlet.RequestDispatcher getNamedDispatcher(String path) {
-                return RequestDispatcherWrapper.toJakartaRequestDispatcher(from.getNamedDispatcher(path));
-            }
-
-            @Override
-            public jakarta.servlet.Servlet getServlet(String name) throws jakarta.servlet.ServletException {
-                try {
-                    return ServletWrapper.toJakartaServlet(from.getServlet(name));
-                } catch (ServletException e) {
-                    throw ServletExceptionWrapper.toJakartaServletException(e);
-                }
-            }
-
-            @Override
-            public Enumeration<jakarta.servlet.Servlet> getServlets() {
-                return Collections.enumeration(Collections.list(from.getServlets()).stream()
-                        .map(ServletWrapper::toJakartaServlet)
-                        .collect(Collectors.toList()));
-            }
-
-            @Override
-            public Enumeration<String> getServletNames() {
-                return from.getServletNames();
-            }
-
-            @Override
-            public void log(String msg) {
-                from.log(msg);
-            }
-
-            @Override
-            public void log(Exception exception, String msg) {
-                from.log(exception, msg);
-            }
-
-            @Override
-            public void log(String message, Throwable throwable) {
-                from.log(message, throwable);
-            }
-
-            @Override
-            public String getRealPath(String path) {
-                return from.getRealPath(path);
-            }
-
-            @Override
-            public String getServerInfo() {
-                return from.getServerInfo();
-            }
-
-            @Override
-            public String getInitParameter(String name) {
-                return from.getInitParameter(name);
-            }
-
-            @Override
-            public Enumeration<String> getInitParameterNames() {
-                return from.getInitParameterNames();
-            }
-
-            @Override
-            public boolean setInitParameter(String name, String value) {
-                return from.setInitParameter(name, value);
-            }
-
-            @Override
-            public Object getAttribute(String name) {
-                return from.getAttribute(name);
-            }
-
-            @Override
-            public Enumeration<String> getAttributeNames() {
-                return from.getAttributeNames();
-            }
-
-            @Override
-            public void setAttribute(String name, Object object) {
-                from.setAttribute(name, object);
-            }
-
-            @Override
-            public void removeAttribute(String name) {
-                from.removeAttribute(name);
-            }
-
-            @Override
-            public String getServletContextName() {
-                return from.getServletContextName();
-            }
-
-            @Override
-            public jakarta.servlet.ServletRegistration.Dynamic addServlet(String servletName, String className) {
-                return ServletRegistrationDynamicWrapper.toJakartaServletRegistrationDynamic(
-                        from.addServlet(servletName, className));
-            }
+    private static final WrapperCache<ServletContext, jakarta.servlet.ServletContext> JAKARTA_CONTEXTS =
+            new WrapperCache<>(JakartaServletContextWrapperImpl::new);
 
-            @Override
-            public jakarta.servlet.ServletRegistration.Dynamic addServlet(
-                    String servletName, jakarta.servlet.Servlet servlet) {
-                return ServletRegistrationDynamicWrapper.toJakartaServletRegistrationDynamic(
-                        from.addServlet(servletName, ServletWrapper.fromJakartaServlet(servlet)));
-            }
-
-            @Override
-            public jakarta.servlet.ServletRegistration.Dynamic addServlet(
-                    String servletName, Class<? extends jakarta.servlet.Servlet> servletClass) {
-                // TODO implement this
-                throw new UnsupportedOperationException();
-            }
-
-            @Override
-            public jakarta.servlet.ServletRegistration.Dynamic addJspFile(String servletName, String jspFile) {
-                return ServletRegistrationDynamicWrapper.toJakartaServletRegistrationDynamic(
-                        from.addJspFile(servletName, jspFile));
-            }
-
-            @Override
-            public <T extends jakarta.servlet.Servlet> T createServlet(Class<T> clazz) {
-                // TODO implement this
-                throw new UnsupportedOperationException();
-            }
-
-            @Override
-            public jakarta.servlet.ServletRegistration getServletRegistration(String servletName) {
-                return ServletRegistrationWrapper.toJakartaServletRegistration(
-                        from.getServletRegistration(servletName));
-            }
-
-            @Override
-            public Map<String, ? extends jakarta.servlet.ServletRegistration> getServletRegistrations() {
-                return from.getServletRegistrations().entrySet().stream()
-                        .collect(Collectors.toMap(
-                                Map.Entry::getKey,
-                                entry -> ServletRegistrationWrapper.toJakartaServletRegistration(entry.getValue())));
-            }
-
-            @Override
-            public jakarta.servlet.FilterRegistration.Dynamic addFilter(String filterName, String className) {
-                return FilterRegistrationDynamicWrapper.toJakartaFilterRegistrationDynamic(
-                        from.addFilter(filterName, className));
-            }
-
-            @Override
-            public jakarta.servlet.FilterRegistration.Dynamic addFilter(
-                    String filterName, jakarta.servlet.Filter filter) {
-                return FilterRegistrationDynamicWrapper.toJakartaFilterRegistrationDynamic(
-                        from.addFilter(filterName, FilterWrapper.fromJakartaFilter(filter)));
-            }
+    private static final WrapperCache<jakarta.servlet.ServletContext, ServletContext> JAVAX_CONTEXTS =
+            new WrapperCache<>(JavaxServletContextWrapperImpl::new);
 
-            @Override
-            public jakarta.servlet.FilterRegistration.Dynamic addFilter(
-                    String filterName, Class<? extends jakarta.servlet.Filter> filterClass) {
-                // TODO implement this
-                throw new UnsupportedOperationException();
-            }
-
-            @Override
-            public <T extends jakarta.servlet.Filter> T createFilter(Class<T> clazz) {
-                // TODO implement this
-                throw new UnsupportedOperationException();
-            }
-
-            @Override
-            public jakarta.servlet.FilterRegistration getFilterRegistration(String filterName) {
-                return FilterRegistrationWrapper.toJakartaFilterRegistration(from.getFilterRegistration(filterName));
-            }
-
-            @Override
-            public Map<String, ? extends jakarta.servlet.FilterRegistration> getFilterRegistrations() {
-                return from.getFilterRegistrations().entrySet().stream()
-                        .collect(Collectors.toMap(
-                                Map.Entry::getKey,
-                                entry -> FilterRegistrationWrapper.toJakartaFilterRegistration(entry.getValue())));
-            }
-
-            @Override
-            public jakarta.servlet.SessionCookieConfig getSessionCookieConfig() {
-                return SessionCookieConfigWrapper.toJakartaSessionCookieConfig(from.getSessionCookieConfig());
-            }
-
-            @Override
-            public void setSessionTrackingModes(Set<jakarta.servlet.SessionTrackingMode> sessionTrackingModes) {
-                from.setSessionTrackingModes(sessionTrackingModes.stream()
-                        .map(SessionTrackingModeWrapper::fromJakartaSessionTrackingMode)
-                        .collect(Collectors.toSet()));
-            }
-
-            @Override
-            public Set<jakarta.servlet.SessionTrackingMode> getDefaultSessionTrackingModes() {
-                return from.getDefaultSessionTrackingModes().stream()
-                        .map(SessionTrackingModeWrapper::toJakartaSessionTrackingMode)
-                        .collect(Collectors.toSet());
-            }
-
-            @Override
-            public Set<jakarta.servlet.SessionTrackingMode> getEffectiveSessionTrackingModes() {
-                return from.getEffectiveSessionTrackingModes().stream()
-                        .map(SessionTrackingModeWrapper::toJakartaSessionTrackingMode)
-                        .collect(Collectors.toSet());
-            }
-
-            @Override
-            public void addListener(String className) {
-                from.addListener(className);
-            }
-
-            @Override
-            public <T extends EventListener> void addListener(T t) {
-                from.addListener(t);
-            }
-
-            @Override
-            public void addListener(Class<? extends EventListener> listenerClass) {
-                from.addListener(listenerClass);
-            }
-
-            @Override
-            public <T extends EventListener> T createListener(Class<T> clazz) throws jakarta.servlet.ServletException {
-                try {
-                    return from.createListener(clazz);
-                } catch (ServletException e) {
-                    throw ServletExceptionWrapper.toJakartaServletException(e);
-                }
-            }
-
-            @Override
-            public jakarta.servlet.descriptor.JspConfigDescriptor getJspConfigDescriptor() {
-                return JspConfigDescriptorWrapper.toJakartaJspConfigDescriptor(from.getJspConfigDescriptor());
-            }
-
-            @Override
-            public ClassLoader getClassLoader() {
-                return from.getClassLoader();
-            }
-
-            @Override
-            public void declareRoles(String... roleNames) {
-                from.declareRoles(roleNames);
-            }
-
-            @Override
-            public String getVirtualServerName() {
-                return from.getVirtualServerName();
-            }
-
-            @Override
-            public int getSessionTimeout() {
-                return from.getSessionTimeout();
-            }
-
-            @Override
-            public void setSessionTimeout(int sessionTimeout) {
-                from.setSessionTimeout(sessionTimeout);
-            }
-
-            @Override
-            public String getRequestCharacterEncoding() {
-                return from.getRequestCharacterEncoding();
-            }
-
-            @Override
-            public void setRequestCharacterEncoding(String encoding) {
-                from.setRequestCharacterEncoding(encoding);
-            }
-
-            @Override
-            public String getResponseCharacterEncoding() {
-                return from.getResponseCharacterEncoding();
-            }
-
-            @Override
-            public void setResponseCharacterEncoding(String encoding) {
-                from.setResponseCharacterEncoding(encoding);
-            }
-        };
+    public static jakarta.servlet.ServletContext toJakartaServletContext(ServletContext from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxServletContextWrapper javax) {
+            return javax.toJakartaServletContext();
+        }
+        return JAKARTA_CONTEXTS.get(from);
     }
 
     public static ServletContext fromJakartServletContext(jakarta.servlet.ServletContext from) {
         Objects.requireNonNull(from);
-        return new ServletContext() {
-            @Override
-            public String getContextPath() {
-                return from.getContextPath();
-            }
-
-            @Override
-            public ServletContext getContext(String uripath) {
-                return fromJakartServletContext(from.getContext(uripath));
-            }
-
-            @Override
-            public int getMajorVersion() {
-                return from.getMajorVersion();
-            }
-
-            @Override
-            public int getMinorVersion() {
-                return from.getMinorVersion();
-            }
-
-            @Override
-            public int getEffectiveMajorVersion() {
-                return from.getEffectiveMajorVersion();
-            }
-
-            @Override
-            public int getEffectiveMinorVersion() {
-                return from.getEffectiveMinorVersion();
-            }
-
-            @Override
-            public String getMimeType(String file) {
-                return from.getMimeType(file);
-            }
-
-            @Override
-            public Set<String> getResourcePaths(String path) {
-                return from.getResourcePaths(path);
-            }
-
-            @Override
-            public URL getResource(String path) throws MalformedURLException {
-                return from.getResource(path);
-            }
-
-            @Override
-            public InputStream getResourceAsStream(String path) {
-                return from.getResourceAsStream(path);
-            }
-
-            @Override
-            public RequestDispatcher getRequestDispatcher(String path) {
-                return RequestDispatcherWrapper.fromJakartaRequestDispatcher(from.getRequestDispatcher(path));
-            }
-
-            @Override
-            public RequestDispatcher getNamedDispatcher(String name) {
-                return RequestDispatcherWrapper.fromJakartaRequestDispatcher(from.getNamedDispatcher(name));
-            }
-
-            @Override
-            public Servlet getServlet(String name) throws ServletException {
-                try {
-                    return ServletWrapper.fromJakartaServlet(from.getServlet(name));
-                } catch (jakarta.servlet.ServletException e) {
-                    throw ServletExceptionWrapper.fromJakartaServletException(e);
-                }
-            }
-
-            @Override
-            public Enumeration<Servlet> getServlets() {
-                return Collections.enumeration(Collections.list(from.getServlets()).stream()
-                        .map(ServletWrapper::fromJakartaServlet)
-                        .collect(Collectors.toList()));
-            }
-
-            @Override
-            public Enumeration<String> getServletNames() {
-                return from.getServletNames();
-            }
-
-            @Override
-            public void log(String msg) {
-                from.log(msg);
-            }
-
-            @Override
-            public void log(Exception exception, String msg) {
-                from.log(exception, msg);
-            }
-
-            @Override
-            public void log(String message, Throwable throwable) {
-                from.log(message, throwable);
-            }
-
-            @Override
-            public String getRealPath(String path) {
-                return from.getRealPath(path);
-            }
-
-            @Override
-            public String getServerInfo() {
-                return from.getServerInfo();
-            }
-
-            @Override
-            public String getInitParameter(String name) {
-                return from.getInitParameter(name);
-            }
-
-            @Override
-            public Enumeration<String> getInitParameterNames() {
-                return from.getInitParameterNames();
-            }
-
-            @Override
-            public boolean setInitParameter(String name, String value) {
-                return from.setInitParameter(name, value);
-            }
-
-            @Override
-            public Object getAttribute(String name) {
-                return from.getAttribute(name);
-            }
-
-            @Override
-            public Enumeration<String> getAttributeNames() {
-                return from.getAttributeNames();
-            }
-
-            @Override
-            public void setAttribute(String name, Object object) {
-                from.setAttribute(name, object);
-            }
-
-            @Override
-            public void removeAttribute(String name) {
-                from.removeAttribute(name);
-            }
-
-            @Override
-            public String getServletContextName() {
-                return from.getServletContextName();
-            }
-
-            @Override
-            public ServletRegistration.Dynamic addServlet(String servletName, String className) {
-                return ServletRegistrationDynamicWrapper.fromJakartaServletRegistrationDynamic(
-                        from.addServlet(servletName, className));
-            }
-
-            @Override
-            public ServletRegistration.Dynamic addServlet(String servletName, Servlet servlet) {
-                return ServletRegistrationDynamicWrapper.fromJakartaServletRegistrationDynamic(
-                        from.addServlet(servletName, ServletWrapper.toJakartaServlet(servlet)));
-            }
-
-            @Override
-            public ServletRegistration.Dynamic addServlet(String servletName, Class<? extends Servlet> servletClass) {
-                // TODO implement this
-                throw new UnsupportedOperationException();
-            }
-
-            @Override
-            public ServletRegistration.Dynamic addJspFile(String servletName, String jspFile) {
-                return ServletRegistrationDynamicWrapper.fromJakartaServletRegistrationDynamic(
-                        from.addJspFile(servletName, jspFile));
-            }
-
-            @Override
-            public <T extends Servlet> T createServlet(Class<T> clazz) {
-                // TODO implement this
-                throw new UnsupportedOperationException();
-            }
-
-            @Override
-            public ServletRegistration getServletRegistration(String servletName) {
-                return ServletRegistrationWrapper.fromJakartaServletRegistration(
-                        from.getServletRegistration(servletName));
-            }
-
-            @Override
-            public Map<String, ? extends ServletRegistration> getServletRegistrations() {
-                return from.getServletRegistrations().entrySet().stream()
-                        .collect(Collectors.toMap(
-                                Map.Entry::getKey,
-                                entry -> ServletRegistrationWrapper.fromJakartaServletRegistration(entry.getValue())));
-            }
-
-            @Override
-            public FilterRegistration.Dynamic addFilter(String filterName, String className) {
-                return FilterRegistrationDynamicWrapper.fromJakartaFilterRegistrationDynamic(
-                        from.addFilter(filterName, className));
-            }
-
-            @Override
-            public FilterRegistration.Dynamic addFilter(String filterName, Filter filter) {
-                return FilterRegistrationDynamicWrapper.fromJakartaFilterRegistrationDynamic(
-                        from.addFilter(filterName, FilterWrapper.toJakartaFilter(filter)));
-            }
-
-            @Override
-            public FilterRegistration.Dynamic addFilter(String filterName, Class<? extends Filter> filterClass) {
-                // TODO implement this
-                throw new UnsupportedOperationException();
-            }
-
-            @Override
-            public <T extends Filter> T createFilter(Class<T> clazz) {
-                // TODO implement this
-                throw new UnsupportedOperationException();
-            }
-
-            @Override
-            public FilterRegistration getFilterRegistration(String filterName) {
-                return FilterRegistrationWrapper.fromJakartaFilterRegistration(from.getFilterRegistration(filterName));
-            }
-
-            @Override
-            public Map<String, ? extends FilterRegistration> getFilterRegistrations() {
-                return from.getFilterRegistrations().entrySet().stream()
-                        .collect(Collectors.toMap(
-                                Map.Entry::getKey,
-                                entry -> FilterRegistrationWrapper.fromJakartaFilterRegistration(entry.getValue())));
-            }
-
-            @Override
-            public SessionCookieConfig getSessionCookieConfig() {
-                return SessionCookieConfigWrapper.fromJakartaSessionCookieConfig(from.getSessionCookieConfig());
-            }
-
-            @Override
-            public void setSessionTrackingModes(Set<SessionTrackingMode> sessionTrackingModes) {
-                from.setSessionTrackingModes(sessionTrackingModes.stream()
-                        .map(SessionTrackingModeWrapper::toJakartaSessionTrackingMode)
-                        .collect(Collectors.toSet()));
-            }
+        if (from instanceof JakartaServletContextWrapper jakarta) {
+            return jakarta.toJavaxServletContext();
+        }
+        return JAVAX_CONTEXTS.get(from);
+    }
 
-            @Override
-            public Set<SessionTrackingMode> getDefaultSessionTrackingModes() {
-                return from.getDefaultSessionTrackingModes().stream()
-                        .map(SessionTrackingModeWrapper::fromJakartaSessionTrackingMode)
-                        .collect(Collectors.toSet());
-            }
+    /*
+     * A class registered by name is loaded here, so that classes of the other API can be adapted through the
+     * registration by class. Classes of the container's own API, and names that cannot be loaded here, are passed to
+     * the container by name, which leaves instantiation and error reporting to it.
+     */
+    private static Class<?> loadClass(ClassLoader loader, String className) {
+        if (className == null) {
+            return null;
+        }
+        try {
+            return Class.forName(
+                    className, false, loader != null ? loader : ServletContextWrapper.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
 
-            @Override
-            public Set<SessionTrackingMode> getEffectiveSessionTrackingModes() {
-                return from.getEffectiveSessionTrackingModes().stream()
-                        .map(SessionTrackingModeWrapper::fromJakartaSessionTrackingMode)
-                        .collect(Collectors.toSet());
-            }
+    public interface JakartaServletContextWrapper {
+        ServletContext toJavaxServletContext();
+    }
 
-            @Override
-            public void addListener(String className) {
+    private static final class JakartaServletContextWrapperImpl
+            implements jakarta.servlet.ServletContext, JakartaServletContextWrapper {
+        private final ServletContext from;
+
+        public JakartaServletContextWrapperImpl(ServletContext from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getContextPath() {
+            return from.getContextPath();
+        }
+
+        @Override
+        public jakarta.servlet.ServletContext getContext(String uripath) {
+            return toJakartaServletContext(from.getContext(uripath));
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return from.getMajorVersion();
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return from.getMinorVersion();
+        }
+
+        @Override
+        public int getEffectiveMajorVersion() {
+            return from.getEffectiveMajorVersion();
+        }
+
+        @Override
+        public int getEffectiveMinorVersion() {
+            return from.getEffectiveMinorVersion();
+        }
+
+        @Override
+        public String getMimeType(String file) {
+            return from.getMimeType(file);
+        }
+
+        @Override
+        public Set<String> getResourcePaths(String paths) {
+            return from.getResourcePaths(paths);
+        }
+
+        @Override
+        public URL getResource(String path) throws MalformedURLException {
+            return from.getResource(path);
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String path) {
+            return from.getResourceAsStream(path);
+        }
+
+        @Override
+        public jakarta.servlet.RequestDispatcher getRequestDispatcher(String path) {
+            return RequestDispatcherWrapper.toJakartaRequestDispatcher(from.getRequestDispatcher(path));
+        }
+
+        @Override
+        public jakarta.servlet.RequestDispatcher getNamedDispatcher(String path) {
+            return RequestDispatcherWrapper.toJakartaRequestDispatcher(from.getNamedDispatcher(path));
+        }
+
+        @Override
+        public jakarta.servlet.Servlet getServlet(String name) throws jakarta.servlet.ServletException {
+            try {
+                return ServletWrapper.toJakartaServlet(from.getServlet(name));
+            } catch (ServletException e) {
+                throw ServletExceptionWrapper.toJakartaServletException(e);
+            }
+        }
+
+        @Override
+        public Enumeration<jakarta.servlet.Servlet> getServlets() {
+            // single pass, converting each servlet as the caller reaches it
+            return WrapperViews.enumeration(from.getServlets(), ServletWrapper::toJakartaServlet);
+        }
+
+        @Override
+        public Enumeration<String> getServletNames() {
+            return from.getServletNames();
+        }
+
+        @Override
+        public void log(String msg) {
+            from.log(msg);
+        }
+
+        @Override
+        public void log(Exception exception, String msg) {
+            from.log(exception, msg);
+        }
+
+        @Override
+        public void log(String message, Throwable throwable) {
+            from.log(message, throwable);
+        }
+
+        @Override
+        public String getRealPath(String path) {
+            return from.getRealPath(path);
+        }
+
+        @Override
+        public String getServerInfo() {
+            return from.getServerInfo();
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return from.getInitParameter(name);
+        }
+
+        @Override
+        public Enumeration<String> getInitParameterNames() {
+            return from.getInitParameterNames();
+        }
+
+        @Override
+        public boolean setInitParameter(String name, String value) {
+            return from.setInitParameter(name, value);
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return from.getAttribute(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            return from.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String name, Object object) {
+            from.setAttribute(name, object);
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            from.removeAttribute(name);
+        }
+
+        @Override
+        public String getServletContextName() {
+            return from.getServletContextName();
+        }
+
+        @Override
+        public jakarta.servlet.ServletRegistration.Dynamic addServlet(String servletName, String className) {
+            Class<?> servletClass = loadClass(from.getClassLoader(), className);
+            if (servletClass != null && jakarta.servlet.Servlet.class.isAssignableFrom(servletClass)) {
+                return addServlet(servletName, servletClass.asSubclass(jakarta.servlet.Servlet.class));
+            }
+            return ServletRegistrationDynamicWrapper.toJakartaServletRegistrationDynamic(
+                    from.addServlet(servletName, className));
+        }
+
+        @Override
+        public jakarta.servlet.ServletRegistration.Dynamic addServlet(
+                String servletName, jakarta.servlet.Servlet servlet) {
+            return ServletRegistrationDynamicWrapper.toJakartaServletRegistrationDynamic(
+                    from.addServlet(servletName, ServletWrapper.fromJakartaServlet(servlet)));
+        }
+
+        @Override
+        public jakarta.servlet.ServletRegistration.Dynamic addServlet(
+                String servletName, Class<? extends jakarta.servlet.Servlet> servletClass) {
+            jakarta.servlet.Servlet servlet = InstanceFactory.newInstance(servletClass, IllegalArgumentException::new);
+            return addServlet(servletName, servlet);
+        }
+
+        @Override
+        public jakarta.servlet.ServletRegistration.Dynamic addJspFile(String servletName, String jspFile) {
+            return ServletRegistrationDynamicWrapper.toJakartaServletRegistrationDynamic(
+                    from.addJspFile(servletName, jspFile));
+        }
+
+        @Override
+        public <T extends jakarta.servlet.Servlet> T createServlet(Class<T> clazz)
+                throws jakarta.servlet.ServletException {
+            // the container can only create javax servlets, so this one is not container-managed
+            return InstanceFactory.newInstance(clazz, jakarta.servlet.ServletException::new);
+        }
+
+        @Override
+        public jakarta.servlet.ServletRegistration getServletRegistration(String servletName) {
+            return ServletRegistrationWrapper.toJakartaServletRegistration(from.getServletRegistration(servletName));
+        }
+
+        @Override
+        public Map<String, ? extends jakarta.servlet.ServletRegistration> getServletRegistrations() {
+            return WrapperViews.map(
+                    from.getServletRegistrations(), ServletRegistrationWrapper::toJakartaServletRegistration);
+        }
+
+        @Override
+        public jakarta.servlet.FilterRegistration.Dynamic addFilter(String filterName, String className) {
+            Class<?> filterClass = loadClass(from.getClassLoader(), className);
+            if (filterClass != null && jakarta.servlet.Filter.class.isAssignableFrom(filterClass)) {
+                return addFilter(filterName, filterClass.asSubclass(jakarta.servlet.Filter.class));
+            }
+            return FilterRegistrationDynamicWrapper.toJakartaFilterRegistrationDynamic(
+                    from.addFilter(filterName, className));
+        }
+
+        @Override
+        public jakarta.servlet.FilterRegistration.Dynamic addFilter(String filterName, jakarta.servlet.Filter filter) {
+            return FilterRegistrationDynamicWrapper.toJakartaFilterRegistrationDynamic(
+                    from.addFilter(filterName, FilterWrapper.fromJakartaFilter(filter)));
+        }
+
+        @Override
+        public jakarta.servlet.FilterRegistration.Dynamic addFilter(
+                String filterName, Class<? extends jakarta.servlet.Filter> filterClass) {
+            jakarta.servlet.Filter filter = InstanceFactory.newInstance(filterClass, IllegalArgumentException::new);
+            return addFilter(filterName, filter);
+        }
+
+        @Override
+        public <T extends jakarta.servlet.Filter> T createFilter(Class<T> clazz)
+                throws jakarta.servlet.ServletException {
+            // the container can only create javax filters, so this one is not container-managed
+            return InstanceFactory.newInstance(clazz, jakarta.servlet.ServletException::new);
+        }
+
+        @Override
+        public jakarta.servlet.FilterRegistration getFilterRegistration(String filterName) {
+            return FilterRegistrationWrapper.toJakartaFilterRegistration(from.getFilterRegistration(filterName));
+        }
+
+        @Override
+        public Map<String, ? extends jakarta.servlet.FilterRegistration> getFilterRegistrations() {
+            return WrapperViews.map(
+                    from.getFilterRegistrations(), FilterRegistrationWrapper::toJakartaFilterRegistration);
+        }
+
+        @Override
+        public jakarta.servlet.SessionCookieConfig getSessionCookieConfig() {
+            return SessionCookieConfigWrapper.toJakartaSessionCookieConfig(from.getSessionCookieConfig());
+        }
+
+        @Override
+        public void setSessionTrackingModes(Set<jakarta.servlet.SessionTrackingMode> sessionTrackingModes) {
+            from.setSessionTrackingModes(sessionTrackingModes.stream()
+                    .map(SessionTrackingModeWrapper::fromJakartaSessionTrackingMode)
+                    .collect(Collectors.toSet()));
+        }
+
+        @Override
+        public Set<jakarta.servlet.SessionTrackingMode> getDefaultSessionTrackingModes() {
+            return from.getDefaultSessionTrackingModes().stream()
+                    .map(SessionTrackingModeWrapper::toJakartaSessionTrackingMode)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public Set<jakarta.servlet.SessionTrackingMode> getEffectiveSessionTrackingModes() {
+            return from.getEffectiveSessionTrackingModes().stream()
+                    .map(SessionTrackingModeWrapper::toJakartaSessionTrackingMode)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public void addListener(String className) {
+            Class<?> listenerClass = loadClass(from.getClassLoader(), className);
+            if (listenerClass != null && EventListenerWrapper.isJakartaEventListenerType(listenerClass)) {
+                addListener(listenerClass.asSubclass(EventListener.class));
+            } else {
                 from.addListener(className);
             }
+        }
+
+        @Override
+        public <T extends EventListener> void addListener(T t) {
+            for (EventListener listener : EventListenerWrapper.fromJakartaEventListeners(t)) {
+                from.addListener(listener);
+            }
+        }
+
+        @Override
+        public void addListener(Class<? extends EventListener> listenerClass) {
+            EventListenerWrapper.checkJakartaEventListenerType(listenerClass);
+            addListener(InstanceFactory.newInstance(listenerClass, IllegalArgumentException::new));
+        }
+
+        @Override
+        public <T extends EventListener> T createListener(Class<T> clazz) throws jakarta.servlet.ServletException {
+            // the container instantiates the class, with whatever injection it supports
+            try {
+                return from.createListener(clazz);
+            } catch (ServletException e) {
+                throw ServletExceptionWrapper.toJakartaServletException(e);
+            }
+        }
+
+        @Override
+        public jakarta.servlet.descriptor.JspConfigDescriptor getJspConfigDescriptor() {
+            return JspConfigDescriptorWrapper.toJakartaJspConfigDescriptor(from.getJspConfigDescriptor());
+        }
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return from.getClassLoader();
+        }
+
+        @Override
+        public void declareRoles(String... roleNames) {
+            from.declareRoles(roleNames);
+        }
+
+        @Override
+        public String getVirtualServerName() {
+            return from.getVirtualServerName();
+        }
+
+        @Override
+        public int getSessionTimeout() {
+            return from.getSessionTimeout();
+        }
+
+        @Override
+        public void setSessionTimeout(int sessionTimeout) {
+            from.setSessionTimeout(sessionTimeout);
+        }
+
+        @Override
+        public String getRequestCharacterEncoding() {
+            return from.getRequestCharacterEncoding();
+        }
+
+        @Override
+        public void setRequestCharacterEncoding(String encoding) {
+            from.setRequestCharacterEncoding(encoding);
+        }
+
+        @Override
+        public String getResponseCharacterEncoding() {
+            return from.getResponseCharacterEncoding();
+        }
+
+        @Override
+        public void setResponseCharacterEncoding(String encoding) {
+            from.setResponseCharacterEncoding(encoding);
+        }
+
+        @Override
+        public ServletContext toJavaxServletContext() {
+            return from;
+        }
+    }
 
-            @Override
-            public <T extends EventListener> void addListener(T t) {
-                // TODO implement this
-                throw new UnsupportedOperationException();
-            }
-
-            @Override
-            public void addListener(Class<? extends EventListener> listenerClass) {
-                // TODO implement this
-                throw new UnsupportedOperationException();
-            }
-
-            @Override
-            public <T extends EventListener> T createListener(Class<T> clazz) {
-                // TODO implement this
-                throw new UnsupportedOperationException();
-            }
-
-            @Override
-            public JspConfigDescriptor getJspConfigDescriptor() {
-                return JspConfigDescriptorWrapper.fromJakartaJspConfigDescriptor(from.getJspConfigDescriptor());
-            }
-
-            @Override
-            public ClassLoader getClassLoader() {
-                return from.getClassLoader();
-            }
-
-            @Override
-            public void declareRoles(String... roleNames) {
-                from.declareRoles(roleNames);
-            }
-
-            @Override
-            public String getVirtualServerName() {
-                return from.getVirtualServerName();
-            }
-
-            @Override
-            public int getSessionTimeout() {
-                return from.getSessionTimeout();
-            }
-
-            @Override
-            public void setSessionTimeout(int sessionTimeout) {
-                from.setSessionTimeout(sessionTimeout);
-            }
-
-            @Override
-            public String getRequestCharacterEncoding() {
-                return from.getRequestCharacterEncoding();
-            }
-
-            @Override
-            public void setRequestCharacterEncoding(String encoding) {
-                from.setRequestCharacterEncoding(encoding);
-            }
-
-            @Override
-            public String getResponseCharacterEncoding() {
-                return from.getResponseCharacterEncoding();
-            }
+    public interface JavaxServletContextWrapper {
+        jakarta.servlet.ServletContext toJakartaServletContext();
+    }
 
-            @Override
-            public void setResponseCharacterEncoding(String encoding) {
-                from.setResponseCharacterEncoding(encoding);
+    private static final class JavaxServletContextWrapperImpl implements ServletContext, JavaxServletContextWrapper {
+        private final jakarta.servlet.ServletContext from;
+
+        public JavaxServletContextWrapperImpl(jakarta.servlet.ServletContext from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getContextPath() {
+            return from.getContextPath();
+        }
+
+        @Override
+        public ServletContext getContext(String uripath) {
+            return fromJakartServletContext(from.getContext(uripath));
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return from.getMajorVersion();
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return from.getMinorVersion();
+        }
+
+        @Override
+        public int getEffectiveMajorVersion() {
+            return from.getEffectiveMajorVersion();
+        }
+
+        @Override
+        public int getEffectiveMinorVersion() {
+            return from.getEffectiveMinorVersion();
+        }
+
+        @Override
+        public String getMimeType(String file) {
+            return from.getMimeType(file);
+        }
+
+        @Override
+        public Set<String> getResourcePaths(String path) {
+            return from.getResourcePaths(path);
+        }
+
+        @Override
+        public URL getResource(String path) throws MalformedURLException {
+            return from.getResource(path);
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String path) {
+            return from.getResourceAsStream(path);
+        }
+
+        @Override
+        public RequestDispatcher getRequestDispatcher(String path) {
+            return RequestDispatcherWrapper.fromJakartaRequestDispatcher(from.getRequestDispatcher(path));
+        }
+
+        @Override
+        public RequestDispatcher getNamedDispatcher(String name) {
+            return RequestDispatcherWrapper.fromJakartaRequestDispatcher(from.getNamedDispatcher(name));
+        }
+
+        @Override
+        public Servlet getServlet(String name) throws ServletException {
+            try {
+                return ServletWrapper.fromJakartaServlet(from.getServlet(name));
+            } catch (jakarta.servlet.ServletException e) {
+                throw ServletExceptionWrapper.fromJakartaServletException(e);
+            }
+        }
+
+        @Override
+        public Enumeration<Servlet> getServlets() {
+            // single pass, converting each servlet as the caller reaches it
+            return WrapperViews.enumeration(from.getServlets(), ServletWrapper::fromJakartaServlet);
+        }
+
+        @Override
+        public Enumeration<String> getServletNames() {
+            return from.getServletNames();
+        }
+
+        @Override
+        public void log(String msg) {
+            from.log(msg);
+        }
+
+        @Override
+        public void log(Exception exception, String msg) {
+            from.log(exception, msg);
+        }
+
+        @Override
+        public void log(String message, Throwable throwable) {
+            from.log(message, throwable);
+        }
+
+        @Override
+        public String getRealPath(String path) {
+            return from.getRealPath(path);
+        }
+
+        @Override
+        public String getServerInfo() {
+            return from.getServerInfo();
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return from.getInitParameter(name);
+        }
+
+        @Override
+        public Enumeration<String> getInitParameterNames() {
+            return from.getInitParameterNames();
+        }
+
+        @Override
+        public boolean setInitParameter(String name, String value) {
+            return from.setInitParameter(name, value);
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return from.getAttribute(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            return from.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String name, Object object) {
+            from.setAttribute(name, object);
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            from.removeAttribute(name);
+        }
+
+        @Override
+        public String getServletContextName() {
+            return from.getServletContextName();
+        }
+
+        @Override
+        public ServletRegistration.Dynamic addServlet(String servletName, String className) {
+            Class<?> servletClass = loadClass(from.getClassLoader(), className);
+            if (servletClass != null && Servlet.class.isAssignableFrom(servletClass)) {
+                return addServlet(servletName, servletClass.asSubclass(Servlet.class));
+            }
+            return ServletRegistrationDynamicWrapper.fromJakartaServletRegistrationDynamic(
+                    from.addServlet(servletName, className));
+        }
+
+        @Override
+        public ServletRegistration.Dynamic addServlet(String servletName, Servlet servlet) {
+            return ServletRegistrationDynamicWrapper.fromJakartaServletRegistrationDynamic(
+                    from.addServlet(servletName, ServletWrapper.toJakartaServlet(servlet)));
+        }
+
+        @Override
+        public ServletRegistration.Dynamic addServlet(String servletName, Class<? extends Servlet> servletClass) {
+            return addServlet(servletName, InstanceFactory.newInstance(servletClass, IllegalArgumentException::new));
+        }
+
+        @Override
+        public ServletRegistration.Dynamic addJspFile(String servletName, String jspFile) {
+            return ServletRegistrationDynamicWrapper.fromJakartaServletRegistrationDynamic(
+                    from.addJspFile(servletName, jspFile));
+        }
+
+        @Override
+        public <T extends Servlet> T createServlet(Class<T> clazz) throws ServletException {
+            // the container can only create Jakarta servlets, so this one is not container-managed
+            return InstanceFactory.newInstance(clazz, ServletException::new);
+        }
+
+        @Override
+        public ServletRegistration getServletRegistration(String servletName) {
+            return ServletRegistrationWrapper.fromJakartaServletRegistration(from.getServletRegistration(servletName));
+        }
+
+        @Override
+        public Map<String, ? extends ServletRegistration> getServletRegistrations() {
+            return WrapperViews.map(
+                    from.getServletRegistrations(), ServletRegistrationWrapper::fromJakartaServletRegistration);
+        }
+
+        @Override
+        public FilterRegistration.Dynamic addFilter(String filterName, String className) {
+            Class<?> filterClass = loadClass(from.getClassLoader(), className);
+            if (filterClass != null && Filter.class.isAssignableFrom(filterClass)) {
+                return addFilter(filterName, filterClass.asSubclass(Filter.class));
+            }
+            return FilterRegistrationDynamicWrapper.fromJakartaFilterRegistrationDynamic(
+                    from.addFilter(filterName, className));
+        }
+
+        @Override
+        public FilterRegistration.Dynamic addFilter(String filterName, Filter filter) {
+            return FilterRegistrationDynamicWrapper.fromJakartaFilterRegistrationDynamic(
+                    from.addFilter(filterName, FilterWrapper.toJakartaFilter(filter)));
+        }
+
+        @Override
+        public FilterRegistration.Dynamic addFilter(String filterName, Class<? extends Filter> filterClass) {
+            return addFilter(filterName, InstanceFactory.newInstance(filterClass, IllegalArgumentException::new));
+        }
+
+        @Override
+        public <T extends Filter> T createFilter(Class<T> clazz) throws ServletException {
+            // the container can only create Jakarta filters, so this one is not container-managed
+            return InstanceFactory.newInstance(clazz, ServletException::new);
+        }
+
+        @Override
+        public FilterRegistration getFilterRegistration(String filterName) {
+            return FilterRegistrationWrapper.fromJakartaFilterRegistration(from.getFilterRegistration(filterName));
+        }
+
+        @Override
+        public Map<String, ? extends FilterRegistration> getFilterRegistrations() {
+            return WrapperViews.map(
+                    from.getFilterRegistrations(), FilterRegistrationWrapper::fromJakartaFilterRegistration);
+        }
+
+        @Override
+        public SessionCookieConfig getSessionCookieConfig() {
+            return SessionCookieConfigWrapper.fromJakartaSessionCookieConfig(from.getSessionCookieConfig());
+        }
+
+        @Override
+        public void setSessionTrackingModes(Set<SessionTrackingMode> sessionTrackingModes) {
+            from.setSessionTrackingModes(sessionTrackingModes.stream()
+                    .map(SessionTrackingModeWrapper::toJakartaSessionTrackingMode)
+                    .collect(Collectors.toSet()));
+        }
+
+        @Override
+        public Set<SessionTrackingMode> getDefaultSessionTrackingModes() {
+            return from.getDefaultSessionTrackingModes().stream()
+                    .map(SessionTrackingModeWrapper::fromJakartaSessionTrackingMode)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public Set<SessionTrackingMode> getEffectiveSessionTrackingModes() {
+            return from.getEffectiveSessionTrackingModes().stream()
+                    .map(SessionTrackingModeWrapper::fromJakartaSessionTrackingMode)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public void addListener(String className) {
+            Class<?> listenerClass = loadClass(from.getClassLoader(), className);
+            if (listenerClass != null && EventListenerWrapper.isJavaxEventListenerType(listenerClass)) {
+                addListener(listenerClass.asSubclass(EventListener.class));
+            } else {
+                from.addListener(className);
             }
-        };
+        }
+
+        @Override
+        public <T extends EventListener> void addListener(T t) {
+            for (EventListener listener : EventListenerWrapper.toJakartaEventListeners(t)) {
+                from.addListener(listener);
+            }
+        }
+
+        @Override
+        public void addListener(Class<? extends EventListener> listenerClass) {
+            EventListenerWrapper.checkJavaxEventListenerType(listenerClass);
+            addListener(InstanceFactory.newInstance(listenerClass, IllegalArgumentException::new));
+        }
+
+        @Override
+        public <T extends EventListener> T createListener(Class<T> clazz) throws ServletException {
+            // the container would refuse a javax listener type, so this one is not container-managed
+            EventListenerWrapper.checkJavaxEventListenerType(clazz);
+            return InstanceFactory.newInstance(clazz, ServletException::new);
+        }
+
+        @Override
+        public JspConfigDescriptor getJspConfigDescriptor() {
+            return JspConfigDescriptorWrapper.fromJakartaJspConfigDescriptor(from.getJspConfigDescriptor());
+        }
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return from.getClassLoader();
+        }
+
+        @Override
+        public void declareRoles(String... roleNames) {
+            from.declareRoles(roleNames);
+        }
+
+        @Override
+        public String getVirtualServerName() {
+            return from.getVirtualServerName();
+        }
+
+        @Override
+        public int getSessionTimeout() {
+            return from.getSessionTimeout();
+        }
+
+        @Override
+        public void setSessionTimeout(int sessionTimeout) {
+            from.setSessionTimeout(sessionTimeout);
+        }
+
+        @Override
+        public String getRequestCharacterEncoding() {
+            return from.getRequestCharacterEncoding();
+        }
+
+        @Override
+        public void setRequestCharacterEncoding(String encoding) {
+            from.setRequestCharacterEncoding(encoding);
+        }
+
+        @Override
+        public String getResponseCharacterEncoding() {
+            return from.getResponseCharacterEncoding();
+        }
+
+        @Override
+        public void setResponseCharacterEncoding(String encoding) {
+            from.setResponseCharacterEncoding(encoding);
+        }
+
+        @Override
+        public jakarta.servlet.ServletContext toJakartaServletContext() {
+            return from;
+        }
     }
 }
@@ -1,16 +1,216 @@
 package io.jenkins.servlet;
 
 import java.util.Objects;
+import javax.servlet.Servlet;
 import javax.servlet.ServletException;
+import javax.servlet.UnavailableException;
 
 public class ServletExceptionWrapper {
     public static jakarta.servlet.ServletException toJakartaServletException(ServletException e) {
         Objects.requireNonNull(e);
-        return new jakarta.servlet.ServletException(e.toString(), e);
+        if (e instanceof JavaxServletExceptionWrapper javax) {
+            return javax.toJakartaServletException();
+        }
+        if (e instanceof UnavailableException unavailable) {
+            return new JakartaUnavailableExceptionWrapperImpl(unavailable);
+        }
+        return new JakartaServletExceptionWrapperImpl(e);
     }
 
     public static ServletException fromJakartaServletException(jakarta.servlet.ServletException e) {
         Objects.requireNonNull(e);
-        return new ServletException(e.toString(), e);
+        if (e instanceof JakartaServletExceptionWrapper jakarta) {
+            return jakarta.toJavaxServletException();
+        }
+        if (e instanceof jakarta.servlet.UnavailableException unavailable) {
+            return new JavaxUnavailableExceptionWrapperImpl(unavailable);
+        }
+        return new JavaxServletExceptionWrapperImpl(e);
+    }
+
+    public interface JakartaServletExceptionWrapper {
+        ServletException toJavaxServletException();
+    }
+
+    /*
+     * The exception adapters only exist to carry the original exception across the bridge, so they do not capture a
+     * stack trace of their own (the cause has the interesting one) and only format their message when asked.
+     */
+    private static final class JakartaServletExceptionWrapperImpl extends jakarta.servlet.ServletException
+            implements JakartaServletExceptionWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final ServletException from;
+
+        public JakartaServletExceptionWrapperImpl(ServletException from) {
+            super(null, Objects.requireNonNull(from));
+            this.from = from;
+        }
+
+        @Override
+        public String getMessage() {
+            return from.toString();
+        }
+
+        @Override
+        public String toString() {
+            return jakarta.servlet.ServletException.class.getName() + ": " + getMessage();
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+        @Override
+        public ServletException toJavaxServletException() {
+            return from;
+        }
+    }
+
+    private static final class JakartaUnavailableExceptionWrapperImpl extends jakarta.servlet.UnavailableException
+            implements JakartaServletExceptionWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final UnavailableException from;
+
+        public JakartaUnavailableExceptionWrapperImpl(UnavailableException from) {
+            super(null);
+            this.from = Objects.requireNonNull(from);
+            initCause(from);
+        }
+
+        @Override
+        public boolean isPermanent() {
+            return from.isPermanent();
+        }
+
+        @Override
+        @Deprecated
+        public jakarta.servlet.Servlet getServlet() {
+            Servlet servlet = from.getServlet();
+            return servlet != null ? ServletWrapper.toJakartaServlet(servlet) : null;
+        }
+
+        @Override
+        public int getUnavailableSeconds() {
+            return from.getUnavailableSeconds();
+        }
+
+        @Override
+        public String getMessage() {
+            return from.toString();
+        }
+
+        @Override
+        public String toString() {
+            return jakarta.servlet.UnavailableException.class.getName() + ": " + getMessage();
+        }
+
+        @Override
+        public Throwable getRootCause() {
+            return from;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+        @Override
+        public ServletException toJavaxServletException() {
+            return from;
+        }
+    }
+
+    public interface JavaxServletExceptionWrapper {
+        jakarta.servlet.ServletException toJakartaServletException();
+    }
+
+    private static final class JavaxServletExceptionWrapperImpl extends ServletException
+            implements JavaxServletExceptionWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final jakarta.servlet.ServletException from;
+
+        public JavaxServletExceptionWrapperImpl(jakarta.servlet.ServletException from) {
+            super(null, Objects.requireNonNull(from));
+            this.from = from;
+        }
+
+        @Override
+        public String getMessage() {
+            return from.toString();
+        }
+
+        @Override
+        public String toString() {
+            return ServletException.class.getName() + ": " + getMessage();
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+        @Override
+        public jakarta.servlet.ServletException toJakartaServletException() {
+            return from;
+        }
+    }
+
+    private static final class JavaxUnavailableExceptionWrapperImpl extends UnavailableException
+            implements JavaxServletExceptionWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final jakarta.servlet.UnavailableException from;
+
+        public JavaxUnavailableExceptionWrapperImpl(jakarta.servlet.UnavailableException from) {
+            super(null);
+            this.from = Objects.requireNonNull(from);
+            initCause(from);
+        }
+
+        @Override
+        public boolean isPermanent() {
+            return from.isPermanent();
+        }
+
+        @Override
+        @Deprecated
+        public Servlet getServlet() {
+            jakarta.servlet.Servlet servlet = from.getServlet();
+            return servlet != null ? ServletWrapper.fromJakartaServlet(servlet) : null;
+        }
+
+        @Override
+        public int getUnavailableSeconds() {
+            return from.getUnavailableSeconds();
+        }
+
+        @Override
+        public String getMessage() {
+            return from.toString();
+        }
+
+        @Override
+        public String toString() {
+            return UnavailableException.class.getName() + ": " + getMessage();
+        }
+
+        @Override
+        public Throwable getRootCause() {
+            return from;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+        @Override
+        public jakarta.servlet.ServletException toJakartaServletException() {
+            return from;
+        }
     }
 }
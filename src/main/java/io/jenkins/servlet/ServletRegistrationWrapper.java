@@ -4,106 +4,163 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import javax.servlet.Registration;
 import javax.servlet.ServletRegistration;
 
 public class ServletRegistrationWrapper {
     public static jakarta.servlet.ServletRegistration toJakartaServletRegistration(ServletRegistration from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.ServletRegistration() {
-            @Override
-            public String getName() {
-                return from.getName();
-            }
-
-            @Override
-            public String getClassName() {
-                return from.getClassName();
-            }
-
-            @Override
-            public boolean setInitParameter(String name, String value) {
-                return from.setInitParameter(name, value);
-            }
-
-            @Override
-            public String getInitParameter(String name) {
-                return from.getInitParameter(name);
-            }
-
-            @Override
-            public Set<String> setInitParameters(Map<String, String> initParameters) {
-                return from.setInitParameters(initParameters);
-            }
-
-            @Override
-            public Map<String, String> getInitParameters() {
-                return from.getInitParameters();
-            }
-
-            @Override
-            public Set<String> addMapping(String... urlPatterns) {
-                return from.addMapping(urlPatterns);
-            }
-
-            @Override
-            public Collection<String> getMappings() {
-                return from.getMappings();
-            }
-
-            @Override
-            public String getRunAsRole() {
-                return from.getRunAsRole();
-            }
-        };
+        if (from instanceof JavaxServletRegistrationWrapper javax) {
+            return javax.toJakartaServletRegistration();
+        }
+        return new JakartaServletRegistrationWrapperImpl(from);
     }
 
     public static ServletRegistration fromJakartaServletRegistration(jakarta.servlet.ServletRegistration from) {
         Objects.requireNonNull(from);
-        return new ServletRegistration() {
-            @Override
-            public String getName() {
-                return from.getName();
-            }
-
-            @Override
-            public String getClassName() {
-                return from.getClassName();
-            }
-
-            @Override
-            public boolean setInitParameter(String name, String value) {
-                return from.setInitParameter(name, value);
-            }
-
-            @Override
-            public String getInitParameter(String name) {
-                return from.getInitParameter(name);
-            }
-
-            @Override
-            public Set<String> setInitParameters(Map<String, String> initParameters) {
-                return from.setInitParameters(initParameters);
-            }
-
-            @Override
-            public Map<String, String> getInitParameters() {
-                return from.getInitParameters();
-            }
-
-            @Override
-            public Set<String> addMapping(String... urlPatterns) {
-                return from.addMapping(urlPatterns);
-            }
-
-            @Override
-            public Collection<String> getMappings() {
-                return from.getMappings();
-            }
-
-            @Override
-            public String getRunAsRole() {
-                return from.getRunAsRole();
-            }
-        };
+        if (from instanceof JakartaServletRegistrationWrapper jakarta) {
+            return jakarta.toJavaxServletRegistration();
+        }
+        return new JavaxServletRegistrationWrapperImpl(from);
+    }
+
+    public interface JakartaServletRegistrationWrapper {
+        ServletRegistration toJavaxServletRegistration();
+    }
+
+    private static final class JakartaServletRegistrationWrapperImpl
+            implements jakarta.servlet.ServletRegistration,
+                    JakartaServletRegistrationWrapper,
+                    RegistrationWrapper.JakartaRegistrationWrapper {
+        private final ServletRegistration from;
+
+        public JakartaServletRegistrationWrapperImpl(ServletRegistration from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public String getClassName() {
+            return from.getClassName();
+        }
+
+        @Override
+        public boolean setInitParameter(String name, String value) {
+            return from.setInitParameter(name, value);
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return from.getInitParameter(name);
+        }
+
+        @Override
+        public Set<String> setInitParameters(Map<String, String> initParameters) {
+            return from.setInitParameters(initParameters);
+        }
+
+        @Override
+        public Map<String, String> getInitParameters() {
+            return from.getInitParameters();
+        }
+
+        @Override
+        public Set<String> addMapping(String... urlPatterns) {
+            return from.addMapping(urlPatterns);
+        }
+
+        @Override
+        public Collection<String> getMappings() {
+            return from.getMappings();
+        }
+
+        @Override
+        public String getRunAsRole() {
+            return from.getRunAsRole();
+        }
+
+        @Override
+        public ServletRegistration toJavaxServletRegistration() {
+            return from;
+        }
+
+        @Override
+        public Registration toJavaxRegistration() {
+            return from;
+        }
+    }
+
+    public interface JavaxServletRegistrationWrapper {
+        jakarta.servlet.ServletRegistration toJakartaServletRegistration();
+    }
+
+    private static final class JavaxServletRegistrationWrapperImpl
+            implements ServletRegistration,
+                    JavaxServletRegistrationWrapper,
+                    RegistrationWrapper.JavaxRegistrationWrapper {
+        private final jakarta.servlet.ServletRegistration from;
+
+        public JavaxServletRegistrationWrapperImpl(jakarta.servlet.ServletRegistration from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public String getClassName() {
+            return from.getClassName();
+        }
+
+        @Override
+        public boolean setInitParameter(String name, String value) {
+            return from.setInitParameter(name, value);
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return from.getInitParameter(name);
+        }
+
+        @Override
+        public Set<String> setInitParameters(Map<String, String> initParameters) {
+            return from.setInitParameters(initParameters);
+        }
+
+        @Override
+        public Map<String, String> getInitParameters() {
+            return from.getInitParameters();
+        }
+
+        @Override
+        public Set<String> addMapping(String... urlPatterns) {
+            return from.addMapping(urlPatterns);
+        }
+
+        @Override
+        public Collection<String> getMappings() {
+            return from.getMappings();
+        }
+
+        @Override
+        public String getRunAsRole() {
+            return from.getRunAsRole();
+        }
+
+        @Override
+        public jakarta.servlet.ServletRegistration toJakartaServletRegistration() {
+            return from;
+        }
+
+        @Override
+        public jakarta.servlet.Registration toJakartaRegistration() {
+            return from;
+        }
     }
 }
@@ -0,0 +1,171 @@
+package io.jenkins.servlet;
+
+import io.jenkins.servlet.http.HttpServletRequestWrapper;
+import java.util.Objects;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletRequestAttributeEvent;
+import javax.servlet.http.HttpServletRequest;
+
+public class ServletRequestAttributeEventWrapper {
+    public static jakarta.servlet.ServletRequestAttributeEvent toJakartaServletRequestAttributeEvent(
+            ServletRequestAttributeEvent from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxServletRequestAttributeEventWrapper javax) {
+            return javax.toJakartaServletRequestAttributeEvent();
+        }
+        return new JakartaServletRequestAttributeEventWrapperImpl(from);
+    }
+
+    public static ServletRequestAttributeEvent fromJakartaServletRequestAttributeEvent(
+            jakarta.servlet.ServletRequestAttributeEvent from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaServletRequestAttributeEventWrapper jakarta) {
+            return jakarta.toJavaxServletRequestAttributeEvent();
+        }
+        return new JavaxServletRequestAttributeEventWrapperImpl(from);
+    }
+
+    public interface JakartaServletRequestAttributeEventWrapper {
+        ServletRequestAttributeEvent toJavaxServletRequestAttributeEvent();
+    }
+
+    private static final class JakartaServletRequestAttributeEventWrapperImpl
+            extends jakarta.servlet.ServletRequestAttributeEvent implements JakartaServletRequestAttributeEventWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final transient ServletRequestAttributeEvent from;
+        private transient jakarta.servlet.ServletContext context;
+        private transient jakarta.servlet.ServletRequest request;
+
+        JakartaServletRequestAttributeEventWrapperImpl(ServletRequestAttributeEvent from) {
+            super(ServletContextEventWrapper.UNRESOLVED_JAKARTA_CONTEXT, null, null, null);
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public jakarta.servlet.ServletContext getServletContext() {
+            jakarta.servlet.ServletContext resolved = context;
+            if (resolved == null) {
+                resolved = ServletContextWrapper.toJakartaServletContext(from.getServletContext());
+                context = resolved;
+                source = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public jakarta.servlet.ServletRequest getServletRequest() {
+            jakarta.servlet.ServletRequest resolved = this.request;
+            if (resolved == null) {
+                ServletRequest request = from.getServletRequest();
+                if (request == null) {
+                    return null;
+                }
+                resolved = request instanceof HttpServletRequest
+                        ? HttpServletRequestWrapper.toJakartaHttpServletRequest((HttpServletRequest) request)
+                        : ServletRequestWrapper.toJakartaServletRequest(request);
+                this.request = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public Object getValue() {
+            return from.getValue();
+        }
+
+        @Override
+        public Object getSource() {
+            return getServletContext();
+        }
+
+        @Override
+        public String toString() {
+            getSource();
+            return super.toString();
+        }
+
+        @Override
+        public ServletRequestAttributeEvent toJavaxServletRequestAttributeEvent() {
+            return from;
+        }
+    }
+
+    public interface JavaxServletRequestAttributeEventWrapper {
+        jakarta.servlet.ServletRequestAttributeEvent toJakartaServletRequestAttributeEvent();
+    }
+
+    private static final class JavaxServletRequestAttributeEventWrapperImpl extends ServletRequestAttributeEvent
+            implements JavaxServletRequestAttributeEventWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final transient jakarta.servlet.ServletRequestAttributeEvent from;
+        private transient ServletContext context;
+        private transient ServletRequest request;
+
+        JavaxServletRequestAttributeEventWrapperImpl(jakarta.servlet.ServletRequestAttributeEvent from) {
+            super(ServletContextEventWrapper.UNRESOLVED_CONTEXT, null, null, null);
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            ServletContext resolved = context;
+            if (resolved == null) {
+                resolved = ServletContextWrapper.fromJakartServletContext(from.getServletContext());
+                context = resolved;
+                source = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public ServletRequest getServletRequest() {
+            ServletRequest resolved = this.request;
+            if (resolved == null) {
+                jakarta.servlet.ServletRequest request = from.getServletRequest();
+                if (request == null) {
+                    return null;
+                }
+                resolved = request instanceof jakarta.servlet.http.HttpServletRequest
+                        ? HttpServletRequestWrapper.fromJakartaHttpServletRequest(
+                                (jakarta.servlet.http.HttpServletRequest) request)
+                        : ServletRequestWrapper.fromJakartaServletRequest(request);
+                this.request = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public Object getValue() {
+            return from.getValue();
+        }
+
+        @Override
+        public Object getSource() {
+            return getServletContext();
+        }
+
+        @Override
+        public String toString() {
+            getSource();
+            return super.toString();
+        }
+
+        @Override
+        public jakarta.servlet.ServletRequestAttributeEvent toJakartaServletRequestAttributeEvent() {
+            return from;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.jenkins.servlet;
+
+import java.util.Objects;
+import javax.servlet.ServletRequestAttributeEvent;
+import javax.servlet.ServletRequestAttributeListener;
+
+public class ServletRequestAttributeListenerWrapper {
+    public static jakarta.servlet.ServletRequestAttributeListener toJakartaServletRequestAttributeListener(
+            ServletRequestAttributeListener from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxServletRequestAttributeListenerWrapper javax) {
+            return javax.toJakartaServletRequestAttributeListener();
+        }
+        return new JakartaServletRequestAttributeListenerWrapperImpl(from);
+    }
+
+    public static ServletRequestAttributeListener fromJakartaServletRequestAttributeListener(
+            jakarta.servlet.ServletRequestAttributeListener from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaServletRequestAttributeListenerWrapper jakarta) {
+            return jakarta.toJavaxServletRequestAttributeListener();
+        }
+        return new JavaxServletRequestAttributeListenerWrapperImpl(from);
+    }
+
+    public interface JakartaServletRequestAttributeListenerWrapper {
+        ServletRequestAttributeListener toJavaxServletRequestAttributeListener();
+    }
+
+    private static final class JakartaServletRequestAttributeListenerWrapperImpl
+            implements jakarta.servlet.ServletRequestAttributeListener, JakartaServletRequestAttributeListenerWrapper {
+        private final ServletRequestAttributeListener from;
+
+        public JakartaServletRequestAttributeListenerWrapperImpl(ServletRequestAttributeListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void attributeAdded(jakarta.servlet.ServletRequestAttributeEvent event) {
+            from.attributeAdded(ServletRequestAttributeEventWrapper.fromJakartaServletRequestAttributeEvent(event));
+        }
+
+        @Override
+        public void attributeRemoved(jakarta.servlet.ServletRequestAttributeEvent event) {
+            from.attributeRemoved(ServletRequestAttributeEventWrapper.fromJakartaServletRequestAttributeEvent(event));
+        }
+
+        @Override
+        public void attributeReplaced(jakarta.servlet.ServletRequestAttributeEvent event) {
+            from.attributeReplaced(ServletRequestAttributeEventWrapper.fromJakartaServletRequestAttributeEvent(event));
+        }
+
+        @Override
+        public ServletRequestAttributeListener toJavaxServletRequestAttributeListener() {
+            return from;
+        }
+    }
+
+    public interface JavaxServletRequestAttributeListenerWrapper {
+        jakarta.servlet.ServletRequestAttributeListener toJakartaServletRequestAttributeListener();
+    }
+
+    private static final class JavaxServletRequestAttributeListenerWrapperImpl
+            implements ServletRequestAttributeListener, JavaxServletRequestAttributeListenerWrapper {
+        private final jakarta.servlet.ServletRequestAttributeListener from;
+
+        public JavaxServletRequestAttributeListenerWrapperImpl(jakarta.servlet.ServletRequestAttributeListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void attributeAdded(ServletRequestAttributeEvent event) {
+            from.attributeAdded(ServletRequestAttributeEventWrapper.toJakartaServletRequestAttributeEvent(event));
+        }
+
+        @Override
+        public void attributeRemoved(ServletRequestAttributeEvent event) {
+            from.attributeRemoved(ServletRequestAttributeEventWrapper.toJakartaServletRequestAttributeEvent(event));
+        }
+
+        @Override
+        public void attributeReplaced(ServletRequestAttributeEvent event) {
+            from.attributeReplaced(ServletRequestAttributeEventWrapper.toJakartaServletRequestAttributeEvent(event));
+        }
+
+        @Override
+        public jakarta.servlet.ServletRequestAttributeListener toJakartaServletRequestAttributeListener() {
+            return from;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.jenkins.servlet;
+
+import io.jenkins.servlet.http.HttpServletRequestWrapper;
+import java.util.Objects;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletRequestEvent;
+import javax.servlet.http.HttpServletRequest;
+
+public class ServletRequestEventWrapper {
+    public static jakarta.servlet.ServletRequestEvent toJakartaServletRequestEvent(ServletRequestEvent from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxServletRequestEventWrapper javax) {
+            return javax.toJakartaServletRequestEvent();
+        }
+        return new JakartaServletRequestEventWrapperImpl(from);
+    }
+
+    public static ServletRequestEvent fromJakartaServletRequestEvent(jakarta.servlet.ServletRequestEvent from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaServletRequestEventWrapper jakarta) {
+            return jakarta.toJavaxServletRequestEvent();
+        }
+        return new JavaxServletRequestEventWrapperImpl(from);
+    }
+
+    public interface JakartaServletRequestEventWrapper {
+        ServletRequestEvent toJavaxServletRequestEvent();
+    }
+
+    private static final class JakartaServletRequestEventWrapperImpl extends jakarta.servlet.ServletRequestEvent
+            implements JakartaServletRequestEventWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final transient ServletRequestEvent from;
+        private transient jakarta.servlet.ServletContext context;
+        private transient jakarta.servlet.ServletRequest request;
+
+        JakartaServletRequestEventWrapperImpl(ServletRequestEvent from) {
+            super(ServletContextEventWrapper.UNRESOLVED_JAKARTA_CONTEXT, null);
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public jakarta.servlet.ServletContext getServletContext() {
+            jakarta.servlet.ServletContext resolved = context;
+            if (resolved == null) {
+                resolved = ServletContextWrapper.toJakartaServletContext(from.getServletContext());
+                context = resolved;
+                source = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public jakarta.servlet.ServletRequest getServletRequest() {
+            jakarta.servlet.ServletRequest resolved = this.request;
+            if (resolved == null) {
+                ServletRequest request = from.getServletRequest();
+                if (request == null) {
+                    return null;
+                }
+                resolved = request instanceof HttpServletRequest
+                        ? HttpServletRequestWrapper.toJakartaHttpServletRequest((HttpServletRequest) request)
+                        : ServletRequestWrapper.toJakartaServletRequest(request);
+                this.request = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public Object getSource() {
+            return getServletContext();
+        }
+
+        @Override
+        public String toString() {
+            getSource();
+            return super.toString();
+        }
+
+        @Override
+        public ServletRequestEvent toJavaxServletRequestEvent() {
+            return from;
+        }
+    }
+
+    public interface JavaxServletRequestEventWrapper {
+        jakarta.servlet.ServletRequestEvent toJakartaServletRequestEvent();
+    }
+
+    private static final class JavaxServletRequestEventWrapperImpl extends ServletRequestEvent
+            implements JavaxServletRequestEventWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final transient jakarta.servlet.ServletRequestEvent from;
+        private transient ServletContext context;
+        private transient ServletRequest request;
+
+        JavaxServletRequestEventWrapperImpl(jakarta.servlet.ServletRequestEvent from) {
+            super(ServletContextEventWrapper.UNRESOLVED_CONTEXT, null);
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            ServletContext resolved = context;
+            if (resolved == null) {
+                resolved = ServletContextWrapper.fromJakartServletContext(from.getServletContext());
+                context = resolved;
+                source = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public ServletRequest getServletRequest() {
+            ServletRequest resolved = this.request;
+            if (resolved == null) {
+                jakarta.servlet.ServletRequest request = from.getServletRequest();
+                if (request == null) {
+                    return null;
+                }
+                resolved = request instanceof jakarta.servlet.http.HttpServletRequest
+                        ? HttpServletRequestWrapper.fromJakartaHttpServletRequest(
+                                (jakarta.servlet.http.HttpServletRequest) request)
+                        : ServletRequestWrapper.fromJakartaServletRequest(request);
+                this.request = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public Object getSource() {
+            return getServletContext();
+        }
+
+        @Override
+        public String toString() {
+            getSource();
+            return super.toString();
+        }
+
+        @Override
+        public jakarta.servlet.ServletRequestEvent toJakartaServletRequestEvent() {
+            return from;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.jenkins.servlet;
+
+import java.util.Objects;
+import javax.servlet.ServletRequestEvent;
+import javax.servlet.ServletRequestListener;
+
+public class ServletRequestListenerWrapper {
+    public static jakarta.servlet.ServletRequestListener toJakartaServletRequestListener(ServletRequestListener from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxServletRequestListenerWrapper javax) {
+            return javax.toJakartaServletRequestListener();
+        }
+        return new JakartaServletRequestListenerWrapperImpl(from);
+    }
+
+    public static ServletRequestListener fromJakartaServletRequestListener(
+            jakarta.servlet.ServletRequestListener from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaServletRequestListenerWrapper jakarta) {
+            return jakarta.toJavaxServletRequestListener();
+        }
+        return new JavaxServletRequestListenerWrapperImpl(from);
+    }
+
+    public interface JakartaServletRequestListenerWrapper {
+        ServletRequestListener toJavaxServletRequestListener();
+    }
+
+    private static final class JakartaServletRequestListenerWrapperImpl
+            implements jakarta.servlet.ServletRequestListener, JakartaServletRequestListenerWrapper {
+        private final ServletRequestListener from;
+
+        public JakartaServletRequestListenerWrapperImpl(ServletRequestListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void requestDestroyed(jakarta.servlet.ServletRequestEvent event) {
+            from.requestDestroyed(ServletRequestEventWrapper.fromJakartaServletRequestEvent(event));
+        }
+
+        @Override
+        public void requestInitialized(jakarta.servlet.ServletRequestEvent event) {
+            from.requestInitialized(ServletRequestEventWrapper.fromJakartaServletRequestEvent(event));
+        }
+
+        @Override
+        public ServletRequestListener toJavaxServletRequestListener() {
+            return from;
+        }
+    }
+
+    public interface JavaxServletRequestListenerWrapper {
+        jakarta.servlet.ServletRequestListener toJakartaServletRequestListener();
+    }
+
+    private static final class JavaxServletRequestListenerWrapperImpl
+            implements ServletRequestListener, JavaxServletRequestListenerWrapper {
+        private final jakarta.servlet.ServletRequestListener from;
+
+        public JavaxServletRequestListenerWrapperImpl(jakarta.servlet.ServletRequestListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void requestDestroyed(ServletRequestEvent event) {
+            from.requestDestroyed(ServletRequestEventWrapper.toJakartaServletRequestEvent(event));
+        }
+
+        @Override
+        public void requestInitialized(ServletRequestEvent event) {
+            from.requestInitialized(ServletRequestEventWrapper.toJakartaServletRequestEvent(event));
+        }
+
+        @Override
+        public jakarta.servlet.ServletRequestListener toJakartaServletRequestListener() {
+            return from;
+        }
+    }
+}
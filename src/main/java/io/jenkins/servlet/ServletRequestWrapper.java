@@ -34,7 +34,7 @@ public class ServletRequestWrapper {
         ServletRequest toJavaxServletRequest();
     }
 
-    private static class JakartaServletRequestWrapperImpl
+    private static final class JakartaServletRequestWrapperImpl
             implements jakarta.servlet.ServletRequest, JakartaServletRequestWrapper {
         private final ServletRequest from;
 
@@ -240,7 +240,7 @@ public class ServletRequestWrapper {
         jakarta.servlet.ServletRequest toJakartaServletRequest();
     }
 
-    private static class JavaxServletRequestWrapperImpl implements ServletRequest, JavaxServletRequestWrapper {
+    private static final class JavaxServletRequestWrapperImpl implements ServletRequest, JavaxServletRequestWrapper {
         private final jakarta.servlet.ServletRequest from;
 
         public JavaxServletRequestWrapperImpl(jakarta.servlet.ServletRequest from) {
@@ -26,7 +26,7 @@ public class ServletResponseWrapper {
         ServletResponse toJavaxServletResponse();
     }
 
-    private static class JakartaServletResponseWrapperImpl
+    private static final class JakartaServletResponseWrapperImpl
             implements jakarta.servlet.ServletResponse, JakartaServletResponseWrapper {
         private final ServletResponse from;
 
@@ -124,7 +124,7 @@ public class ServletResponseWrapper {
         jakarta.servlet.ServletResponse toJakartaServletResponse();
     }
 
-    private static class JavaxServletResponseWrapperImpl implements ServletResponse, JavaxServletResponseWrapper {
+    private static final class JavaxServletResponseWrapperImpl implements ServletResponse, JavaxServletResponseWrapper {
         private final jakarta.servlet.ServletResponse from;
 
         public JavaxServletResponseWrapperImpl(jakarta.servlet.ServletResponse from) {
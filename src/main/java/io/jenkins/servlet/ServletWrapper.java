@@ -15,101 +15,141 @@ import javax.servlet.http.HttpServletResponse;
 public class ServletWrapper {
     public static jakarta.servlet.Servlet toJakartaServlet(Servlet from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.Servlet() {
-            @Override
-            public void init(jakarta.servlet.ServletConfig config) throws jakarta.servlet.ServletException {
-                try {
-                    from.init(ServletConfigWrapper.fromJakartaServletConfig(config));
-                } catch (ServletException e) {
-                    throw ServletExceptionWrapper.toJakartaServletException(e);
-                }
-            }
+        if (from instanceof JavaxServletWrapper javax) {
+            return javax.toJakartaServlet();
+        }
+        return new JakartaServletWrapperImpl(from);
+    }
+
+    public static Servlet fromJakartaServlet(jakarta.servlet.Servlet from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaServletWrapper jakarta) {
+            return jakarta.toJavaxServlet();
+        }
+        return new JavaxServletWrapperImpl(from);
+    }
 
-            @Override
-            public jakarta.servlet.ServletConfig getServletConfig() {
-                return ServletConfigWrapper.toJakartaServletConfig(from.getServletConfig());
+    public interface JakartaServletWrapper {
+        Servlet toJavaxServlet();
+    }
+
+    private static final class JakartaServletWrapperImpl implements jakarta.servlet.Servlet, JakartaServletWrapper {
+        private final Servlet from;
+
+        public JakartaServletWrapperImpl(Servlet from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void init(jakarta.servlet.ServletConfig config) throws jakarta.servlet.ServletException {
+            try {
+                from.init(ServletConfigWrapper.fromJakartaServletConfig(config));
+            } catch (ServletException e) {
+                throw ServletExceptionWrapper.toJakartaServletException(e);
             }
+        }
+
+        @Override
+        public jakarta.servlet.ServletConfig getServletConfig() {
+            return ServletConfigWrapper.toJakartaServletConfig(from.getServletConfig());
+        }
 
-            @Override
-            public void service(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response)
-                    throws jakarta.servlet.ServletException, IOException {
-                try {
-                    if (request instanceof jakarta.servlet.http.HttpServletRequest
-                            && response instanceof jakarta.servlet.http.HttpServletResponse) {
-                        jakarta.servlet.http.HttpServletRequest httpRequest =
-                                (jakarta.servlet.http.HttpServletRequest) request;
-                        jakarta.servlet.http.HttpServletResponse httpResponse =
-                                (jakarta.servlet.http.HttpServletResponse) response;
-                        from.service(
-                                HttpServletRequestWrapper.fromJakartaHttpServletRequest(httpRequest),
-                                HttpServletResponseWrapper.fromJakartaHttpServletResponse(httpResponse));
-                    } else {
-                        from.service(
-                                ServletRequestWrapper.fromJakartaServletRequest(request),
-                                ServletResponseWrapper.fromJakartaServletResponse(response));
-                    }
-                } catch (ServletException e) {
-                    throw ServletExceptionWrapper.toJakartaServletException(e);
+        @Override
+        public void service(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response)
+                throws jakarta.servlet.ServletException, IOException {
+            try {
+                if (request instanceof jakarta.servlet.http.HttpServletRequest
+                        && response instanceof jakarta.servlet.http.HttpServletResponse) {
+                    jakarta.servlet.http.HttpServletRequest httpRequest =
+                            (jakarta.servlet.http.HttpServletRequest) request;
+                    jakarta.servlet.http.HttpServletResponse httpResponse =
+                            (jakarta.servlet.http.HttpServletResponse) response;
+                    from.service(
+                            HttpServletRequestWrapper.fromJakartaHttpServletRequest(httpRequest),
+                            HttpServletResponseWrapper.fromJakartaHttpServletResponse(httpResponse));
+                } else {
+                    from.service(
+                            ServletRequestWrapper.fromJakartaServletRequest(request),
+                            ServletResponseWrapper.fromJakartaServletResponse(response));
                 }
+            } catch (ServletException e) {
+                throw ServletExceptionWrapper.toJakartaServletException(e);
             }
+        }
 
-            @Override
-            public String getServletInfo() {
-                return from.getServletInfo();
-            }
+        @Override
+        public String getServletInfo() {
+            return from.getServletInfo();
+        }
 
-            @Override
-            public void destroy() {
-                from.destroy();
-            }
-        };
+        @Override
+        public void destroy() {
+            from.destroy();
+        }
+
+        @Override
+        public Servlet toJavaxServlet() {
+            return from;
+        }
     }
 
-    public static Servlet fromJakartaServlet(jakarta.servlet.Servlet from) {
-        Objects.requireNonNull(from);
-        return new Servlet() {
-            @Override
-            public void init(ServletConfig config) throws ServletException {
-                try {
-                    from.init(ServletConfigWrapper.toJakartaServletConfig(config));
-                } catch (jakarta.servlet.ServletException e) {
-                    throw ServletExceptionWrapper.fromJakartaServletException(e);
-                }
-            }
+    public interface JavaxServletWrapper {
+        jakarta.servlet.Servlet toJakartaServlet();
+    }
 
-            @Override
-            public ServletConfig getServletConfig() {
-                return ServletConfigWrapper.fromJakartaServletConfig(from.getServletConfig());
+    private static final class JavaxServletWrapperImpl implements Servlet, JavaxServletWrapper {
+        private final jakarta.servlet.Servlet from;
+
+        public JavaxServletWrapperImpl(jakarta.servlet.Servlet from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void init(ServletConfig config) throws ServletException {
+            try {
+                from.init(ServletConfigWrapper.toJakartaServletConfig(config));
+            } catch (jakarta.servlet.ServletException e) {
+                throw ServletExceptionWrapper.fromJakartaServletException(e);
             }
+        }
+
+        @Override
+        public ServletConfig getServletConfig() {
+            return ServletConfigWrapper.fromJakartaServletConfig(from.getServletConfig());
+        }
 
-            @Override
-            public void service(ServletRequest request, ServletResponse response) throws ServletException, IOException {
-                try {
-                    if (request instanceof HttpServletRequest && response instanceof HttpServletResponse) {
-                        HttpServletRequest httpRequest = (HttpServletRequest) request;
-                        HttpServletResponse httpResponse = (HttpServletResponse) response;
-                        from.service(
-                                HttpServletRequestWrapper.toJakartaHttpServletRequest(httpRequest),
-                                HttpServletResponseWrapper.toJakartaHttpServletResponse(httpResponse));
-                    } else {
-                        from.service(
-                                io.jenkins.servlet.ServletRequestWrapper.toJakartaServletRequest(request),
-                                ServletResponseWrapper.toJakartaServletResponse(response));
-                    }
-                } catch (jakarta.servlet.ServletException e) {
-                    throw ServletExceptionWrapper.fromJakartaServletException(e);
+        @Override
+        public void service(ServletRequest request, ServletResponse response) throws ServletException, IOException {
+            try {
+                if (request instanceof HttpServletRequest && response instanceof HttpServletResponse) {
+                    HttpServletRequest httpRequest = (HttpServletRequest) request;
+                    HttpServletResponse httpResponse = (HttpServletResponse) response;
+                    from.service(
+                            HttpServletRequestWrapper.toJakartaHttpServletRequest(httpRequest),
+                            HttpServletResponseWrapper.toJakartaHttpServletResponse(httpResponse));
+                } else {
+                    from.service(
+                            io.jenkins.servlet.ServletRequestWrapper.toJakartaServletRequest(request),
+                            ServletResponseWrapper.toJakartaServletResponse(response));
                 }
+            } catch (jakarta.servlet.ServletException e) {
+                throw ServletExceptionWrapper.fromJakartaServletException(e);
             }
+        }
 
-            @Override
-            public String getServletInfo() {
-                return from.getServletInfo();
-            }
+        @Override
+        public String getServletInfo() {
+            return from.getServletInfo();
+        }
 
-            @Override
-            public void destroy() {
-                from.destroy();
-            }
-        };
+        @Override
+        public void destroy() {
+            from.destroy();
+        }
+
+        @Override
+        public jakarta.servlet.Servlet toJakartaServlet() {
+            return from;
+        }
     }
 }
@@ -0,0 +1,127 @@
+package io.jenkins.servlet;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Canonicalizing cache mapping an object on one side of the bridge to its adapter on the other side.
+ *
+ * <p>Keys are compared by identity and held weakly, so an entry never keeps the wrapped object alive. Adapters are
+ * also held weakly, since they reference their delegate strongly: an adapter that is no longer referenced anywhere
+ * is simply recreated on the next lookup.
+ */
+public final class WrapperCache<K, V> {
+    private final Function<? super K, ? extends V> factory;
+    private final ConcurrentMap<Object, WeakReference<V>> adapters = new ConcurrentHashMap<>();
+    private final ReferenceQueue<K> staleKeys = new ReferenceQueue<>();
+
+    public WrapperCache(Function<? super K, ? extends V> factory) {
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    /**
+     * Returns the adapter for the given object, creating it if there is none yet.
+     */
+    public V get(K from) {
+        Objects.requireNonNull(from);
+        expungeStaleEntries();
+        WeakReference<V> ref = adapters.get(new LookupKey(from));
+        V adapter = ref != null ? ref.get() : null;
+        if (adapter != null) {
+            return adapter;
+        }
+        adapter = factory.apply(from);
+        WeakKey<K> key = new WeakKey<>(from, staleKeys);
+        WeakReference<V> created = new WeakReference<>(adapter);
+        while (true) {
+            WeakReference<V> existing = adapters.putIfAbsent(key, created);
+            if (existing == null) {
+                return adapter;
+            }
+            V other = existing.get();
+            if (other != null) {
+                return other;
+            }
+            if (adapters.replace(key, existing, created)) {
+                return adapter;
+            }
+        }
+    }
+
+    /**
+     * Forgets the adapter for the given object, if any.
+     */
+    public void remove(K from) {
+        adapters.remove(new LookupKey(from));
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends K> stale;
+        while ((stale = staleKeys.poll()) != null) {
+            adapters.remove(stale);
+        }
+    }
+
+    private interface IdentityKey {
+        Object referent();
+    }
+
+    private static final class WeakKey<K> extends WeakReference<K> implements IdentityKey {
+        private final int hash;
+
+        WeakKey(K referent, ReferenceQueue<K> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public Object referent() {
+            return get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IdentityKey other)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == other.referent();
+        }
+    }
+
+    private static final class LookupKey implements IdentityKey {
+        private final Object referent;
+
+        LookupKey(Object referent) {
+            this.referent = referent;
+        }
+
+        @Override
+        public Object referent() {
+            return referent;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey other && referent == other.referent();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package io.jenkins.servlet;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Read-only views converting the elements of a collection from one side of the bridge to the other.
+ *
+ * <p>Elements are converted only when they are accessed, so looking up a single entry does not pay for converting all
+ * of them. Collection and map views remember each converted element for as long as the source still holds the same
+ * object, so iterating twice yields the same adapters.
+ */
+public final class WrapperViews {
+    private WrapperViews() {}
+
+    /**
+     * Returns a read-only view of the given collection whose elements are converted as they are iterated. The view
+     * reflects later changes to the source.
+     */
+    public static <S, T> Collection<T> collection(Collection<S> source, Function<? super S, ? extends T> converter) {
+        return new ConvertingCollection<>(Objects.requireNonNull(source), Objects.requireNonNull(converter));
+    }
+
+    /**
+     * Returns a read-only view of the given map whose values are converted as they are looked up or iterated. The view
+     * reflects later changes to the source.
+     */
+    public static <K, S, T> Map<K, T> map(Map<K, S> source, Function<? super S, ? extends T> converter) {
+        return new ConvertingMap<>(Objects.requireNonNull(source), Objects.requireNonNull(converter));
+    }
+
+    /**
+     * Returns an enumeration that converts each element of the given one as it is consumed. Like its source, it can be
+     * traversed only once. Conversions are not remembered, so each enumeration converts the elements again.
+     */
+    public static <S, T> Enumeration<T> enumeration(Enumeration<S> source, Function<? super S, ? extends T> converter) {
+        return new ConvertingEnumeration<>(Objects.requireNonNull(source), Objects.requireNonNull(converter));
+    }
+
+    private static final class ConvertingEnumeration<S, T> implements Enumeration<T> {
+        private final Enumeration<S> source;
+        private final Function<? super S, ? extends T> converter;
+
+        ConvertingEnumeration(Enumeration<S> source, Function<? super S, ? extends T> converter) {
+            this.source = source;
+            this.converter = converter;
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            return source.hasMoreElements();
+        }
+
+        @Override
+        public T nextElement() {
+            return converter.apply(source.nextElement());
+        }
+    }
+
+    /**
+     * Remembers the last conversion of each source element, compared by identity.
+     */
+    private static final class Memo<S, T> {
+        private final Function<? super S, ? extends T> converter;
+        private final Map<Object, Object[]> converted = new HashMap<>();
+
+        Memo(Function<? super S, ? extends T> converter) {
+            this.converter = converter;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized T convert(Object slot, S element) {
+            Object[] pair = converted.get(slot);
+            if (pair != null && pair[0] == element) {
+                return (T) pair[1];
+            }
+            T result = converter.apply(element);
+            converted.put(slot, new Object[] {element, result});
+            return result;
+        }
+    }
+
+    private static final class ConvertingCollection<S, T> extends AbstractCollection<T> {
+        private final Collection<S> source;
+        private final Memo<S, T> memo;
+
+        ConvertingCollection(Collection<S> source, Function<? super S, ? extends T> converter) {
+            this.source = source;
+            this.memo = new Memo<>(converter);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new ConvertingIterator<>(source.iterator(), memo);
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return source.isEmpty();
+        }
+    }
+
+    private static final class ConvertingIterator<S, T> implements Iterator<T> {
+        private final Iterator<S> source;
+        private final Memo<S, T> memo;
+        private int index;
+
+        ConvertingIterator(Iterator<S> source, Memo<S, T> memo) {
+            this.source = source;
+            this.memo = memo;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return memo.convert(index++, source.next());
+        }
+    }
+
+    private static final class ConvertingMap<K, S, T> extends AbstractMap<K, T> {
+        private final Map<K, S> source;
+        private final Memo<S, T> memo;
+
+        ConvertingMap(Map<K, S> source, Function<? super S, ? extends T> converter) {
+            this.source = source;
+            this.memo = new Memo<>(converter);
+        }
+
+        @Override
+        public T get(Object key) {
+            S value = source.get(key);
+            return value != null ? memo.convert(key, value) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return source.containsKey(key);
+        }
+
+        @Override
+        public Set<K> keySet() {
+            return Collections.unmodifiableSet(source.keySet());
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return source.isEmpty();
+        }
+
+        @Override
+        public Set<Map.Entry<K, T>> entrySet() {
+            return new EntrySet<>(source, memo);
+        }
+    }
+
+    private static final class EntrySet<K, S, T> extends AbstractSet<Map.Entry<K, T>> {
+        private final Map<K, S> source;
+        private final Memo<S, T> memo;
+
+        EntrySet(Map<K, S> source, Memo<S, T> memo) {
+            this.source = source;
+            this.memo = memo;
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, T>> iterator() {
+            return new EntryIterator<>(source.entrySet().iterator(), memo);
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+    }
+
+    private static final class EntryIterator<K, S, T> implements Iterator<Map.Entry<K, T>> {
+        private final Iterator<Map.Entry<K, S>> source;
+        private final Memo<S, T> memo;
+
+        EntryIterator(Iterator<Map.Entry<K, S>> source, Memo<S, T> memo) {
+            this.source = source;
+            this.memo = memo;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public Map.Entry<K, T> next() {
+            Map.Entry<K, S> entry = source.next();
+            K key = entry.getKey();
+            S value = entry.getValue();
+            return new AbstractMap.SimpleImmutableEntry<>(key, value != null ? memo.convert(key, value) : null);
+        }
+    }
+}
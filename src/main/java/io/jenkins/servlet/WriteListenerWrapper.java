@@ -7,31 +7,72 @@ import javax.servlet.WriteListener;
 public class WriteListenerWrapper {
     public static jakarta.servlet.WriteListener toJakartaWriteListener(WriteListener from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.WriteListener() {
-            @Override
-            public void onWritePossible() throws IOException {
-                from.onWritePossible();
-            }
-
-            @Override
-            public void onError(Throwable t) {
-                from.onError(t);
-            }
-        };
+        if (from instanceof JavaxWriteListenerWrapper javax) {
+            return javax.toJakartaWriteListener();
+        }
+        return new JakartaWriteListenerWrapperImpl(from);
     }
 
     public static WriteListener fromJakartaWriteListener(jakarta.servlet.WriteListener from) {
         Objects.requireNonNull(from);
-        return new WriteListener() {
-            @Override
-            public void onWritePossible() throws IOException {
-                from.onWritePossible();
-            }
-
-            @Override
-            public void onError(Throwable t) {
-                from.onError(t);
-            }
-        };
+        if (from instanceof JakartaWriteListenerWrapper jakarta) {
+            return jakarta.toJavaxWriteListener();
+        }
+        return new JavaxWriteListenerWrapperImpl(from);
+    }
+
+    public interface JakartaWriteListenerWrapper {
+        WriteListener toJavaxWriteListener();
+    }
+
+    private static final class JakartaWriteListenerWrapperImpl
+            implements jakarta.servlet.WriteListener, JakartaWriteListenerWrapper {
+        private final WriteListener from;
+
+        public JakartaWriteListenerWrapperImpl(WriteListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void onWritePossible() throws IOException {
+            from.onWritePossible();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            from.onError(t);
+        }
+
+        @Override
+        public WriteListener toJavaxWriteListener() {
+            return from;
+        }
+    }
+
+    public interface JavaxWriteListenerWrapper {
+        jakarta.servlet.WriteListener toJakartaWriteListener();
+    }
+
+    private static final class JavaxWriteListenerWrapperImpl implements WriteListener, JavaxWriteListenerWrapper {
+        private final jakarta.servlet.WriteListener from;
+
+        public JavaxWriteListenerWrapperImpl(jakarta.servlet.WriteListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void onWritePossible() throws IOException {
+            from.onWritePossible();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            from.onError(t);
+        }
+
+        @Override
+        public jakarta.servlet.WriteListener toJakartaWriteListener() {
+            return from;
+        }
     }
 }
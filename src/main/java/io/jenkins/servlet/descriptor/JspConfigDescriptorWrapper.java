@@ -1,8 +1,8 @@
 package io.jenkins.servlet.descriptor;
 
+import io.jenkins.servlet.WrapperViews;
 import java.util.Collection;
 import java.util.Objects;
-import java.util.stream.Collectors;
 import javax.servlet.descriptor.JspConfigDescriptor;
 import javax.servlet.descriptor.JspPropertyGroupDescriptor;
 import javax.servlet.descriptor.TaglibDescriptor;
@@ -11,40 +11,78 @@ public class JspConfigDescriptorWrapper {
     public static jakarta.servlet.descriptor.JspConfigDescriptor toJakartaJspConfigDescriptor(
             JspConfigDescriptor from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.descriptor.JspConfigDescriptor() {
-            @Override
-            public Collection<jakarta.servlet.descriptor.TaglibDescriptor> getTaglibs() {
-                return from.getTaglibs().stream()
-                        .map(TaglibDescriptorWrapper::toJakartaTaglibDescriptor)
-                        .collect(Collectors.toList());
-            }
-
-            @Override
-            public Collection<jakarta.servlet.descriptor.JspPropertyGroupDescriptor> getJspPropertyGroups() {
-                return from.getJspPropertyGroups().stream()
-                        .map(JspPropertyGroupDescriptorWrapper::toJakartaJspPropertyGroupDescriptor)
-                        .collect(Collectors.toList());
-            }
-        };
+        if (from instanceof JavaxJspConfigDescriptorWrapper javax) {
+            return javax.toJakartaJspConfigDescriptor();
+        }
+        return new JakartaJspConfigDescriptorWrapperImpl(from);
     }
 
     public static JspConfigDescriptor fromJakartaJspConfigDescriptor(
             jakarta.servlet.descriptor.JspConfigDescriptor from) {
         Objects.requireNonNull(from);
-        return new JspConfigDescriptor() {
-            @Override
-            public Collection<TaglibDescriptor> getTaglibs() {
-                return from.getTaglibs().stream()
-                        .map(TaglibDescriptorWrapper::fromJakartaTaglibDescriptor)
-                        .collect(Collectors.toList());
-            }
-
-            @Override
-            public Collection<JspPropertyGroupDescriptor> getJspPropertyGroups() {
-                return from.getJspPropertyGroups().stream()
-                        .map(JspPropertyGroupDescriptorWrapper::fromJakartaJspPropertyGroupDescriptor)
-                        .collect(Collectors.toList());
-            }
-        };
+        if (from instanceof JakartaJspConfigDescriptorWrapper jakarta) {
+            return jakarta.toJavaxJspConfigDescriptor();
+        }
+        return new JavaxJspConfigDescriptorWrapperImpl(from);
+    }
+
+    public interface JakartaJspConfigDescriptorWrapper {
+        JspConfigDescriptor toJavaxJspConfigDescriptor();
+    }
+
+    private static final class JakartaJspConfigDescriptorWrapperImpl
+            implements jakarta.servlet.descriptor.JspConfigDescriptor, JakartaJspConfigDescriptorWrapper {
+        private final JspConfigDescriptor from;
+
+        public JakartaJspConfigDescriptorWrapperImpl(JspConfigDescriptor from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public Collection<jakarta.servlet.descriptor.TaglibDescriptor> getTaglibs() {
+            return WrapperViews.collection(from.getTaglibs(), TaglibDescriptorWrapper::toJakartaTaglibDescriptor);
+        }
+
+        @Override
+        public Collection<jakarta.servlet.descriptor.JspPropertyGroupDescriptor> getJspPropertyGroups() {
+            return WrapperViews.collection(
+                    from.getJspPropertyGroups(),
+                    JspPropertyGroupDescriptorWrapper::toJakartaJspPropertyGroupDescriptor);
+        }
+
+        @Override
+        public JspConfigDescriptor toJavaxJspConfigDescriptor() {
+            return from;
+        }
+    }
+
+    public interface JavaxJspConfigDescriptorWrapper {
+        jakarta.servlet.descriptor.JspConfigDescriptor toJakartaJspConfigDescriptor();
+    }
+
+    private static final class JavaxJspConfigDescriptorWrapperImpl
+            implements JspConfigDescriptor, JavaxJspConfigDescriptorWrapper {
+        private final jakarta.servlet.descriptor.JspConfigDescriptor from;
+
+        public JavaxJspConfigDescriptorWrapperImpl(jakarta.servlet.descriptor.JspConfigDescriptor from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public Collection<TaglibDescriptor> getTaglibs() {
+            return WrapperViews.collection(from.getTaglibs(), TaglibDescriptorWrapper::fromJakartaTaglibDescriptor);
+        }
+
+        @Override
+        public Collection<JspPropertyGroupDescriptor> getJspPropertyGroups() {
+            return WrapperViews.collection(
+                    from.getJspPropertyGroups(),
+                    JspPropertyGroupDescriptorWrapper::fromJakartaJspPropertyGroupDescriptor);
+        }
+
+        @Override
+        public jakarta.servlet.descriptor.JspConfigDescriptor toJakartaJspConfigDescriptor() {
+            return from;
+        }
     }
 }
@@ -8,132 +8,174 @@ public class JspPropertyGroupDescriptorWrapper {
     public static jakarta.servlet.descriptor.JspPropertyGroupDescriptor toJakartaJspPropertyGroupDescriptor(
             JspPropertyGroupDescriptor from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.descriptor.JspPropertyGroupDescriptor() {
-            @Override
-            public Collection<String> getUrlPatterns() {
-                return from.getUrlPatterns();
-            }
-
-            @Override
-            public String getElIgnored() {
-                return from.getElIgnored();
-            }
-
-            @Override
-            public String getPageEncoding() {
-                return from.getPageEncoding();
-            }
-
-            @Override
-            public String getScriptingInvalid() {
-                return from.getScriptingInvalid();
-            }
-
-            @Override
-            public String getIsXml() {
-                return from.getIsXml();
-            }
-
-            @Override
-            public Collection<String> getIncludePreludes() {
-                return from.getIncludePreludes();
-            }
-
-            @Override
-            public Collection<String> getIncludeCodas() {
-                return from.getIncludeCodas();
-            }
-
-            @Override
-            public String getDeferredSyntaxAllowedAsLiteral() {
-                return from.getDeferredSyntaxAllowedAsLiteral();
-            }
-
-            @Override
-            public String getTrimDirectiveWhitespaces() {
-                return from.getTrimDirectiveWhitespaces();
-            }
-
-            @Override
-            public String getDefaultContentType() {
-                return from.getDefaultContentType();
-            }
-
-            @Override
-            public String getBuffer() {
-                return from.getBuffer();
-            }
-
-            @Override
-            public String getErrorOnUndeclaredNamespace() {
-                return from.getErrorOnUndeclaredNamespace();
-            }
-        };
+        if (from instanceof JavaxJspPropertyGroupDescriptorWrapper javax) {
+            return javax.toJakartaJspPropertyGroupDescriptor();
+        }
+        return new JakartaJspPropertyGroupDescriptorWrapperImpl(from);
     }
 
     public static JspPropertyGroupDescriptor fromJakartaJspPropertyGroupDescriptor(
             jakarta.servlet.descriptor.JspPropertyGroupDescriptor from) {
         Objects.requireNonNull(from);
-        return new JspPropertyGroupDescriptor() {
-            @Override
-            public Collection<String> getUrlPatterns() {
-                return from.getUrlPatterns();
-            }
-
-            @Override
-            public String getElIgnored() {
-                return from.getElIgnored();
-            }
-
-            @Override
-            public String getPageEncoding() {
-                return from.getPageEncoding();
-            }
-
-            @Override
-            public String getScriptingInvalid() {
-                return from.getScriptingInvalid();
-            }
-
-            @Override
-            public String getIsXml() {
-                return from.getIsXml();
-            }
-
-            @Override
-            public Collection<String> getIncludePreludes() {
-                return from.getIncludePreludes();
-            }
-
-            @Override
-            public Collection<String> getIncludeCodas() {
-                return from.getIncludeCodas();
-            }
-
-            @Override
-            public String getDeferredSyntaxAllowedAsLiteral() {
-                return from.getDeferredSyntaxAllowedAsLiteral();
-            }
-
-            @Override
-            public String getTrimDirectiveWhitespaces() {
-                return from.getTrimDirectiveWhitespaces();
-            }
-
-            @Override
-            public String getDefaultContentType() {
-                return from.getDefaultContentType();
-            }
-
-            @Override
-            public String getBuffer() {
-                return from.getBuffer();
-            }
-
-            @Override
-            public String getErrorOnUndeclaredNamespace() {
-                return from.getErrorOnUndeclaredNamespace();
-            }
-        };
+        if (from instanceof JakartaJspPropertyGroupDescriptorWrapper jakarta) {
+            return jakarta.toJavaxJspPropertyGroupDescriptor();
+        }
+        return new JavaxJspPropertyGroupDescriptorWrapperImpl(from);
+    }
+
+    public interface JakartaJspPropertyGroupDescriptorWrapper {
+        JspPropertyGroupDescriptor toJavaxJspPropertyGroupDescriptor();
+    }
+
+    private static final class JakartaJspPropertyGroupDescriptorWrapperImpl
+            implements jakarta.servlet.descriptor.JspPropertyGroupDescriptor, JakartaJspPropertyGroupDescriptorWrapper {
+        private final JspPropertyGroupDescriptor from;
+
+        public JakartaJspPropertyGroupDescriptorWrapperImpl(JspPropertyGroupDescriptor from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public Collection<String> getUrlPatterns() {
+            return from.getUrlPatterns();
+        }
+
+        @Override
+        public String getElIgnored() {
+            return from.getElIgnored();
+        }
+
+        @Override
+        public String getPageEncoding() {
+            return from.getPageEncoding();
+        }
+
+        @Override
+        public String getScriptingInvalid() {
+            return from.getScriptingInvalid();
+        }
+
+        @Override
+        public String getIsXml() {
+            return from.getIsXml();
+        }
+
+        @Override
+        public Collection<String> getIncludePreludes() {
+            return from.getIncludePreludes();
+        }
+
+        @Override
+        public Collection<String> getIncludeCodas() {
+            return from.getIncludeCodas();
+        }
+
+        @Override
+        public String getDeferredSyntaxAllowedAsLiteral() {
+            return from.getDeferredSyntaxAllowedAsLiteral();
+        }
+
+        @Override
+        public String getTrimDirectiveWhitespaces() {
+            return from.getTrimDirectiveWhitespaces();
+        }
+
+        @Override
+        public String getDefaultContentType() {
+            return from.getDefaultContentType();
+        }
+
+        @Override
+        public String getBuffer() {
+            return from.getBuffer();
+        }
+
+        @Override
+        public String getErrorOnUndeclaredNamespace() {
+            return from.getErrorOnUndeclaredNamespace();
+        }
+
+        @Override
+        public JspPropertyGroupDescriptor toJavaxJspPropertyGroupDescriptor() {
+            return from;
+        }
+    }
+
+    public interface JavaxJspPropertyGroupDescriptorWrapper {
+        jakarta.servlet.descriptor.JspPropertyGroupDescriptor toJakartaJspPropertyGroupDescriptor();
+    }
+
+    private static final class JavaxJspPropertyGroupDescriptorWrapperImpl
+            implements JspPropertyGroupDescriptor, JavaxJspPropertyGroupDescriptorWrapper {
+        private final jakarta.servlet.descriptor.JspPropertyGroupDescriptor from;
+
+        public JavaxJspPropertyGroupDescriptorWrapperImpl(jakarta.servlet.descriptor.JspPropertyGroupDescriptor from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public Collection<String> getUrlPatterns() {
+            return from.getUrlPatterns();
+        }
+
+        @Override
+        public String getElIgnored() {
+            return from.getElIgnored();
+        }
+
+        @Override
+        public String getPageEncoding() {
+            return from.getPageEncoding();
+        }
+
+        @Override
+        public String getScriptingInvalid() {
+            return from.getScriptingInvalid();
+        }
+
+        @Override
+        public String getIsXml() {
+            return from.getIsXml();
+        }
+
+        @Override
+        public Collection<String> getIncludePreludes() {
+            return from.getIncludePreludes();
+        }
+
+        @Override
+        public Collection<String> getIncludeCodas() {
+            return from.getIncludeCodas();
+        }
+
+        @Override
+        public String getDeferredSyntaxAllowedAsLiteral() {
+            return from.getDeferredSyntaxAllowedAsLiteral();
+        }
+
+        @Override
+        public String getTrimDirectiveWhitespaces() {
+            return from.getTrimDirectiveWhitespaces();
+        }
+
+        @Override
+        public String getDefaultContentType() {
+            return from.getDefaultContentType();
+        }
+
+        @Override
+        public String getBuffer() {
+            return from.getBuffer();
+        }
+
+        @Override
+        public String getErrorOnUndeclaredNamespace() {
+            return from.getErrorOnUndeclaredNamespace();
+        }
+
+        @Override
+        public jakarta.servlet.descriptor.JspPropertyGroupDescriptor toJakartaJspPropertyGroupDescriptor() {
+            return from;
+        }
     }
 }
@@ -6,31 +6,72 @@ import javax.servlet.descriptor.TaglibDescriptor;
 public class TaglibDescriptorWrapper {
     public static jakarta.servlet.descriptor.TaglibDescriptor toJakartaTaglibDescriptor(TaglibDescriptor from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.descriptor.TaglibDescriptor() {
-            @Override
-            public String getTaglibURI() {
-                return from.getTaglibURI();
-            }
-
-            @Override
-            public String getTaglibLocation() {
-                return from.getTaglibLocation();
-            }
-        };
+        if (from instanceof JavaxTaglibDescriptorWrapper javax) {
+            return javax.toJakartaTaglibDescriptor();
+        }
+        return new JakartaTaglibDescriptorWrapperImpl(from);
     }
 
     public static TaglibDescriptor fromJakartaTaglibDescriptor(jakarta.servlet.descriptor.TaglibDescriptor from) {
         Objects.requireNonNull(from);
-        return new TaglibDescriptor() {
-            @Override
-            public String getTaglibURI() {
-                return from.getTaglibURI();
-            }
-
-            @Override
-            public String getTaglibLocation() {
-                return from.getTaglibLocation();
-            }
-        };
+        if (from instanceof JakartaTaglibDescriptorWrapper jakarta) {
+            return jakarta.toJavaxTaglibDescriptor();
+        }
+        return new JavaxTaglibDescriptorWrapperImpl(from);
+    }
+
+    public interface JakartaTaglibDescriptorWrapper {
+        TaglibDescriptor toJavaxTaglibDescriptor();
+    }
+
+    private static final class JakartaTaglibDescriptorWrapperImpl
+            implements jakarta.servlet.descriptor.TaglibDescriptor, JakartaTaglibDescriptorWrapper {
+        private final TaglibDescriptor from;
+
+        public JakartaTaglibDescriptorWrapperImpl(TaglibDescriptor from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getTaglibURI() {
+            return from.getTaglibURI();
+        }
+
+        @Override
+        public String getTaglibLocation() {
+            return from.getTaglibLocation();
+        }
+
+        @Override
+        public TaglibDescriptor toJavaxTaglibDescriptor() {
+            return from;
+        }
+    }
+
+    public interface JavaxTaglibDescriptorWrapper {
+        jakarta.servlet.descriptor.TaglibDescriptor toJakartaTaglibDescriptor();
+    }
+
+    private static final class JavaxTaglibDescriptorWrapperImpl implements TaglibDescriptor, JavaxTaglibDescriptorWrapper {
+        private final jakarta.servlet.descriptor.TaglibDescriptor from;
+
+        public JavaxTaglibDescriptorWrapperImpl(jakarta.servlet.descriptor.TaglibDescriptor from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getTaglibURI() {
+            return from.getTaglibURI();
+        }
+
+        @Override
+        public String getTaglibLocation() {
+            return from.getTaglibLocation();
+        }
+
+        @Override
+        public jakarta.servlet.descriptor.TaglibDescriptor toJakartaTaglibDescriptor() {
+            return from;
+        }
     }
 }
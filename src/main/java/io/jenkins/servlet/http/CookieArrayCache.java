@@ -0,0 +1,86 @@
+package io.jenkins.servlet.http;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Memoizes the conversion of the cookie array returned by a wrapped request.
+ *
+ * <p>The converted array is reused for as long as the wrapped request keeps returning the same cookies, compared by
+ * identity, so repeated calls to {@code getCookies()} do not re-convert the cookies. Each caller receives its own copy
+ * of the array, so replacing or reordering its elements does not affect other callers, but the cookies in it are
+ * shared: they are views of the wrapped request's cookies, and a change made through any of them is seen by every
+ * caller on both sides of the bridge.
+ *
+ * <p>If the {@code io.jenkins.servlet.http.CookieArrayCache.cloneCookies} system property is set to {@code true},
+ * every cookie is cloned as well, as it was when each call converted the cookies afresh, so a change one caller makes
+ * to a cookie is not seen by the others. This costs a clone per cookie per call.
+ */
+final class CookieArrayCache<S, T> {
+    private static final boolean CLONE_COOKIES = Boolean.getBoolean(CookieArrayCache.class.getName() + ".cloneCookies");
+
+    private final Function<? super S, ? extends T> converter;
+    private final IntFunction<T[]> generator;
+    private final UnaryOperator<T> copier;
+    private volatile Snapshot<S, T> snapshot;
+
+    CookieArrayCache(Function<? super S, ? extends T> converter, IntFunction<T[]> generator, UnaryOperator<T> copier) {
+        this(converter, generator, copier, CLONE_COOKIES);
+    }
+
+    CookieArrayCache(
+            Function<? super S, ? extends T> converter,
+            IntFunction<T[]> generator,
+            UnaryOperator<T> copier,
+            boolean cloneCookies) {
+        this.converter = converter;
+        this.generator = generator;
+        this.copier = cloneCookies ? copier : null;
+    }
+
+    T[] get(S[] cookies) {
+        if (cookies == null) {
+            return null;
+        }
+        Snapshot<S, T> current = snapshot;
+        if (current == null || !current.matches(cookies)) {
+            T[] converted = generator.apply(cookies.length);
+            for (int i = 0; i < cookies.length; i++) {
+                converted[i] = converter.apply(cookies[i]);
+            }
+            current = new Snapshot<>(cookies.clone(), converted);
+            snapshot = current;
+        }
+        if (copier == null) {
+            return current.converted.clone();
+        }
+        T[] copy = generator.apply(current.converted.length);
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = copier.apply(current.converted[i]);
+        }
+        return copy;
+    }
+
+    private static final class Snapshot<S, T> {
+        private final S[] source;
+        private final T[] converted;
+
+        Snapshot(S[] source, T[] converted) {
+            this.source = source;
+            this.converted = converted;
+        }
+
+        boolean matches(S[] cookies) {
+            if (cookies.length != source.length) {
+                return false;
+            }
+            for (int i = 0; i < cookies.length; i++) {
+                if (cookies[i] != source[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
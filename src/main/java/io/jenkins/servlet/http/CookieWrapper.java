@@ -6,39 +6,248 @@ import javax.servlet.http.Cookie;
 public class CookieWrapper {
     public static jakarta.servlet.http.Cookie toJakartaServletHttpCookie(Cookie from) {
         Objects.requireNonNull(from);
-        jakarta.servlet.http.Cookie result = new jakarta.servlet.http.Cookie(from.getName(), from.getValue());
-        if (from.getComment() != null) {
-            result.setComment(from.getComment());
+        if (from instanceof JavaxCookieWrapper javax) {
+            return javax.toJakartaCookie();
         }
-        if (from.getDomain() != null) {
-            result.setDomain(from.getDomain());
-        }
-        result.setMaxAge(from.getMaxAge());
-        if (from.getPath() != null) {
-            result.setPath(from.getPath());
-        }
-        result.setSecure(from.getSecure());
-        result.setVersion(from.getVersion());
-        result.setHttpOnly(from.isHttpOnly());
-        return result;
+        return new JakartaCookieWrapperImpl(from);
     }
 
     public static Cookie fromJakartaServletHttpCookie(jakarta.servlet.http.Cookie from) {
         Objects.requireNonNull(from);
-        Cookie result = new Cookie(from.getName(), from.getValue());
-        if (from.getComment() != null) {
-            result.setComment(from.getComment());
+        if (from instanceof JakartaCookieWrapper jakarta) {
+            return jakarta.toJavaxCookie();
+        }
+        return new JavaxCookieWrapperImpl(from);
+    }
+
+    public interface JakartaCookieWrapper {
+        Cookie toJavaxCookie();
+    }
+
+    /*
+     * The cookie adapters are views: every accessor reads or writes the wrapped cookie, so changes made on either side
+     * of the bridge are visible on the other. Only clone() detaches, as it does for a plain cookie.
+     *
+     * The name and value held by the Cookie superclass are never read. The superclass is given a fixed name rather than
+     * the wrapped cookie's, so that a view is not held to the other side's name rules: the wrapped cookie's name was
+     * checked when that cookie was created, and checking it again would only cost time or reject a cookie the other
+     * side accepted.
+     */
+    private static final String VIEW_NAME = "view";
+
+    private static final class JakartaCookieWrapperImpl extends jakarta.servlet.http.Cookie implements JakartaCookieWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final Cookie from;
+
+        public JakartaCookieWrapperImpl(Cookie from) {
+            super(VIEW_NAME, null);
+            this.from = from;
+        }
+
+        @Override
+        public void setComment(String purpose) {
+            from.setComment(purpose);
+        }
+
+        @Override
+        public String getComment() {
+            return from.getComment();
+        }
+
+        @Override
+        public void setDomain(String domain) {
+            from.setDomain(domain);
+        }
+
+        @Override
+        public String getDomain() {
+            return from.getDomain();
+        }
+
+        @Override
+        public void setMaxAge(int expiry) {
+            from.setMaxAge(expiry);
+        }
+
+        @Override
+        public int getMaxAge() {
+            return from.getMaxAge();
+        }
+
+        @Override
+        public void setPath(String uri) {
+            from.setPath(uri);
+        }
+
+        @Override
+        public String getPath() {
+            return from.getPath();
+        }
+
+        @Override
+        public void setSecure(boolean flag) {
+            from.setSecure(flag);
+        }
+
+        @Override
+        public boolean getSecure() {
+            return from.getSecure();
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
         }
-        if (from.getDomain() != null) {
-            result.setDomain(from.getDomain());
+
+        @Override
+        public void setValue(String newValue) {
+            from.setValue(newValue);
+        }
+
+        @Override
+        public String getValue() {
+            return from.getValue();
         }
-        result.setMaxAge(from.getMaxAge());
-        if (from.getPath() != null) {
-            result.setPath(from.getPath());
+
+        @Override
+        public int getVersion() {
+            return from.getVersion();
+        }
+
+        @Override
+        public void setVersion(int v) {
+            from.setVersion(v);
+        }
+
+        @Override
+        public Object clone() {
+            return new JakartaCookieWrapperImpl((Cookie) from.clone());
+        }
+
+        @Override
+        public void setHttpOnly(boolean isHttpOnly) {
+            from.setHttpOnly(isHttpOnly);
+        }
+
+        @Override
+        public boolean isHttpOnly() {
+            return from.isHttpOnly();
+        }
+
+        @Override
+        public Cookie toJavaxCookie() {
+            return from;
+        }
+    }
+
+    public interface JavaxCookieWrapper {
+        jakarta.servlet.http.Cookie toJakartaCookie();
+    }
+
+    private static final class JavaxCookieWrapperImpl extends Cookie implements JavaxCookieWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final jakarta.servlet.http.Cookie from;
+
+        public JavaxCookieWrapperImpl(jakarta.servlet.http.Cookie from) {
+            super(VIEW_NAME, null);
+            this.from = from;
+        }
+
+        @Override
+        public void setComment(String purpose) {
+            from.setComment(purpose);
+        }
+
+        @Override
+        public String getComment() {
+            return from.getComment();
+        }
+
+        @Override
+        public void setDomain(String domain) {
+            from.setDomain(domain);
+        }
+
+        @Override
+        public String getDomain() {
+            return from.getDomain();
+        }
+
+        @Override
+        public void setMaxAge(int expiry) {
+            from.setMaxAge(expiry);
+        }
+
+        @Override
+        public int getMaxAge() {
+            return from.getMaxAge();
+        }
+
+        @Override
+        public void setPath(String uri) {
+            from.setPath(uri);
+        }
+
+        @Override
+        public String getPath() {
+            return from.getPath();
+        }
+
+        @Override
+        public void setSecure(boolean flag) {
+            from.setSecure(flag);
+        }
+
+        @Override
+        public boolean getSecure() {
+            return from.getSecure();
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public void setValue(String newValue) {
+            from.setValue(newValue);
+        }
+
+        @Override
+        public String getValue() {
+            return from.getValue();
+        }
+
+        @Override
+        public int getVersion() {
+            return from.getVersion();
+        }
+
+        @Override
+        public void setVersion(int v) {
+            from.setVersion(v);
+        }
+
+        @Override
+        public Object clone() {
+            return new JavaxCookieWrapperImpl((jakarta.servlet.http.Cookie) from.clone());
+        }
+
+        @Override
+        public void setHttpOnly(boolean isHttpOnly) {
+            from.setHttpOnly(isHttpOnly);
+        }
+
+        @Override
+        public boolean isHttpOnly() {
+            return from.isHttpOnly();
+        }
+
+        @Override
+        public jakarta.servlet.http.Cookie toJakartaCookie() {
+            return from;
         }
-        result.setSecure(from.getSecure());
-        result.setVersion(from.getVersion());
-        result.setHttpOnly(from.isHttpOnly());
-        return result;
     }
 }
@@ -7,51 +7,93 @@ import javax.servlet.http.MappingMatch;
 public class HttpServletMappingWrapper {
     public static jakarta.servlet.http.HttpServletMapping toJakartaHttpServletMapping(HttpServletMapping from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.http.HttpServletMapping() {
-            @Override
-            public String getMatchValue() {
-                return from.getMatchValue();
-            }
-
-            @Override
-            public String getPattern() {
-                return from.getPattern();
-            }
-
-            @Override
-            public String getServletName() {
-                return from.getServletName();
-            }
-
-            @Override
-            public jakarta.servlet.http.MappingMatch getMappingMatch() {
-                return MappingMatchWrapper.toJakartaMappingMatch(from.getMappingMatch());
-            }
-        };
+        if (from instanceof JavaxHttpServletMappingWrapper javax) {
+            return javax.toJakartaHttpServletMapping();
+        }
+        return new JakartaHttpServletMappingWrapperImpl(from);
     }
 
     public static HttpServletMapping fromJakartaHttpServletMapping(jakarta.servlet.http.HttpServletMapping from) {
         Objects.requireNonNull(from);
-        return new HttpServletMapping() {
-            @Override
-            public String getMatchValue() {
-                return from.getMatchValue();
-            }
-
-            @Override
-            public String getPattern() {
-                return from.getPattern();
-            }
-
-            @Override
-            public String getServletName() {
-                return from.getServletName();
-            }
-
-            @Override
-            public MappingMatch getMappingMatch() {
-                return MappingMatchWrapper.fromJakartaMappingMatch(from.getMappingMatch());
-            }
-        };
+        if (from instanceof JakartaHttpServletMappingWrapper jakarta) {
+            return jakarta.toJavaxHttpServletMapping();
+        }
+        return new JavaxHttpServletMappingWrapperImpl(from);
+    }
+
+    public interface JakartaHttpServletMappingWrapper {
+        HttpServletMapping toJavaxHttpServletMapping();
+    }
+
+    private static final class JakartaHttpServletMappingWrapperImpl
+            implements jakarta.servlet.http.HttpServletMapping, JakartaHttpServletMappingWrapper {
+        private final HttpServletMapping from;
+
+        public JakartaHttpServletMappingWrapperImpl(HttpServletMapping from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getMatchValue() {
+            return from.getMatchValue();
+        }
+
+        @Override
+        public String getPattern() {
+            return from.getPattern();
+        }
+
+        @Override
+        public String getServletName() {
+            return from.getServletName();
+        }
+
+        @Override
+        public jakarta.servlet.http.MappingMatch getMappingMatch() {
+            return MappingMatchWrapper.toJakartaMappingMatch(from.getMappingMatch());
+        }
+
+        @Override
+        public HttpServletMapping toJavaxHttpServletMapping() {
+            return from;
+        }
+    }
+
+    public interface JavaxHttpServletMappingWrapper {
+        jakarta.servlet.http.HttpServletMapping toJakartaHttpServletMapping();
+    }
+
+    private static final class JavaxHttpServletMappingWrapperImpl
+            implements HttpServletMapping, JavaxHttpServletMappingWrapper {
+        private final jakarta.servlet.http.HttpServletMapping from;
+
+        public JavaxHttpServletMappingWrapperImpl(jakarta.servlet.http.HttpServletMapping from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public String getMatchValue() {
+            return from.getMatchValue();
+        }
+
+        @Override
+        public String getPattern() {
+            return from.getPattern();
+        }
+
+        @Override
+        public String getServletName() {
+            return from.getServletName();
+        }
+
+        @Override
+        public MappingMatch getMappingMatch() {
+            return MappingMatchWrapper.fromJakartaMappingMatch(from.getMappingMatch());
+        }
+
+        @Override
+        public jakarta.servlet.http.HttpServletMapping toJakartaHttpServletMapping() {
+            return from;
+        }
     }
 }
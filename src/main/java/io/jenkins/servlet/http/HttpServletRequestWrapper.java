@@ -8,6 +8,7 @@ import io.jenkins.servlet.ServletExceptionWrapper;
 import io.jenkins.servlet.ServletInputStreamWrapper;
 import io.jenkins.servlet.ServletRequestWrapper;
 import io.jenkins.servlet.ServletResponseWrapper;
+import io.jenkins.servlet.WrapperViews;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
@@ -17,8 +18,6 @@ import java.util.Enumeration;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import javax.servlet.AsyncContext;
 import javax.servlet.DispatcherType;
 import javax.servlet.RequestDispatcher;
@@ -56,9 +55,14 @@ public class HttpServletRequestWrapper {
         HttpServletRequest toJavaxHttpServletRequest();
     }
 
-    private static class JakartaHttpServletRequestWrapperImpl
-            implements jakarta.servlet.http.HttpServletRequest, ServletRequestWrapper.JakartaServletRequestWrapper {
+    private static final class JakartaHttpServletRequestWrapperImpl
+            implements jakarta.servlet.http.HttpServletRequest,
+                    ServletRequestWrapper.JakartaServletRequestWrapper,
+                    JakartaHttpServletRequestWrapper {
         private final HttpServletRequest from;
+        private final CookieArrayCache<Cookie, jakarta.servlet.http.Cookie> cookies = new CookieArrayCache<>(
+                CookieWrapper::toJakartaServletHttpCookie, jakarta.servlet.http.Cookie[]::new, cookie ->
+                        (jakarta.servlet.http.Cookie) cookie.clone());
 
         public JakartaHttpServletRequestWrapperImpl(HttpServletRequest from) {
             this.from = Objects.requireNonNull(from);
@@ -259,9 +263,7 @@ public class HttpServletRequestWrapper {
 
         @Override
         public jakarta.servlet.http.Cookie[] getCookies() {
-            return Stream.of(from.getCookies())
-                    .map(CookieWrapper::toJakartaServletHttpCookie)
-                    .toArray(jakarta.servlet.http.Cookie[]::new);
+            return cookies.get(from.getCookies());
         }
 
         @Override
@@ -311,8 +313,8 @@ public class HttpServletRequestWrapper {
 
         @Override
         public jakarta.servlet.http.PushBuilder newPushBuilder() {
-            // TODO implement this
-            throw new UnsupportedOperationException();
+            PushBuilder builder = from.newPushBuilder();
+            return builder != null ? PushBuilderWrapper.toJakartaPushBuilder(builder) : null;
         }
 
         @Override
@@ -428,7 +430,7 @@ public class HttpServletRequestWrapper {
         @Override
         public Collection<jakarta.servlet.http.Part> getParts() throws IOException, jakarta.servlet.ServletException {
             try {
-                return from.getParts().stream().map(PartWrapper::toJakartaPart).collect(Collectors.toList());
+                return WrapperViews.collection(from.getParts(), PartWrapper::toJakartaPart);
             } catch (ServletException e) {
                 throw ServletExceptionWrapper.toJakartaServletException(e);
             }
@@ -444,9 +446,9 @@ public class HttpServletRequestWrapper {
         }
 
         @Override
-        public <T extends jakarta.servlet.http.HttpUpgradeHandler> T upgrade(Class<T> handlerClass) {
-            // TODO implement this
-            throw new UnsupportedOperationException();
+        public <T extends jakarta.servlet.http.HttpUpgradeHandler> T upgrade(Class<T> handlerClass)
+                throws IOException, jakarta.servlet.ServletException {
+            return HttpUpgradeHandlerWrapper.upgrade(from, handlerClass);
         }
 
         @Override
@@ -463,15 +465,24 @@ public class HttpServletRequestWrapper {
         public HttpServletRequest toJavaxServletRequest() {
             return from;
         }
+
+        @Override
+        public HttpServletRequest toJavaxHttpServletRequest() {
+            return from;
+        }
     }
 
     public interface JavaxHttpServletRequestWrapper {
         jakarta.servlet.http.HttpServletRequest toJakartaHttpServletRequest();
     }
 
-    private static class JavaxHttpServletRequestWrapperImpl
-            implements HttpServletRequest, ServletRequestWrapper.JavaxServletRequestWrapper {
+    private static final class JavaxHttpServletRequestWrapperImpl
+            implements HttpServletRequest,
+                    ServletRequestWrapper.JavaxServletRequestWrapper,
+                    JavaxHttpServletRequestWrapper {
         private final jakarta.servlet.http.HttpServletRequest from;
+        private final CookieArrayCache<jakarta.servlet.http.Cookie, Cookie> cookies = new CookieArrayCache<>(
+                CookieWrapper::fromJakartaServletHttpCookie, Cookie[]::new, cookie -> (Cookie) cookie.clone());
 
         public JavaxHttpServletRequestWrapperImpl(jakarta.servlet.http.HttpServletRequest from) {
             this.from = Objects.requireNonNull(from);
@@ -671,9 +682,7 @@ public class HttpServletRequestWrapper {
 
         @Override
         public Cookie[] getCookies() {
-            return Stream.of(from.getCookies())
-                    .map(CookieWrapper::fromJakartaServletHttpCookie)
-                    .toArray(Cookie[]::new);
+            return cookies.get(from.getCookies());
         }
 
         @Override
@@ -723,8 +732,8 @@ public class HttpServletRequestWrapper {
 
         @Override
         public PushBuilder newPushBuilder() {
-            // TODO implement this
-            throw new UnsupportedOperationException();
+            jakarta.servlet.http.PushBuilder builder = from.newPushBuilder();
+            return builder != null ? PushBuilderWrapper.fromJakartaPushBuilder(builder) : null;
         }
 
         @Override
@@ -839,9 +848,7 @@ public class HttpServletRequestWrapper {
         @Override
         public Collection<Part> getParts() throws IOException, ServletException {
             try {
-                return from.getParts().stream()
-                        .map(PartWrapper::fromJakartaPart)
-                        .collect(Collectors.toList());
+                return WrapperViews.collection(from.getParts(), PartWrapper::fromJakartaPart);
             } catch (jakarta.servlet.ServletException e) {
                 throw ServletExceptionWrapper.fromJakartaServletException(e);
             }
@@ -857,9 +864,8 @@ public class HttpServletRequestWrapper {
         }
 
         @Override
-        public <T extends HttpUpgradeHandler> T upgrade(Class<T> handlerClass) {
-            // TODO implement this
-            throw new UnsupportedOperationException();
+        public <T extends HttpUpgradeHandler> T upgrade(Class<T> handlerClass) throws IOException, ServletException {
+            return HttpUpgradeHandlerWrapper.upgrade(from, handlerClass);
         }
 
         @Override
@@ -876,5 +882,10 @@ public class HttpServletRequestWrapper {
         public jakarta.servlet.http.HttpServletRequest toJakartaServletRequest() {
             return from;
         }
+
+        @Override
+        public jakarta.servlet.http.HttpServletRequest toJakartaHttpServletRequest() {
+            return from;
+        }
     }
 }
@@ -33,7 +33,7 @@ public class HttpServletResponseWrapper {
         HttpServletResponse toJavaxHttpServletResponse();
     }
 
-    private static class JakartaHttpServletResponseWrapperImpl
+    private static final class JakartaHttpServletResponseWrapperImpl
             implements jakarta.servlet.http.HttpServletResponse,
                     ServletResponseWrapper.JakartaServletResponseWrapper,
                     JakartaHttpServletResponseWrapper {
@@ -253,7 +253,7 @@ public class HttpServletResponseWrapper {
         jakarta.servlet.http.HttpServletResponse toJakartaHttpServletResponse();
     }
 
-    private static class JavaxHttpServletResponseWrapperImpl
+    private static final class JavaxHttpServletResponseWrapperImpl
             implements HttpServletResponse,
                     ServletResponseWrapper.JavaxServletResponseWrapper,
                     JavaxHttpServletResponseWrapper {
@@ -0,0 +1,91 @@
+package io.jenkins.servlet.http;
+
+import java.util.Objects;
+import javax.servlet.http.HttpSessionAttributeListener;
+import javax.servlet.http.HttpSessionBindingEvent;
+
+public class HttpSessionAttributeListenerWrapper {
+    public static jakarta.servlet.http.HttpSessionAttributeListener toJakartaHttpSessionAttributeListener(
+            HttpSessionAttributeListener from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxHttpSessionAttributeListenerWrapper javax) {
+            return javax.toJakartaHttpSessionAttributeListener();
+        }
+        return new JakartaHttpSessionAttributeListenerWrapperImpl(from);
+    }
+
+    public static HttpSessionAttributeListener fromJakartaHttpSessionAttributeListener(
+            jakarta.servlet.http.HttpSessionAttributeListener from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaHttpSessionAttributeListenerWrapper jakarta) {
+            return jakarta.toJavaxHttpSessionAttributeListener();
+        }
+        return new JavaxHttpSessionAttributeListenerWrapperImpl(from);
+    }
+
+    public interface JakartaHttpSessionAttributeListenerWrapper {
+        HttpSessionAttributeListener toJavaxHttpSessionAttributeListener();
+    }
+
+    private static final class JakartaHttpSessionAttributeListenerWrapperImpl
+            implements jakarta.servlet.http.HttpSessionAttributeListener, JakartaHttpSessionAttributeListenerWrapper {
+        private final HttpSessionAttributeListener from;
+
+        public JakartaHttpSessionAttributeListenerWrapperImpl(HttpSessionAttributeListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void attributeAdded(jakarta.servlet.http.HttpSessionBindingEvent event) {
+            from.attributeAdded(HttpSessionBindingEventWrapper.fromJakartaHttpSessionBindingEvent(event));
+        }
+
+        @Override
+        public void attributeRemoved(jakarta.servlet.http.HttpSessionBindingEvent event) {
+            from.attributeRemoved(HttpSessionBindingEventWrapper.fromJakartaHttpSessionBindingEvent(event));
+        }
+
+        @Override
+        public void attributeReplaced(jakarta.servlet.http.HttpSessionBindingEvent event) {
+            from.attributeReplaced(HttpSessionBindingEventWrapper.fromJakartaHttpSessionBindingEvent(event));
+        }
+
+        @Override
+        public HttpSessionAttributeListener toJavaxHttpSessionAttributeListener() {
+            return from;
+        }
+    }
+
+    public interface JavaxHttpSessionAttributeListenerWrapper {
+        jakarta.servlet.http.HttpSessionAttributeListener toJakartaHttpSessionAttributeListener();
+    }
+
+    private static final class JavaxHttpSessionAttributeListenerWrapperImpl
+            implements HttpSessionAttributeListener, JavaxHttpSessionAttributeListenerWrapper {
+        private final jakarta.servlet.http.HttpSessionAttributeListener from;
+
+        public JavaxHttpSessionAttributeListenerWrapperImpl(jakarta.servlet.http.HttpSessionAttributeListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void attributeAdded(HttpSessionBindingEvent event) {
+            from.attributeAdded(HttpSessionBindingEventWrapper.toJakartaHttpSessionBindingEvent(event));
+        }
+
+        @Override
+        public void attributeRemoved(HttpSessionBindingEvent event) {
+            from.attributeRemoved(HttpSessionBindingEventWrapper.toJakartaHttpSessionBindingEvent(event));
+        }
+
+        @Override
+        public void attributeReplaced(HttpSessionBindingEvent event) {
+            from.attributeReplaced(HttpSessionBindingEventWrapper.toJakartaHttpSessionBindingEvent(event));
+        }
+
+        @Override
+        public jakarta.servlet.http.HttpSessionAttributeListener toJakartaHttpSessionAttributeListener() {
+            return from;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package io.jenkins.servlet.http;
+
+import java.util.Objects;
+import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpSessionBindingEvent;
+
+public class HttpSessionBindingEventWrapper {
+    public static jakarta.servlet.http.HttpSessionBindingEvent toJakartaHttpSessionBindingEvent(
+            HttpSessionBindingEvent from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxHttpSessionBindingEventWrapper javax) {
+            return javax.toJakartaHttpSessionBindingEvent();
+        }
+        return new JakartaHttpSessionBindingEventWrapperImpl(from);
+    }
+
+    public static HttpSessionBindingEvent fromJakartaHttpSessionBindingEvent(
+            jakarta.servlet.http.HttpSessionBindingEvent from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaHttpSessionBindingEventWrapper jakarta) {
+            return jakarta.toJavaxHttpSessionBindingEvent();
+        }
+        return new JavaxHttpSessionBindingEventWrapperImpl(from);
+    }
+
+    public interface JakartaHttpSessionBindingEventWrapper {
+        HttpSessionBindingEvent toJavaxHttpSessionBindingEvent();
+    }
+
+    private static final class JakartaHttpSessionBindingEventWrapperImpl extends jakarta.servlet.http.HttpSessionBindingEvent
+            implements JakartaHttpSessionBindingEventWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final transient HttpSessionBindingEvent from;
+        private transient jakarta.servlet.http.HttpSession session;
+
+        JakartaHttpSessionBindingEventWrapperImpl(HttpSessionBindingEvent from) {
+            super(HttpSessionEventWrapper.UNRESOLVED_JAKARTA_SESSION, null, null);
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public jakarta.servlet.http.HttpSession getSession() {
+            jakarta.servlet.http.HttpSession resolved = session;
+            if (resolved == null) {
+                resolved = HttpSessionWrapper.toJakartaHttpSession(from.getSession());
+                session = resolved;
+                source = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public Object getValue() {
+            return from.getValue();
+        }
+
+        @Override
+        public Object getSource() {
+            return getSession();
+        }
+
+        @Override
+        public String toString() {
+            getSource();
+            return super.toString();
+        }
+
+        @Override
+        public HttpSessionBindingEvent toJavaxHttpSessionBindingEvent() {
+            return from;
+        }
+    }
+
+    public interface JavaxHttpSessionBindingEventWrapper {
+        jakarta.servlet.http.HttpSessionBindingEvent toJakartaHttpSessionBindingEvent();
+    }
+
+    private static final class JavaxHttpSessionBindingEventWrapperImpl extends HttpSessionBindingEvent
+            implements JavaxHttpSessionBindingEventWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final transient jakarta.servlet.http.HttpSessionBindingEvent from;
+        private transient HttpSession session;
+
+        JavaxHttpSessionBindingEventWrapperImpl(jakarta.servlet.http.HttpSessionBindingEvent from) {
+            super(HttpSessionEventWrapper.UNRESOLVED_SESSION, null, null);
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public HttpSession getSession() {
+            HttpSession resolved = session;
+            if (resolved == null) {
+                resolved = HttpSessionWrapper.fromJakartaHttpSession(from.getSession());
+                session = resolved;
+                source = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public Object getValue() {
+            return from.getValue();
+        }
+
+        @Override
+        public Object getSource() {
+            return getSession();
+        }
+
+        @Override
+        public String toString() {
+            getSource();
+            return super.toString();
+        }
+
+        @Override
+        public jakarta.servlet.http.HttpSessionBindingEvent toJakartaHttpSessionBindingEvent() {
+            return from;
+        }
+    }
+}
@@ -8,31 +8,75 @@ import javax.servlet.http.HttpSessionContext;
 public class HttpSessionContextWrapper {
     public static jakarta.servlet.http.HttpSessionContext toJakartaHttpSessionContext(HttpSessionContext from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.http.HttpSessionContext() {
-            @Override
-            public jakarta.servlet.http.HttpSession getSession(String sessionId) {
-                return HttpSessionWrapper.toJakartaHttpSession(from.getSession(sessionId));
-            }
-
-            @Override
-            public Enumeration<String> getIds() {
-                return from.getIds();
-            }
-        };
+        if (from instanceof JavaxHttpSessionContextWrapper javax) {
+            return javax.toJakartaHttpSessionContext();
+        }
+        return new JakartaHttpSessionContextWrapperImpl(from);
     }
 
     public static HttpSessionContext fromJakartaHttpSessionContext(jakarta.servlet.http.HttpSessionContext from) {
         Objects.requireNonNull(from);
-        return new HttpSessionContext() {
-            @Override
-            public HttpSession getSession(String sessionId) {
-                return HttpSessionWrapper.fromJakartaHttpSession(from.getSession(sessionId));
-            }
-
-            @Override
-            public Enumeration<String> getIds() {
-                return from.getIds();
-            }
-        };
+        if (from instanceof JakartaHttpSessionContextWrapper jakarta) {
+            return jakarta.toJavaxHttpSessionContext();
+        }
+        return new JavaxHttpSessionContextWrapperImpl(from);
+    }
+
+    public interface JakartaHttpSessionContextWrapper {
+        HttpSessionContext toJavaxHttpSessionContext();
+    }
+
+    private static final class JakartaHttpSessionContextWrapperImpl
+            implements jakarta.servlet.http.HttpSessionContext, JakartaHttpSessionContextWrapper {
+        private final HttpSessionContext from;
+
+        public JakartaHttpSessionContextWrapperImpl(HttpSessionContext from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public jakarta.servlet.http.HttpSession getSession(String sessionId) {
+            HttpSession session = from.getSession(sessionId);
+            return session != null ? HttpSessionWrapper.toJakartaHttpSession(session) : null;
+        }
+
+        @Override
+        public Enumeration<String> getIds() {
+            return from.getIds();
+        }
+
+        @Override
+        public HttpSessionContext toJavaxHttpSessionContext() {
+            return from;
+        }
+    }
+
+    public interface JavaxHttpSessionContextWrapper {
+        jakarta.servlet.http.HttpSessionContext toJakartaHttpSessionContext();
+    }
+
+    private static final class JavaxHttpSessionContextWrapperImpl
+            implements HttpSessionContext, JavaxHttpSessionContextWrapper {
+        private final jakarta.servlet.http.HttpSessionContext from;
+
+        public JavaxHttpSessionContextWrapperImpl(jakarta.servlet.http.HttpSessionContext from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public HttpSession getSession(String sessionId) {
+            jakarta.servlet.http.HttpSession session = from.getSession(sessionId);
+            return session != null ? HttpSessionWrapper.fromJakartaHttpSession(session) : null;
+        }
+
+        @Override
+        public Enumeration<String> getIds() {
+            return from.getIds();
+        }
+
+        @Override
+        public jakarta.servlet.http.HttpSessionContext toJakartaHttpSessionContext() {
+            return from;
+        }
     }
 }
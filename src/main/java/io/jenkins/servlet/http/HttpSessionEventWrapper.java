@@ -1,16 +1,121 @@
 package io.jenkins.servlet.http;
 
+import io.jenkins.servlet.EventListenerWrapper;
 import java.util.Objects;
+import javax.servlet.http.HttpSession;
 import javax.servlet.http.HttpSessionEvent;
 
+/**
+ * Adapts events delivered to bridged listeners. The session an event refers to is only adapted
+ * when the listener asks for it, so that a listener that looks at nothing but the attribute name, or ignores the event
+ * altogether, does not pay for it.
+ */
 public class HttpSessionEventWrapper {
+    static final HttpSession UNRESOLVED_SESSION = EventListenerWrapper.unresolvedEventSource(HttpSession.class);
+    static final jakarta.servlet.http.HttpSession UNRESOLVED_JAKARTA_SESSION =
+            EventListenerWrapper.unresolvedEventSource(jakarta.servlet.http.HttpSession.class);
+
     public static jakarta.servlet.http.HttpSessionEvent toJakartaHttpSessionEvent(HttpSessionEvent from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.http.HttpSessionEvent(HttpSessionWrapper.toJakartaHttpSession(from.getSession()));
+        if (from instanceof JavaxHttpSessionEventWrapper javax) {
+            return javax.toJakartaHttpSessionEvent();
+        }
+        return new JakartaHttpSessionEventWrapperImpl(from);
     }
 
     public static HttpSessionEvent fromJakartaHttpSessionEvent(jakarta.servlet.http.HttpSessionEvent from) {
         Objects.requireNonNull(from);
-        return new HttpSessionEvent(HttpSessionWrapper.fromJakartaHttpSession(from.getSession()));
+        if (from instanceof JakartaHttpSessionEventWrapper jakarta) {
+            return jakarta.toJavaxHttpSessionEvent();
+        }
+        return new JavaxHttpSessionEventWrapperImpl(from);
+    }
+
+    public interface JakartaHttpSessionEventWrapper {
+        HttpSessionEvent toJavaxHttpSessionEvent();
+    }
+
+    private static final class JakartaHttpSessionEventWrapperImpl extends jakarta.servlet.http.HttpSessionEvent
+            implements JakartaHttpSessionEventWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final transient HttpSessionEvent from;
+        private transient jakarta.servlet.http.HttpSession session;
+
+        JakartaHttpSessionEventWrapperImpl(HttpSessionEvent from) {
+            super(UNRESOLVED_JAKARTA_SESSION);
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public jakarta.servlet.http.HttpSession getSession() {
+            jakarta.servlet.http.HttpSession resolved = session;
+            if (resolved == null) {
+                resolved = HttpSessionWrapper.toJakartaHttpSession(from.getSession());
+                session = resolved;
+                source = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public Object getSource() {
+            return getSession();
+        }
+
+        @Override
+        public String toString() {
+            getSource();
+            return super.toString();
+        }
+
+        @Override
+        public HttpSessionEvent toJavaxHttpSessionEvent() {
+            return from;
+        }
+    }
+
+    public interface JavaxHttpSessionEventWrapper {
+        jakarta.servlet.http.HttpSessionEvent toJakartaHttpSessionEvent();
+    }
+
+    private static final class JavaxHttpSessionEventWrapperImpl extends HttpSessionEvent
+            implements JavaxHttpSessionEventWrapper {
+        private static final long serialVersionUID = 1L;
+
+        private final transient jakarta.servlet.http.HttpSessionEvent from;
+        private transient HttpSession session;
+
+        JavaxHttpSessionEventWrapperImpl(jakarta.servlet.http.HttpSessionEvent from) {
+            super(UNRESOLVED_SESSION);
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public HttpSession getSession() {
+            HttpSession resolved = session;
+            if (resolved == null) {
+                resolved = HttpSessionWrapper.fromJakartaHttpSession(from.getSession());
+                session = resolved;
+                source = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public Object getSource() {
+            return getSession();
+        }
+
+        @Override
+        public String toString() {
+            getSource();
+            return super.toString();
+        }
+
+        @Override
+        public jakarta.servlet.http.HttpSessionEvent toJakartaHttpSessionEvent() {
+            return from;
+        }
     }
 }
@@ -0,0 +1,71 @@
+package io.jenkins.servlet.http;
+
+import java.util.Objects;
+import javax.servlet.http.HttpSessionEvent;
+import javax.servlet.http.HttpSessionIdListener;
+
+public class HttpSessionIdListenerWrapper {
+    public static jakarta.servlet.http.HttpSessionIdListener toJakartaHttpSessionIdListener(
+            HttpSessionIdListener from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxHttpSessionIdListenerWrapper javax) {
+            return javax.toJakartaHttpSessionIdListener();
+        }
+        return new JakartaHttpSessionIdListenerWrapperImpl(from);
+    }
+
+    public static HttpSessionIdListener fromJakartaHttpSessionIdListener(
+            jakarta.servlet.http.HttpSessionIdListener from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaHttpSessionIdListenerWrapper jakarta) {
+            return jakarta.toJavaxHttpSessionIdListener();
+        }
+        return new JavaxHttpSessionIdListenerWrapperImpl(from);
+    }
+
+    public interface JakartaHttpSessionIdListenerWrapper {
+        HttpSessionIdListener toJavaxHttpSessionIdListener();
+    }
+
+    private static final class JakartaHttpSessionIdListenerWrapperImpl
+            implements jakarta.servlet.http.HttpSessionIdListener, JakartaHttpSessionIdListenerWrapper {
+        private final HttpSessionIdListener from;
+
+        public JakartaHttpSessionIdListenerWrapperImpl(HttpSessionIdListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void sessionIdChanged(jakarta.servlet.http.HttpSessionEvent event, String oldSessionId) {
+            from.sessionIdChanged(HttpSessionEventWrapper.fromJakartaHttpSessionEvent(event), oldSessionId);
+        }
+
+        @Override
+        public HttpSessionIdListener toJavaxHttpSessionIdListener() {
+            return from;
+        }
+    }
+
+    public interface JavaxHttpSessionIdListenerWrapper {
+        jakarta.servlet.http.HttpSessionIdListener toJakartaHttpSessionIdListener();
+    }
+
+    private static final class JavaxHttpSessionIdListenerWrapperImpl
+            implements HttpSessionIdListener, JavaxHttpSessionIdListenerWrapper {
+        private final jakarta.servlet.http.HttpSessionIdListener from;
+
+        public JavaxHttpSessionIdListenerWrapperImpl(jakarta.servlet.http.HttpSessionIdListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void sessionIdChanged(HttpSessionEvent event, String oldSessionId) {
+            from.sessionIdChanged(HttpSessionEventWrapper.toJakartaHttpSessionEvent(event), oldSessionId);
+        }
+
+        @Override
+        public jakarta.servlet.http.HttpSessionIdListener toJakartaHttpSessionIdListener() {
+            return from;
+        }
+    }
+}
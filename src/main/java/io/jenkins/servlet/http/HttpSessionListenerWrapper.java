@@ -0,0 +1,79 @@
+package io.jenkins.servlet.http;
+
+import java.util.Objects;
+import javax.servlet.http.HttpSessionEvent;
+import javax.servlet.http.HttpSessionListener;
+
+public class HttpSessionListenerWrapper {
+    public static jakarta.servlet.http.HttpSessionListener toJakartaHttpSessionListener(HttpSessionListener from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxHttpSessionListenerWrapper javax) {
+            return javax.toJakartaHttpSessionListener();
+        }
+        return new JakartaHttpSessionListenerWrapperImpl(from);
+    }
+
+    public static HttpSessionListener fromJakartaHttpSessionListener(jakarta.servlet.http.HttpSessionListener from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaHttpSessionListenerWrapper jakarta) {
+            return jakarta.toJavaxHttpSessionListener();
+        }
+        return new JavaxHttpSessionListenerWrapperImpl(from);
+    }
+
+    public interface JakartaHttpSessionListenerWrapper {
+        HttpSessionListener toJavaxHttpSessionListener();
+    }
+
+    private static final class JakartaHttpSessionListenerWrapperImpl
+            implements jakarta.servlet.http.HttpSessionListener, JakartaHttpSessionListenerWrapper {
+        private final HttpSessionListener from;
+
+        public JakartaHttpSessionListenerWrapperImpl(HttpSessionListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void sessionCreated(jakarta.servlet.http.HttpSessionEvent event) {
+            from.sessionCreated(HttpSessionEventWrapper.fromJakartaHttpSessionEvent(event));
+        }
+
+        @Override
+        public void sessionDestroyed(jakarta.servlet.http.HttpSessionEvent event) {
+            from.sessionDestroyed(HttpSessionEventWrapper.fromJakartaHttpSessionEvent(event));
+        }
+
+        @Override
+        public HttpSessionListener toJavaxHttpSessionListener() {
+            return from;
+        }
+    }
+
+    public interface JavaxHttpSessionListenerWrapper {
+        jakarta.servlet.http.HttpSessionListener toJakartaHttpSessionListener();
+    }
+
+    private static final class JavaxHttpSessionListenerWrapperImpl
+            implements HttpSessionListener, JavaxHttpSessionListenerWrapper {
+        private final jakarta.servlet.http.HttpSessionListener from;
+
+        public JavaxHttpSessionListenerWrapperImpl(jakarta.servlet.http.HttpSessionListener from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public void sessionCreated(HttpSessionEvent event) {
+            from.sessionCreated(HttpSessionEventWrapper.toJakartaHttpSessionEvent(event));
+        }
+
+        @Override
+        public void sessionDestroyed(HttpSessionEvent event) {
+            from.sessionDestroyed(HttpSessionEventWrapper.toJakartaHttpSessionEvent(event));
+        }
+
+        @Override
+        public jakarta.servlet.http.HttpSessionListener toJakartaHttpSessionListener() {
+            return from;
+        }
+    }
+}
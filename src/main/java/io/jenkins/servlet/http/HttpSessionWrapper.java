@@ -1,6 +1,7 @@
 package io.jenkins.servlet.http;
 
 import io.jenkins.servlet.ServletContextWrapper;
+import io.jenkins.servlet.WrapperCache;
 import java.util.Enumeration;
 import java.util.Objects;
 import javax.servlet.ServletContext;
@@ -8,183 +9,238 @@ import javax.servlet.http.HttpSession;
 import javax.servlet.http.HttpSessionContext;
 
 public class HttpSessionWrapper {
-    public static jakarta.servlet.http.HttpSession toJakartaHttpSession(HttpSession from) {
-        Objects.requireNonNull(from);
-        return new jakarta.servlet.http.HttpSession() {
-            @Override
-            public long getCreationTime() {
-                return from.getCreationTime();
-            }
-
-            @Override
-            public String getId() {
-                return from.getId();
-            }
-
-            @Override
-            public long getLastAccessedTime() {
-                return from.getLastAccessedTime();
-            }
-
-            @Override
-            public jakarta.servlet.ServletContext getServletContext() {
-                return ServletContextWrapper.toJakartaServletContext(from.getServletContext());
-            }
-
-            @Override
-            public void setMaxInactiveInterval(int interval) {
-                from.setMaxInactiveInterval(interval);
-            }
-
-            @Override
-            public int getMaxInactiveInterval() {
-                return from.getMaxInactiveInterval();
-            }
-
-            @Override
-            public jakarta.servlet.http.HttpSessionContext getSessionContext() {
-                return HttpSessionContextWrapper.toJakartaHttpSessionContext(from.getSessionContext());
-            }
-
-            @Override
-            public Object getAttribute(String name) {
-                return from.getAttribute(name);
-            }
+    private static final WrapperCache<HttpSession, jakarta.servlet.http.HttpSession> JAKARTA_SESSIONS =
+            new WrapperCache<>(JakartaHttpSessionWrapperImpl::new);
 
-            @Override
-            public Object getValue(String name) {
-                return from.getValue(name);
-            }
-
-            @Override
-            public Enumeration<String> getAttributeNames() {
-                return from.getAttributeNames();
-            }
-
-            @Override
-            public String[] getValueNames() {
-                return from.getValueNames();
-            }
-
-            @Override
-            public void setAttribute(String name, Object value) {
-                from.setAttribute(name, value);
-            }
-
-            @Override
-            public void putValue(String name, Object value) {
-                from.putValue(name, value);
-            }
-
-            @Override
-            public void removeAttribute(String name) {
-                from.removeAttribute(name);
-            }
-
-            @Override
-            public void removeValue(String name) {
-                from.removeValue(name);
-            }
-
-            @Override
-            public void invalidate() {
-                from.invalidate();
-            }
+    private static final WrapperCache<jakarta.servlet.http.HttpSession, HttpSession> JAVAX_SESSIONS =
+            new WrapperCache<>(JavaxHttpSessionWrapperImpl::new);
 
-            @Override
-            public boolean isNew() {
-                return from.isNew();
-            }
-        };
+    public static jakarta.servlet.http.HttpSession toJakartaHttpSession(HttpSession from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxHttpSessionWrapper javax) {
+            return javax.toJakartaHttpSession();
+        }
+        return JAKARTA_SESSIONS.get(from);
     }
 
     public static HttpSession fromJakartaHttpSession(jakarta.servlet.http.HttpSession from) {
         Objects.requireNonNull(from);
-        return new HttpSession() {
-            @Override
-            public long getCreationTime() {
-                return from.getCreationTime();
-            }
-
-            @Override
-            public String getId() {
-                return from.getId();
-            }
-
-            @Override
-            public long getLastAccessedTime() {
-                return from.getLastAccessedTime();
-            }
-
-            @Override
-            public ServletContext getServletContext() {
-                return ServletContextWrapper.fromJakartServletContext(from.getServletContext());
-            }
-
-            @Override
-            public void setMaxInactiveInterval(int interval) {
-                from.setMaxInactiveInterval(interval);
-            }
-
-            @Override
-            public int getMaxInactiveInterval() {
-                return from.getMaxInactiveInterval();
-            }
-
-            @Override
-            public HttpSessionContext getSessionContext() {
-                return HttpSessionContextWrapper.fromJakartaHttpSessionContext(from.getSessionContext());
-            }
-
-            @Override
-            public Object getAttribute(String name) {
-                return from.getAttribute(name);
-            }
-
-            @Override
-            public Object getValue(String name) {
-                return from.getValue(name);
-            }
-
-            @Override
-            public Enumeration<String> getAttributeNames() {
-                return from.getAttributeNames();
-            }
+        if (from instanceof JakartaHttpSessionWrapper jakarta) {
+            return jakarta.toJavaxHttpSession();
+        }
+        return JAVAX_SESSIONS.get(from);
+    }
 
-            @Override
-            public String[] getValueNames() {
-                return from.getValueNames();
-            }
+    public interface JakartaHttpSessionWrapper {
+        HttpSession toJavaxHttpSession();
+    }
 
-            @Override
-            public void setAttribute(String name, Object value) {
-                from.setAttribute(name, value);
+    private static final class JakartaHttpSessionWrapperImpl
+            implements jakarta.servlet.http.HttpSession, JakartaHttpSessionWrapper {
+        private final HttpSession from;
+
+        public JakartaHttpSessionWrapperImpl(HttpSession from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public long getCreationTime() {
+            return from.getCreationTime();
+        }
+
+        @Override
+        public String getId() {
+            return from.getId();
+        }
+
+        @Override
+        public long getLastAccessedTime() {
+            return from.getLastAccessedTime();
+        }
+
+        @Override
+        public jakarta.servlet.ServletContext getServletContext() {
+            return ServletContextWrapper.toJakartaServletContext(from.getServletContext());
+        }
+
+        @Override
+        public void setMaxInactiveInterval(int interval) {
+            from.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public int getMaxInactiveInterval() {
+            return from.getMaxInactiveInterval();
+        }
+
+        @Override
+        public jakarta.servlet.http.HttpSessionContext getSessionContext() {
+            return HttpSessionContextWrapper.toJakartaHttpSessionContext(from.getSessionContext());
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return from.getAttribute(name);
+        }
+
+        @Override
+        public Object getValue(String name) {
+            return from.getValue(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            return from.getAttributeNames();
+        }
+
+        @Override
+        public String[] getValueNames() {
+            return from.getValueNames();
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            from.setAttribute(name, value);
+        }
+
+        @Override
+        public void putValue(String name, Object value) {
+            from.putValue(name, value);
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            from.removeAttribute(name);
+        }
+
+        @Override
+        public void removeValue(String name) {
+            from.removeValue(name);
+        }
+
+        @Override
+        public void invalidate() {
+            try {
+                from.invalidate();
+            } finally {
+                JAKARTA_SESSIONS.remove(from);
             }
+        }
 
-            @Override
-            public void putValue(String name, Object value) {
-                from.putValue(name, value);
-            }
+        @Override
+        public boolean isNew() {
+            return from.isNew();
+        }
 
-            @Override
-            public void removeAttribute(String name) {
-                from.removeAttribute(name);
-            }
+        @Override
+        public HttpSession toJavaxHttpSession() {
+            return from;
+        }
+    }
 
-            @Override
-            public void removeValue(String name) {
-                from.removeValue(name);
-            }
+    public interface JavaxHttpSessionWrapper {
+        jakarta.servlet.http.HttpSession toJakartaHttpSession();
+    }
 
-            @Override
-            public void invalidate() {
+    private static final class JavaxHttpSessionWrapperImpl implements HttpSession, JavaxHttpSessionWrapper {
+        private final jakarta.servlet.http.HttpSession from;
+
+        public JavaxHttpSessionWrapperImpl(jakarta.servlet.http.HttpSession from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public long getCreationTime() {
+            return from.getCreationTime();
+        }
+
+        @Override
+        public String getId() {
+            return from.getId();
+        }
+
+        @Override
+        public long getLastAccessedTime() {
+            return from.getLastAccessedTime();
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            return ServletContextWrapper.fromJakartServletContext(from.getServletContext());
+        }
+
+        @Override
+        public void setMaxInactiveInterval(int interval) {
+            from.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public int getMaxInactiveInterval() {
+            return from.getMaxInactiveInterval();
+        }
+
+        @Override
+        public HttpSessionContext getSessionContext() {
+            return HttpSessionContextWrapper.fromJakartaHttpSessionContext(from.getSessionContext());
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return from.getAttribute(name);
+        }
+
+        @Override
+        public Object getValue(String name) {
+            return from.getValue(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            return from.getAttributeNames();
+        }
+
+        @Override
+        public String[] getValueNames() {
+            return from.getValueNames();
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            from.setAttribute(name, value);
+        }
+
+        @Override
+        public void putValue(String name, Object value) {
+            from.putValue(name, value);
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            from.removeAttribute(name);
+        }
+
+        @Override
+        public void removeValue(String name) {
+            from.removeValue(name);
+        }
+
+        @Override
+        public void invalidate() {
+            try {
                 from.invalidate();
+            } finally {
+                JAVAX_SESSIONS.remove(from);
             }
+        }
 
-            @Override
-            public boolean isNew() {
-                return from.isNew();
-            }
-        };
+        @Override
+        public boolean isNew() {
+            return from.isNew();
+        }
+
+        @Override
+        public jakarta.servlet.http.HttpSession toJakartaHttpSession() {
+            return from;
+        }
     }
 }
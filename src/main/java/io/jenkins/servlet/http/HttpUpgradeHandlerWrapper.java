@@ -0,0 +1,173 @@
+package io.jenkins.servlet.http;
+
+import io.jenkins.servlet.InstanceFactory;
+import io.jenkins.servlet.ServletExceptionWrapper;
+import java.io.IOException;
+import java.util.Objects;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpUpgradeHandler;
+import javax.servlet.http.WebConnection;
+
+public class HttpUpgradeHandlerWrapper {
+    public static jakarta.servlet.http.HttpUpgradeHandler toJakartaHttpUpgradeHandler(HttpUpgradeHandler from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxHttpUpgradeHandlerWrapper javax) {
+            return javax.toJakartaHttpUpgradeHandler();
+        }
+        return new JakartaHttpUpgradeHandlerWrapperImpl(from);
+    }
+
+    public static HttpUpgradeHandler fromJakartaHttpUpgradeHandler(jakarta.servlet.http.HttpUpgradeHandler from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaHttpUpgradeHandlerWrapper jakarta) {
+            return jakarta.toJavaxHttpUpgradeHandler();
+        }
+        return new JavaxHttpUpgradeHandlerWrapperImpl(from);
+    }
+
+    /*
+     * The container instantiates the handler class passed to upgrade(Class) itself, and only accepts handlers of its
+     * own API, so the request cannot be upgraded straight to the application's handler. Instead it is upgraded to the
+     * adapter class, and the application's handler is then instantiated here, through its public no-argument
+     * constructor, and bound to the adapter the container created. The container only calls init after the servlet
+     * has returned, so the binding is in place by then.
+     *
+     * The application's handler is therefore not container-managed: it gets no dependency injection, no
+     * @PostConstruct or @PreDestroy callbacks and no other lifecycle management. Only the adapter does.
+     */
+    static <T extends HttpUpgradeHandler> T upgrade(
+            jakarta.servlet.http.HttpServletRequest request, Class<T> handlerClass)
+            throws IOException, ServletException {
+        Objects.requireNonNull(handlerClass);
+        JakartaHttpUpgradeHandlerWrapperImpl adapter;
+        try {
+            adapter = request.upgrade(JakartaHttpUpgradeHandlerWrapperImpl.class);
+        } catch (jakarta.servlet.ServletException e) {
+            throw ServletExceptionWrapper.fromJakartaServletException(e);
+        }
+        T handler = InstanceFactory.newInstance(handlerClass, ServletException::new);
+        adapter.bind(handler);
+        return handler;
+    }
+
+    static <T extends jakarta.servlet.http.HttpUpgradeHandler> T upgrade(
+            HttpServletRequest request, Class<T> handlerClass) throws IOException, jakarta.servlet.ServletException {
+        Objects.requireNonNull(handlerClass);
+        JavaxHttpUpgradeHandlerWrapperImpl adapter;
+        try {
+            adapter = request.upgrade(JavaxHttpUpgradeHandlerWrapperImpl.class);
+        } catch (ServletException e) {
+            throw ServletExceptionWrapper.toJakartaServletException(e);
+        }
+        T handler = InstanceFactory.newInstance(handlerClass, jakarta.servlet.ServletException::new);
+        adapter.bind(handler);
+        return handler;
+    }
+
+    public interface JakartaHttpUpgradeHandlerWrapper {
+        HttpUpgradeHandler toJavaxHttpUpgradeHandler();
+    }
+
+    /**
+     * Adapts a javax handler to a Jakarta container. The container instantiates this class through its public
+     * no-argument constructor when a javax servlet upgrades a request; the application's handler is bound to it
+     * before the container calls {@link #init}.
+     */
+    public static final class JakartaHttpUpgradeHandlerWrapperImpl
+            implements jakarta.servlet.http.HttpUpgradeHandler, JakartaHttpUpgradeHandlerWrapper {
+        private volatile HttpUpgradeHandler from;
+
+        public JakartaHttpUpgradeHandlerWrapperImpl() {}
+
+        public JakartaHttpUpgradeHandlerWrapperImpl(HttpUpgradeHandler from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        void bind(HttpUpgradeHandler handler) {
+            Objects.requireNonNull(handler);
+            synchronized (this) {
+                if (from != null) {
+                    throw new IllegalStateException("Upgrade handler already bound");
+                }
+                from = handler;
+            }
+        }
+
+        private HttpUpgradeHandler from() {
+            HttpUpgradeHandler handler = from;
+            if (handler == null) {
+                throw new IllegalStateException("No upgrade handler bound; was the request upgraded by the bridge?");
+            }
+            return handler;
+        }
+
+        @Override
+        public void init(jakarta.servlet.http.WebConnection wc) {
+            from().init(WebConnectionWrapper.fromJakartaWebConnection(wc));
+        }
+
+        @Override
+        public void destroy() {
+            from().destroy();
+        }
+
+        @Override
+        public HttpUpgradeHandler toJavaxHttpUpgradeHandler() {
+            return from();
+        }
+    }
+
+    public interface JavaxHttpUpgradeHandlerWrapper {
+        jakarta.servlet.http.HttpUpgradeHandler toJakartaHttpUpgradeHandler();
+    }
+
+    /**
+     * Adapts a Jakarta handler to a javax container. The container instantiates this class through its public
+     * no-argument constructor when a Jakarta servlet upgrades a request; the application's handler is bound to it
+     * before the container calls {@link #init}.
+     */
+    public static final class JavaxHttpUpgradeHandlerWrapperImpl
+            implements HttpUpgradeHandler, JavaxHttpUpgradeHandlerWrapper {
+        private volatile jakarta.servlet.http.HttpUpgradeHandler from;
+
+        public JavaxHttpUpgradeHandlerWrapperImpl() {}
+
+        public JavaxHttpUpgradeHandlerWrapperImpl(jakarta.servlet.http.HttpUpgradeHandler from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        void bind(jakarta.servlet.http.HttpUpgradeHandler handler) {
+            Objects.requireNonNull(handler);
+            synchronized (this) {
+                if (from != null) {
+                    throw new IllegalStateException("Upgrade handler already bound");
+                }
+                from = handler;
+            }
+        }
+
+        private jakarta.servlet.http.HttpUpgradeHandler from() {
+            jakarta.servlet.http.HttpUpgradeHandler handler = from;
+            if (handler == null) {
+                throw new IllegalStateException("No upgrade handler bound; was the request upgraded by the bridge?");
+            }
+            return handler;
+        }
+
+        @Override
+        public void init(WebConnection wc) {
+            from().init(WebConnectionWrapper.toJakartaWebConnection(wc));
+        }
+
+        @Override
+        public void destroy() {
+            from().destroy();
+        }
+
+        @Override
+        public jakarta.servlet.http.HttpUpgradeHandler toJakartaHttpUpgradeHandler() {
+            return from();
+        }
+    }
+}
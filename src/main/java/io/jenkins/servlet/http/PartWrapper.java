@@ -9,111 +9,151 @@ import javax.servlet.http.Part;
 public class PartWrapper {
     public static jakarta.servlet.http.Part toJakartaPart(Part from) {
         Objects.requireNonNull(from);
-        return new jakarta.servlet.http.Part() {
-            @Override
-            public InputStream getInputStream() throws IOException {
-                return from.getInputStream();
-            }
-
-            @Override
-            public String getContentType() {
-                return from.getContentType();
-            }
-
-            @Override
-            public String getName() {
-                return from.getName();
-            }
-
-            @Override
-            public String getSubmittedFileName() {
-                return from.getSubmittedFileName();
-            }
-
-            @Override
-            public long getSize() {
-                return from.getSize();
-            }
-
-            @Override
-            public void write(String fileName) throws IOException {
-                from.write(fileName);
-            }
-
-            @Override
-            public void delete() throws IOException {
-                from.delete();
-            }
-
-            @Override
-            public String getHeader(String name) {
-                return from.getHeader(name);
-            }
-
-            @Override
-            public Collection<String> getHeaders(String name) {
-                return from.getHeaders(name);
-            }
-
-            @Override
-            public Collection<String> getHeaderNames() {
-                return from.getHeaderNames();
-            }
-        };
+        if (from instanceof JavaxPartWrapper javax) {
+            return javax.toJakartaPart();
+        }
+        return new JakartaPartWrapperImpl(from);
     }
 
     public static Part fromJakartaPart(jakarta.servlet.http.Part from) {
         Objects.requireNonNull(from);
-        return new Part() {
-            @Override
-            public InputStream getInputStream() throws IOException {
-                return from.getInputStream();
-            }
-
-            @Override
-            public String getContentType() {
-                return from.getContentType();
-            }
-
-            @Override
-            public String getName() {
-                return from.getName();
-            }
-
-            @Override
-            public String getSubmittedFileName() {
-                return from.getSubmittedFileName();
-            }
-
-            @Override
-            public long getSize() {
-                return from.getSize();
-            }
-
-            @Override
-            public void write(String fileName) throws IOException {
-                from.write(fileName);
-            }
-
-            @Override
-            public void delete() throws IOException {
-                from.delete();
-            }
-
-            @Override
-            public String getHeader(String name) {
-                return from.getHeader(name);
-            }
-
-            @Override
-            public Collection<String> getHeaders(String name) {
-                return from.getHeaders(name);
-            }
-
-            @Override
-            public Collection<String> getHeaderNames() {
-                return from.getHeaderNames();
-            }
-        };
+        if (from instanceof JakartaPartWrapper jakarta) {
+            return jakarta.toJavaxPart();
+        }
+        return new JavaxPartWrapperImpl(from);
+    }
+
+    public interface JakartaPartWrapper {
+        Part toJavaxPart();
+    }
+
+    private static final class JakartaPartWrapperImpl implements jakarta.servlet.http.Part, JakartaPartWrapper {
+        private final Part from;
+
+        public JakartaPartWrapperImpl(Part from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return from.getInputStream();
+        }
+
+        @Override
+        public String getContentType() {
+            return from.getContentType();
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public String getSubmittedFileName() {
+            return from.getSubmittedFileName();
+        }
+
+        @Override
+        public long getSize() {
+            return from.getSize();
+        }
+
+        @Override
+        public void write(String fileName) throws IOException {
+            from.write(fileName);
+        }
+
+        @Override
+        public void delete() throws IOException {
+            from.delete();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return from.getHeader(name);
+        }
+
+        @Override
+        public Collection<String> getHeaders(String name) {
+            return from.getHeaders(name);
+        }
+
+        @Override
+        public Collection<String> getHeaderNames() {
+            return from.getHeaderNames();
+        }
+
+        @Override
+        public Part toJavaxPart() {
+            return from;
+        }
+    }
+
+    public interface JavaxPartWrapper {
+        jakarta.servlet.http.Part toJakartaPart();
+    }
+
+    private static final class JavaxPartWrapperImpl implements Part, JavaxPartWrapper {
+        private final jakarta.servlet.http.Part from;
+
+        public JavaxPartWrapperImpl(jakarta.servlet.http.Part from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return from.getInputStream();
+        }
+
+        @Override
+        public String getContentType() {
+            return from.getContentType();
+        }
+
+        @Override
+        public String getName() {
+            return from.getName();
+        }
+
+        @Override
+        public String getSubmittedFileName() {
+            return from.getSubmittedFileName();
+        }
+
+        @Override
+        public long getSize() {
+            return from.getSize();
+        }
+
+        @Override
+        public void write(String fileName) throws IOException {
+            from.write(fileName);
+        }
+
+        @Override
+        public void delete() throws IOException {
+            from.delete();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return from.getHeader(name);
+        }
+
+        @Override
+        public Collection<String> getHeaders(String name) {
+            return from.getHeaders(name);
+        }
+
+        @Override
+        public Collection<String> getHeaderNames() {
+            return from.getHeaderNames();
+        }
+
+        @Override
+        public jakarta.servlet.http.Part toJakartaPart() {
+            return from;
+        }
     }
 }
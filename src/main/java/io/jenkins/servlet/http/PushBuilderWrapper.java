@@ -0,0 +1,212 @@
+package io.jenkins.servlet.http;
+
+import java.util.Objects;
+import java.util.Set;
+import javax.servlet.http.PushBuilder;
+
+public class PushBuilderWrapper {
+    public static jakarta.servlet.http.PushBuilder toJakartaPushBuilder(PushBuilder from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxPushBuilderWrapper javax) {
+            return javax.toJakartaPushBuilder();
+        }
+        return new JakartaPushBuilderWrapperImpl(from);
+    }
+
+    public static PushBuilder fromJakartaPushBuilder(jakarta.servlet.http.PushBuilder from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaPushBuilderWrapper jakarta) {
+            return jakarta.toJavaxPushBuilder();
+        }
+        return new JavaxPushBuilderWrapperImpl(from);
+    }
+
+    public interface JakartaPushBuilderWrapper {
+        PushBuilder toJavaxPushBuilder();
+    }
+
+    private static final class JakartaPushBuilderWrapperImpl
+            implements jakarta.servlet.http.PushBuilder, JakartaPushBuilderWrapper {
+        private final PushBuilder from;
+
+        public JakartaPushBuilderWrapperImpl(PushBuilder from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public jakarta.servlet.http.PushBuilder method(String method) {
+            from.method(method);
+            return this;
+        }
+
+        @Override
+        public jakarta.servlet.http.PushBuilder queryString(String queryString) {
+            from.queryString(queryString);
+            return this;
+        }
+
+        @Override
+        public jakarta.servlet.http.PushBuilder sessionId(String sessionId) {
+            from.sessionId(sessionId);
+            return this;
+        }
+
+        @Override
+        public jakarta.servlet.http.PushBuilder setHeader(String name, String value) {
+            from.setHeader(name, value);
+            return this;
+        }
+
+        @Override
+        public jakarta.servlet.http.PushBuilder addHeader(String name, String value) {
+            from.addHeader(name, value);
+            return this;
+        }
+
+        @Override
+        public jakarta.servlet.http.PushBuilder removeHeader(String name) {
+            from.removeHeader(name);
+            return this;
+        }
+
+        @Override
+        public jakarta.servlet.http.PushBuilder path(String path) {
+            from.path(path);
+            return this;
+        }
+
+        @Override
+        public void push() {
+            from.push();
+        }
+
+        @Override
+        public String getMethod() {
+            return from.getMethod();
+        }
+
+        @Override
+        public String getQueryString() {
+            return from.getQueryString();
+        }
+
+        @Override
+        public String getSessionId() {
+            return from.getSessionId();
+        }
+
+        @Override
+        public Set<String> getHeaderNames() {
+            return from.getHeaderNames();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return from.getHeader(name);
+        }
+
+        @Override
+        public String getPath() {
+            return from.getPath();
+        }
+
+        @Override
+        public PushBuilder toJavaxPushBuilder() {
+            return from;
+        }
+    }
+
+    public interface JavaxPushBuilderWrapper {
+        jakarta.servlet.http.PushBuilder toJakartaPushBuilder();
+    }
+
+    private static final class JavaxPushBuilderWrapperImpl implements PushBuilder, JavaxPushBuilderWrapper {
+        private final jakarta.servlet.http.PushBuilder from;
+
+        public JavaxPushBuilderWrapperImpl(jakarta.servlet.http.PushBuilder from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public PushBuilder method(String method) {
+            from.method(method);
+            return this;
+        }
+
+        @Override
+        public PushBuilder queryString(String queryString) {
+            from.queryString(queryString);
+            return this;
+        }
+
+        @Override
+        public PushBuilder sessionId(String sessionId) {
+            from.sessionId(sessionId);
+            return this;
+        }
+
+        @Override
+        public PushBuilder setHeader(String name, String value) {
+            from.setHeader(name, value);
+            return this;
+        }
+
+        @Override
+        public PushBuilder addHeader(String name, String value) {
+            from.addHeader(name, value);
+            return this;
+        }
+
+        @Override
+        public PushBuilder removeHeader(String name) {
+            from.removeHeader(name);
+            return this;
+        }
+
+        @Override
+        public PushBuilder path(String path) {
+            from.path(path);
+            return this;
+        }
+
+        @Override
+        public void push() {
+            from.push();
+        }
+
+        @Override
+        public String getMethod() {
+            return from.getMethod();
+        }
+
+        @Override
+        public String getQueryString() {
+            return from.getQueryString();
+        }
+
+        @Override
+        public String getSessionId() {
+            return from.getSessionId();
+        }
+
+        @Override
+        public Set<String> getHeaderNames() {
+            return from.getHeaderNames();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return from.getHeader(name);
+        }
+
+        @Override
+        public String getPath() {
+            return from.getPath();
+        }
+
+        @Override
+        public jakarta.servlet.http.PushBuilder toJakartaPushBuilder() {
+            return from;
+        }
+    }
+}
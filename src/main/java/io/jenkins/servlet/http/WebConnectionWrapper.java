@@ -0,0 +1,92 @@
+package io.jenkins.servlet.http;
+
+import io.jenkins.servlet.ServletInputStreamWrapper;
+import io.jenkins.servlet.ServletOutputStreamWrapper;
+import java.io.IOException;
+import java.util.Objects;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.WebConnection;
+
+public class WebConnectionWrapper {
+    public static jakarta.servlet.http.WebConnection toJakartaWebConnection(WebConnection from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JavaxWebConnectionWrapper javax) {
+            return javax.toJakartaWebConnection();
+        }
+        return new JakartaWebConnectionWrapperImpl(from);
+    }
+
+    public static WebConnection fromJakartaWebConnection(jakarta.servlet.http.WebConnection from) {
+        Objects.requireNonNull(from);
+        if (from instanceof JakartaWebConnectionWrapper jakarta) {
+            return jakarta.toJavaxWebConnection();
+        }
+        return new JavaxWebConnectionWrapperImpl(from);
+    }
+
+    public interface JakartaWebConnectionWrapper {
+        WebConnection toJavaxWebConnection();
+    }
+
+    private static final class JakartaWebConnectionWrapperImpl
+            implements jakarta.servlet.http.WebConnection, JakartaWebConnectionWrapper {
+        private final WebConnection from;
+
+        public JakartaWebConnectionWrapperImpl(WebConnection from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public jakarta.servlet.ServletInputStream getInputStream() throws IOException {
+            return ServletInputStreamWrapper.toJakartaServletInputStream(from.getInputStream());
+        }
+
+        @Override
+        public jakarta.servlet.ServletOutputStream getOutputStream() throws IOException {
+            return ServletOutputStreamWrapper.toJakartaServletOutputStream(from.getOutputStream());
+        }
+
+        @Override
+        public void close() throws Exception {
+            from.close();
+        }
+
+        @Override
+        public WebConnection toJavaxWebConnection() {
+            return from;
+        }
+    }
+
+    public interface JavaxWebConnectionWrapper {
+        jakarta.servlet.http.WebConnection toJakartaWebConnection();
+    }
+
+    private static final class JavaxWebConnectionWrapperImpl implements WebConnection, JavaxWebConnectionWrapper {
+        private final jakarta.servlet.http.WebConnection from;
+
+        public JavaxWebConnectionWrapperImpl(jakarta.servlet.http.WebConnection from) {
+            this.from = Objects.requireNonNull(from);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            return ServletInputStreamWrapper.fromJakartaServletInputStream(from.getInputStream());
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return ServletOutputStreamWrapper.fromJakartaServletOutputStream(from.getOutputStream());
+        }
+
+        @Override
+        public void close() throws Exception {
+            from.close();
+        }
+
+        @Override
+        public jakarta.servlet.http.WebConnection toJakartaWebConnection() {
+            return from;
+        }
+    }
+}
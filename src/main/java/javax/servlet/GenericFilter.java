@@ -18,7 +18,6 @@
 package javax.servlet;
 
 import java.util.Enumeration;
-import java.util.ResourceBundle;
 
 /**
  *
@@ -46,9 +45,6 @@ import java.util.ResourceBundle;
 public abstract class GenericFilter implements Filter, FilterConfig, java.io.Serializable {
     private static final long serialVersionUID = 4060116231031076581L;
 
-    private static final String LSTRING_FILE = "javax.servlet.LocalStrings";
-    private static final ResourceBundle lStrings = ResourceBundle.getBundle(LSTRING_FILE);
-
     private transient FilterConfig config;
 
     /**
@@ -82,7 +78,7 @@ public abstract class GenericFilter implements Filter, FilterConfig, java.io.Ser
     public String getInitParameter(String name) {
         FilterConfig fc = getFilterConfig();
         if (fc == null) {
-            throw new IllegalStateException(lStrings.getString("err.filter_config_not_initialized"));
+            throw new IllegalStateException(Messages.get("err.filter_config_not_initialized"));
         }
 
         return fc.getInitParameter(name);
@@ -108,7 +104,7 @@ public abstract class GenericFilter implements Filter, FilterConfig, java.io.Ser
     public Enumeration<String> getInitParameterNames() {
         FilterConfig fc = getFilterConfig();
         if (fc == null) {
-            throw new IllegalStateException(lStrings.getString("err.filter_config_not_initialized"));
+            throw new IllegalStateException(Messages.get("err.filter_config_not_initialized"));
         }
 
         return fc.getInitParameterNames();
@@ -145,7 +141,7 @@ public abstract class GenericFilter implements Filter, FilterConfig, java.io.Ser
     public ServletContext getServletContext() {
         FilterConfig sc = getFilterConfig();
         if (sc == null) {
-            throw new IllegalStateException(lStrings.getString("err.filter_config_not_initialized"));
+            throw new IllegalStateException(Messages.get("err.filter_config_not_initialized"));
         }
 
         return sc.getServletContext();
@@ -204,7 +200,7 @@ public abstract class GenericFilter implements Filter, FilterConfig, java.io.Ser
     public String getFilterName() {
         FilterConfig sc = getFilterConfig();
         if (sc == null) {
-            throw new IllegalStateException(lStrings.getString("err.servlet_config_not_initialized"));
+            throw new IllegalStateException(Messages.get("err.servlet_config_not_initialized"));
         }
 
         return sc.getFilterName();
@@ -20,7 +20,6 @@ package javax.servlet;
 
 import java.io.IOException;
 import java.util.Enumeration;
-import java.util.ResourceBundle;
 
 /**
  *
@@ -47,9 +46,6 @@ import java.util.ResourceBundle;
 public abstract class GenericServlet implements Servlet, ServletConfig, java.io.Serializable {
     private static final long serialVersionUID = -8592279577370996712L;
 
-    private static final String LSTRING_FILE = "javax.servlet.LocalStrings";
-    private static ResourceBundle lStrings = ResourceBundle.getBundle(LSTRING_FILE);
-
     private transient ServletConfig config;
 
     /**
@@ -85,7 +81,7 @@ public abstract class GenericServlet implements Servlet, ServletConfig, java.io.
     public String getInitParameter(String name) {
         ServletConfig sc = getServletConfig();
         if (sc == null) {
-            throw new IllegalStateException(lStrings.getString("err.servlet_config_not_initialized"));
+            throw new IllegalStateException(Messages.get("err.servlet_config_not_initialized"));
         }
 
         return sc.getInitParameter(name);
@@ -108,7 +104,7 @@ public abstract class GenericServlet implements Servlet, ServletConfig, java.io.
     public Enumeration<String> getInitParameterNames() {
         ServletConfig sc = getServletConfig();
         if (sc == null) {
-            throw new IllegalStateException(lStrings.getString("err.servlet_config_not_initialized"));
+            throw new IllegalStateException(Messages.get("err.servlet_config_not_initialized"));
         }
 
         return sc.getInitParameterNames();
@@ -140,7 +136,7 @@ public abstract class GenericServlet implements Servlet, ServletConfig, java.io.
     public ServletContext getServletContext() {
         ServletConfig sc = getServletConfig();
         if (sc == null) {
-            throw new IllegalStateException(lStrings.getString("err.servlet_config_not_initialized"));
+            throw new IllegalStateException(Messages.get("err.servlet_config_not_initialized"));
         }
 
         return sc.getServletContext();
@@ -239,7 +235,7 @@ public abstract class GenericServlet implements Servlet, ServletConfig, java.io.
     public String getServletName() {
         ServletConfig sc = getServletConfig();
         if (sc == null) {
-            throw new IllegalStateException(lStrings.getString("err.servlet_config_not_initialized"));
+            throw new IllegalStateException(Messages.get("err.servlet_config_not_initialized"));
         }
 
         return sc.getServletName();
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package javax.servlet;
+
+import java.text.MessageFormat;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * The localized messages of this package. The bundle is only loaded when the first message is asked for, which is
+ * usually on an error path, and each message template is parsed once.
+ */
+// file private
+final class Messages {
+
+    private static final String LSTRING_FILE = "javax.servlet.LocalStrings";
+
+    private static final ConcurrentMap<String, MessageFormat> FORMATS = new ConcurrentHashMap<>();
+
+    private Messages() {}
+
+    private static final class Bundle {
+        static final ResourceBundle INSTANCE = ResourceBundle.getBundle(LSTRING_FILE);
+    }
+
+    // file private
+    static String get(String key) {
+        return Bundle.INSTANCE.getString(key);
+    }
+
+    // file private
+    static String format(String key, Object... args) {
+        MessageFormat format = FORMATS.computeIfAbsent(key, k -> new MessageFormat(get(k)));
+        // MessageFormat is not thread safe
+        synchronized (format) {
+            return format.format(args);
+        }
+    }
+}
@@ -21,8 +21,6 @@ package javax.servlet;
 import java.io.CharConversionException;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.text.MessageFormat;
-import java.util.ResourceBundle;
 
 /**
  * Provides an output stream for sending binary data to the client. A <code>ServletOutputStream</code> object is
@@ -40,8 +38,10 @@ import java.util.ResourceBundle;
  */
 public abstract class ServletOutputStream extends OutputStream {
 
-    private static final String LSTRING_FILE = "javax.servlet.LocalStrings";
-    private static ResourceBundle lStrings = ResourceBundle.getBundle(LSTRING_FILE);
+    private static final int CHUNK_SIZE = 8192;
+
+    // "-9223372036854775808"
+    private static final int MAX_LONG_LENGTH = 20;
 
     /**
      *
@@ -60,30 +60,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void print(String s) throws IOException {
-        if (s == null) {
-            s = "null";
-        }
-        int len = s.length();
-        byte[] out = new byte[len];
-        for (int i = 0; i < len; i++) {
-            char c = s.charAt(i);
-
-            //
-            // XXX NOTE: This is clearly incorrect for many strings,
-            // but is the only consistent approach within the current
-            // servlet framework. It must suffice until servlet output
-            // streams properly encode their output.
-            //
-            if ((c & 0xff00) != 0) { // high order byte must be zero
-                String errMsg = lStrings.getString("err.not_iso8859_1");
-                Object[] errArgs = new Object[1];
-                errArgs[0] = Character.valueOf(c);
-                errMsg = MessageFormat.format(errMsg, errArgs);
-                throw new CharConversionException(errMsg);
-            }
-            out[i] = (byte) (0xff & c);
-        }
-        write(out, 0, len);
+        printLatin1(s == null ? "null" : s, false);
     }
 
     /**
@@ -95,7 +72,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void print(boolean b) throws IOException {
-        print(lStrings.getString(b ? "value.true" : "value.false"));
+        printLatin1(b ? BooleanLiterals.TRUE : BooleanLiterals.FALSE, false);
     }
 
     /**
@@ -107,7 +84,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void print(char c) throws IOException {
-        print(String.valueOf(c));
+        printChar(c, false);
     }
 
     /**
@@ -120,7 +97,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void print(int i) throws IOException {
-        print(String.valueOf(i));
+        printLong(i, false);
     }
 
     /**
@@ -133,7 +110,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void print(long l) throws IOException {
-        print(String.valueOf(l));
+        printLong(l, false);
     }
 
     /**
@@ -147,7 +124,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void print(float f) throws IOException {
-        print(String.valueOf(f));
+        printLatin1(String.valueOf(f), false);
     }
 
     /**
@@ -160,7 +137,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void print(double d) throws IOException {
-        print(String.valueOf(d));
+        printLatin1(String.valueOf(d), false);
     }
 
     /**
@@ -172,7 +149,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void println() throws IOException {
-        print("\r\n");
+        write(new byte[] {'\r', '\n'}, 0, 2);
     }
 
     /**
@@ -185,7 +162,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void println(String s) throws IOException {
-        print(s == null ? "null\r\n" : (s + "\r\n"));
+        printLatin1(s == null ? "null" : s, true);
     }
 
     /**
@@ -199,7 +176,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void println(boolean b) throws IOException {
-        println(lStrings.getString(b ? "value.true" : "value.false"));
+        printLatin1(b ? BooleanLiterals.TRUE : BooleanLiterals.FALSE, true);
     }
 
     /**
@@ -212,7 +189,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void println(char c) throws IOException {
-        println(String.valueOf(c));
+        printChar(c, true);
     }
 
     /**
@@ -226,7 +203,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void println(int i) throws IOException {
-        println(String.valueOf(i));
+        printLong(i, true);
     }
 
     /**
@@ -240,7 +217,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void println(long l) throws IOException {
-        println(String.valueOf(l));
+        printLong(l, true);
     }
 
     /**
@@ -254,7 +231,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void println(float f) throws IOException {
-        println(String.valueOf(f));
+        printLatin1(String.valueOf(f), true);
     }
 
     /**
@@ -268,7 +245,7 @@ public abstract class ServletOutputStream extends OutputStream {
      *
      */
     public void println(double d) throws IOException {
-        println(String.valueOf(d));
+        printLatin1(String.valueOf(d), true);
     }
 
     /**
@@ -300,4 +277,74 @@ public abstract class ServletOutputStream extends OutputStream {
      * @since Servlet 3.1
      */
     public abstract void setWriteListener(WriteListener writeListener);
+
+    /*
+     * Resolved once, on the first print of a boolean.
+     */
+    private static final class BooleanLiterals {
+        static final String TRUE = Messages.get("value.true");
+        static final String FALSE = Messages.get("value.false");
+    }
+
+    /*
+     * Every array handed to write() is allocated for that call alone: a container may keep it after a Servlet 3.1
+     * non-blocking write returns, so none is ever refilled.
+     */
+    private void printLatin1(String s, boolean crlf) throws IOException {
+        int len = s.length();
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+
+            //
+            // XXX NOTE: This is clearly incorrect for many strings,
+            // but is the only consistent approach within the current
+            // servlet framework. It must suffice until servlet output
+            // streams properly encode their output.
+            //
+            if ((c & 0xff00) != 0) { // high order byte must be zero
+                throw notIso8859_1(c);
+            }
+        }
+        // long strings go out in bounded chunks rather than one array the size of the whole string
+        int total = crlf ? len + 2 : len;
+        for (int off = 0; off < total; off += CHUNK_SIZE) {
+            byte[] out = new byte[Math.min(CHUNK_SIZE, total - off)];
+            for (int j = 0; j < out.length; j++) {
+                int i = off + j;
+                out[j] = i < len ? (byte) s.charAt(i) : (byte) (i == len ? '\r' : '\n');
+            }
+            write(out, 0, out.length);
+        }
+    }
+
+    private void printChar(char c, boolean crlf) throws IOException {
+        if ((c & 0xff00) != 0) {
+            throw notIso8859_1(c);
+        }
+        byte[] out = crlf ? new byte[] {(byte) c, '\r', '\n'} : new byte[] {(byte) c};
+        write(out, 0, out.length);
+    }
+
+    private void printLong(long l, boolean crlf) throws IOException {
+        byte[] out = new byte[MAX_LONG_LENGTH + 2];
+        int pos = out.length;
+        if (crlf) {
+            out[--pos] = '\n';
+            out[--pos] = '\r';
+        }
+        // digits are taken from the negated value, which also covers Long.MIN_VALUE
+        long q = l < 0 ? l : -l;
+        do {
+            out[--pos] = (byte) ('0' - (int) (q % 10));
+            q /= 10;
+        } while (q != 0);
+        if (l < 0) {
+            out[--pos] = '-';
+        }
+        write(out, pos, out.length - pos);
+    }
+
+    private static CharConversionException notIso8859_1(char c) {
+        return new CharConversionException(Messages.format("err.not_iso8859_1", Character.valueOf(c)));
+    }
 }
@@ -21,23 +21,69 @@ package javax.servlet;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Method;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Provides a convenient implementation of the ServletRequest interface that can be subclassed by developers wishing to
  * adapt the request to a Servlet. This class implements the Wrapper or Decorator pattern. Methods default to calling
  * through to the wrapped request object.
  *
+ * <p>
+ * Filters often stack many wrappers, so that each delegated call passes through every layer. When the system property
+ * <code>javax.servlet.ServletRequestWrapper.compactChains</code> is <code>true</code>, attribute and parameter calls
+ * skip the wrappers further down the chain whose class overrides none of the methods of that group (nor
+ * {@link #getRequest}), calling the first wrapper or request that might behave differently directly. Every other
+ * method still walks the chain as before. The mode is off by default, as a wrapper that changes its behavior without
+ * overriding the methods of a group, for instance from an overridden method of another group, is bypassed as well.
+ *
  * @see javax.servlet.ServletRequest
  *
  * @since Servlet 2.3
  */
 public class ServletRequestWrapper implements ServletRequest {
 
+    private static final boolean COMPACT_CHAINS =
+            Boolean.parseBoolean(System.getProperty("javax.servlet.ServletRequestWrapper.compactChains", "false"));
+
+    /*
+     * The method groups that chain compaction applies to.
+     */
+    private static final String[][] GROUPS = {
+        {"getAttribute", "getAttributeNames", "setAttribute", "removeAttribute"},
+        {"getParameter", "getParameterNames", "getParameterValues", "getParameterMap"}
+    };
+
+    private static final int ATTRIBUTES = 0;
+    private static final int PARAMETERS = 1;
+
+    /*
+     * The wrapper classes of this API only delegate, so the search for overriding methods stops at them.
+     */
+    private static final Set<String> DELEGATING_CLASSES =
+            Set.of("javax.servlet.ServletRequestWrapper", "javax.servlet.http.HttpServletRequestWrapper");
+
+    private static final ClassValue<ChainLink> LINKS = new ClassValue<ChainLink>() {
+        @Override
+        protected ChainLink computeValue(Class<?> type) {
+            return new ChainLink(type);
+        }
+    };
+
+    /*
+     * Incremented by every setRequest, which is rare, so that a cached resolution can be checked with one read.
+     */
+    private static final AtomicInteger CHAIN_VERSION = new AtomicInteger();
+
     private ServletRequest request;
 
+    private Delegates delegates;
+
     /**
      * Creates a ServletRequest adaptor wrapping the given request object.
      *
@@ -74,6 +120,44 @@ public class ServletRequestWrapper implements ServletRequest {
             throw new IllegalArgumentException("Request cannot be null");
         }
         this.request = request;
+        if (COMPACT_CHAINS) {
+            CHAIN_VERSION.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of wrappers in the chain that starts at this wrapper, including this one. The request that
+     * the innermost wrapper wraps is not counted. This is meant for diagnosing deeply nested filter chains.
+     *
+     * @return the number of wrappers between the caller and the request supplied by the container
+     */
+    public int getChainDepth() {
+        int depth = 1;
+        for (ServletRequest r = request; r instanceof ServletRequestWrapper; r = ((ServletRequestWrapper) r).request) {
+            depth++;
+        }
+        return depth;
+    }
+
+    private ServletRequest delegate(int group) {
+        if (!COMPACT_CHAINS) {
+            return request;
+        }
+        int version = CHAIN_VERSION.get();
+        Delegates d = delegates;
+        if (d == null || d.version != version) {
+            d = new Delegates(version);
+            delegates = d;
+        }
+        ServletRequest target = d.targets[group];
+        if (target == null) {
+            target = request;
+            while (target instanceof ServletRequestWrapper && LINKS.get(target.getClass()).transparent[group]) {
+                target = ((ServletRequestWrapper) target).request;
+            }
+            d.targets[group] = target;
+        }
+        return target;
     }
 
     /**
@@ -81,7 +165,7 @@ public class ServletRequestWrapper implements ServletRequest {
      */
     @Override
     public Object getAttribute(String name) {
-        return this.request.getAttribute(name);
+        return delegate(ATTRIBUTES).getAttribute(name);
     }
 
     /**
@@ -89,7 +173,7 @@ public class ServletRequestWrapper implements ServletRequest {
      */
     @Override
     public Enumeration<String> getAttributeNames() {
-        return this.request.getAttributeNames();
+        return delegate(ATTRIBUTES).getAttributeNames();
     }
 
     /**
@@ -147,7 +231,7 @@ public class ServletRequestWrapper implements ServletRequest {
      */
     @Override
     public String getParameter(String name) {
-        return this.request.getParameter(name);
+        return delegate(PARAMETERS).getParameter(name);
     }
 
     /**
@@ -155,7 +239,7 @@ public class ServletRequestWrapper implements ServletRequest {
      */
     @Override
     public Map<String, String[]> getParameterMap() {
-        return this.request.getParameterMap();
+        return delegate(PARAMETERS).getParameterMap();
     }
 
     /**
@@ -163,7 +247,7 @@ public class ServletRequestWrapper implements ServletRequest {
      */
     @Override
     public Enumeration<String> getParameterNames() {
-        return this.request.getParameterNames();
+        return delegate(PARAMETERS).getParameterNames();
     }
 
     /**
@@ -171,7 +255,7 @@ public class ServletRequestWrapper implements ServletRequest {
      */
     @Override
     public String[] getParameterValues(String name) {
-        return this.request.getParameterValues(name);
+        return delegate(PARAMETERS).getParameterValues(name);
     }
 
     /**
@@ -236,7 +320,7 @@ public class ServletRequestWrapper implements ServletRequest {
      */
     @Override
     public void setAttribute(String name, Object o) {
-        this.request.setAttribute(name, o);
+        delegate(ATTRIBUTES).setAttribute(name, o);
     }
 
     /**
@@ -244,7 +328,7 @@ public class ServletRequestWrapper implements ServletRequest {
      */
     @Override
     public void removeAttribute(String name) {
-        this.request.removeAttribute(name);
+        delegate(ATTRIBUTES).removeAttribute(name);
     }
 
     /**
@@ -440,6 +524,9 @@ public class ServletRequestWrapper implements ServletRequest {
     /**
      * Checks (recursively) if this ServletRequestWrapper wraps the given {@link ServletRequest} instance.
      *
+     * <p>
+     * The chain is walked iteratively; a wrapper further down the chain that overrides this method is asked in turn.
+     *
      * @param wrapped the ServletRequest instance to search for
      *
      * @return true if this ServletRequestWrapper wraps the given ServletRequest instance, false otherwise
@@ -447,18 +534,26 @@ public class ServletRequestWrapper implements ServletRequest {
      * @since Servlet 3.0
      */
     public boolean isWrapperFor(ServletRequest wrapped) {
-        if (request == wrapped) {
-            return true;
-        } else if (request instanceof ServletRequestWrapper) {
-            return ((ServletRequestWrapper) request).isWrapperFor(wrapped);
-        } else {
-            return false;
+        ServletRequest r = request;
+        while (r != wrapped) {
+            if (!(r instanceof ServletRequestWrapper)) {
+                return false;
+            }
+            ServletRequestWrapper w = (ServletRequestWrapper) r;
+            if (LINKS.get(w.getClass()).overridesIsWrapperForInstance) {
+                return w.isWrapperFor(wrapped);
+            }
+            r = w.request;
         }
+        return true;
     }
 
     /**
      * Checks (recursively) if this ServletRequestWrapper wraps a {@link ServletRequest} of the given class type.
      *
+     * <p>
+     * The chain is walked iteratively; a wrapper further down the chain that overrides this method is asked in turn.
+     *
      * @param wrappedType the ServletRequest class type to search for
      *
      * @return true if this ServletRequestWrapper wraps a ServletRequest of the given class type, false otherwise
@@ -472,13 +567,18 @@ public class ServletRequestWrapper implements ServletRequest {
             throw new IllegalArgumentException("Given class " + wrappedType.getName() + " not a subinterface of "
                     + ServletRequest.class.getName());
         }
-        if (wrappedType.isAssignableFrom(request.getClass())) {
-            return true;
-        } else if (request instanceof ServletRequestWrapper) {
-            return ((ServletRequestWrapper) request).isWrapperFor(wrappedType);
-        } else {
-            return false;
+        ServletRequest r = request;
+        while (!wrappedType.isAssignableFrom(r.getClass())) {
+            if (!(r instanceof ServletRequestWrapper)) {
+                return false;
+            }
+            ServletRequestWrapper w = (ServletRequestWrapper) r;
+            if (LINKS.get(w.getClass()).overridesIsWrapperForType) {
+                return w.isWrapperFor(wrappedType);
+            }
+            r = w.request;
         }
+        return true;
     }
 
     /**
@@ -494,4 +594,50 @@ public class ServletRequestWrapper implements ServletRequest {
     public DispatcherType getDispatcherType() {
         return request.getDispatcherType();
     }
+
+    /*
+     * What walking the chain needs to know about a wrapper class: the groups it leaves alone, and whether it has its
+     * own idea of isWrapperFor.
+     */
+    private static final class ChainLink {
+        final boolean[] transparent = new boolean[GROUPS.length];
+        final boolean overridesIsWrapperForInstance;
+        final boolean overridesIsWrapperForType;
+
+        ChainLink(Class<?> type) {
+            Set<String> overridden = new HashSet<>();
+            boolean instance = false;
+            boolean byType = false;
+            for (Class<?> c = type; c != null && !DELEGATING_CLASSES.contains(c.getName()); c = c.getSuperclass()) {
+                for (Method m : c.getDeclaredMethods()) {
+                    overridden.add(m.getName());
+                    if (m.getName().equals("isWrapperFor") && m.getParameterCount() == 1) {
+                        if (m.getParameterTypes()[0] == ServletRequest.class) {
+                            instance = true;
+                        } else if (m.getParameterTypes()[0] == Class.class) {
+                            byType = true;
+                        }
+                    }
+                }
+            }
+            for (int group = 0; group < GROUPS.length; group++) {
+                boolean untouched = !overridden.contains("getRequest");
+                for (String method : GROUPS[group]) {
+                    untouched &= !overridden.contains(method);
+                }
+                transparent[group] = untouched;
+            }
+            overridesIsWrapperForInstance = instance;
+            overridesIsWrapperForType = byType;
+        }
+    }
+
+    private static final class Delegates {
+        final int version;
+        final ServletRequest[] targets = new ServletRequest[GROUPS.length];
+
+        Delegates(int version) {
+            this.version = version;
+        }
+    }
 }
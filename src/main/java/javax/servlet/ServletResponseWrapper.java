@@ -20,6 +20,7 @@ package javax.servlet;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.lang.reflect.Method;
 import java.util.Locale;
 
 /**
@@ -34,6 +35,30 @@ import java.util.Locale;
  * @see javax.servlet.ServletResponse
  */
 public class ServletResponseWrapper implements ServletResponse {
+
+    /*
+     * For each wrapper class, whether it overrides isWrapperFor(ServletResponse) and isWrapperFor(Class), in that
+     * order.
+     */
+    private static final ClassValue<boolean[]> OVERRIDES_IS_WRAPPER_FOR = new ClassValue<boolean[]>() {
+        @Override
+        protected boolean[] computeValue(Class<?> type) {
+            boolean[] overrides = new boolean[2];
+            for (Class<?> c = type; c != ServletResponseWrapper.class; c = c.getSuperclass()) {
+                for (Method m : c.getDeclaredMethods()) {
+                    if (m.getName().equals("isWrapperFor") && m.getParameterCount() == 1) {
+                        if (m.getParameterTypes()[0] == ServletResponse.class) {
+                            overrides[0] = true;
+                        } else if (m.getParameterTypes()[0] == Class.class) {
+                            overrides[1] = true;
+                        }
+                    }
+                }
+            }
+            return overrides;
+        }
+    };
+
     private ServletResponse response;
 
     /**
@@ -73,6 +98,22 @@ public class ServletResponseWrapper implements ServletResponse {
         this.response = response;
     }
 
+    /**
+     * Returns the number of wrappers in the chain that starts at this wrapper, including this one. The response that
+     * the innermost wrapper wraps is not counted. This is meant for diagnosing deeply nested filter chains.
+     *
+     * @return the number of wrappers between the caller and the response supplied by the container
+     */
+    public int getChainDepth() {
+        int depth = 1;
+        for (ServletResponse r = response;
+                r instanceof ServletResponseWrapper;
+                r = ((ServletResponseWrapper) r).response) {
+            depth++;
+        }
+        return depth;
+    }
+
     /**
      * The default behavior of this method is to call setCharacterEncoding(String charset) on the wrapped response
      * object.
@@ -209,6 +250,9 @@ public class ServletResponseWrapper implements ServletResponse {
     /**
      * Checks (recursively) if this ServletResponseWrapper wraps the given {@link ServletResponse} instance.
      *
+     * <p>
+     * The chain is walked iteratively; a wrapper further down the chain that overrides this method is asked in turn.
+     *
      * @param wrapped the ServletResponse instance to search for
      *
      * @return true if this ServletResponseWrapper wraps the given ServletResponse instance, false otherwise
@@ -216,18 +260,26 @@ public class ServletResponseWrapper implements ServletResponse {
      * @since Servlet 3.0
      */
     public boolean isWrapperFor(ServletResponse wrapped) {
-        if (response == wrapped) {
-            return true;
-        } else if (response instanceof ServletResponseWrapper) {
-            return ((ServletResponseWrapper) response).isWrapperFor(wrapped);
-        } else {
-            return false;
+        ServletResponse r = response;
+        while (r != wrapped) {
+            if (!(r instanceof ServletResponseWrapper)) {
+                return false;
+            }
+            ServletResponseWrapper w = (ServletResponseWrapper) r;
+            if (OVERRIDES_IS_WRAPPER_FOR.get(w.getClass())[0]) {
+                return w.isWrapperFor(wrapped);
+            }
+            r = w.response;
         }
+        return true;
     }
 
     /**
      * Checks (recursively) if this ServletResponseWrapper wraps a {@link ServletResponse} of the given class type.
      *
+     * <p>
+     * The chain is walked iteratively; a wrapper further down the chain that overrides this method is asked in turn.
+     *
      * @param wrappedType the ServletResponse class type to search for
      *
      * @return true if this ServletResponseWrapper wraps a ServletResponse of the given class type, false otherwise
@@ -241,12 +293,17 @@ public class ServletResponseWrapper implements ServletResponse {
             throw new IllegalArgumentException("Given class " + wrappedType.getName() + " not a subinterface of "
                     + ServletResponse.class.getName());
         }
-        if (wrappedType.isAssignableFrom(response.getClass())) {
-            return true;
-        } else if (response instanceof ServletResponseWrapper) {
-            return ((ServletResponseWrapper) response).isWrapperFor(wrappedType);
-        } else {
-            return false;
+        ServletResponse r = response;
+        while (!wrappedType.isAssignableFrom(r.getClass())) {
+            if (!(r instanceof ServletResponseWrapper)) {
+                return false;
+            }
+            ServletResponseWrapper w = (ServletResponseWrapper) r;
+            if (OVERRIDES_IS_WRAPPER_FOR.get(w.getClass())[1]) {
+                return w.isWrapperFor(wrappedType);
+            }
+            r = w.response;
         }
+        return true;
     }
 }
@@ -19,9 +19,7 @@
 package javax.servlet.http;
 
 import java.io.Serializable;
-import java.text.MessageFormat;
 import java.util.Locale;
-import java.util.ResourceBundle;
 
 /**
  *
@@ -58,21 +56,6 @@ public class Cookie implements Cloneable, Serializable {
 
     private static final long serialVersionUID = -6454587001725327448L;
 
-    private static final String TSPECIALS;
-
-    private static final String LSTRING_FILE = "javax.servlet.http.LocalStrings";
-
-    private static ResourceBundle lStrings = ResourceBundle.getBundle(LSTRING_FILE);
-
-    static {
-        if (Boolean.valueOf(System.getProperty("org.glassfish.web.rfc2109_cookie_names_enforced", "true"))
-                .booleanValue()) {
-            TSPECIALS = "/()<>@,;:\\\"[]?={} \t";
-        } else {
-            TSPECIALS = ",; ";
-        }
-    }
-
     //
     // The value of the cookie itself.
     //
@@ -124,26 +107,10 @@ public class Cookie implements Cloneable, Serializable {
      */
     public Cookie(String name, String value) {
         if (name == null || name.isEmpty()) {
-            throw new IllegalArgumentException(lStrings.getString("err.cookie_name_blank"));
+            throw new IllegalArgumentException(Messages.get("err.cookie_name_blank"));
         }
-        if (!isToken(name)
-                || name.equalsIgnoreCase("Comment")
-                || // rfc2019
-                name.equalsIgnoreCase("Discard")
-                || // 2019++
-                name.equalsIgnoreCase("Domain")
-                || name.equalsIgnoreCase("Expires")
-                || // (old cookies)
-                name.equalsIgnoreCase("Max-Age")
-                || // rfc2019
-                name.equalsIgnoreCase("Path")
-                || name.equalsIgnoreCase("Secure")
-                || name.equalsIgnoreCase("Version")
-                || name.startsWith("$")) {
-            String errMsg = lStrings.getString("err.cookie_name_is_token");
-            Object[] errArgs = new Object[1];
-            errArgs[0] = name;
-            errMsg = MessageFormat.format(errMsg, errArgs);
+        if (!CookieCodec.getDefault().isValidName(name) || CookieCodec.isReservedName(name, 0, name.length())) {
+            String errMsg = Messages.format("err.cookie_name_is_token", name);
             throw new IllegalArgumentException(errMsg);
         }
 
@@ -151,6 +118,16 @@ public class Cookie implements Cloneable, Serializable {
         this.value = value;
     }
 
+    /*
+     * For CookieCodec, which has already checked the name under its own mode rather than the default one. The codec
+     * argument only sets this constructor apart from the public one.
+     */
+    // file private
+    Cookie(String name, String value, CookieCodec checkedBy) {
+        this.name = name;
+        this.value = value;
+    }
+
     /**
      * Specifies a comment that describes a cookie's purpose. The comment is useful if the browser presents the cookie
      * to the user. Comments are not supported by Netscape Version 0 cookies.
@@ -370,25 +347,6 @@ public class Cookie implements Cloneable, Serializable {
         version = v;
     }
 
-    /*
-     * Tests a string and returns true if the string counts as a reserved token in the Java language.
-     *
-     * @param value the <code>String</code> to be tested
-     *
-     * @return <code>true</code> if the <code>String</code> is a reserved token; <code>false</code> otherwise
-     */
-    private boolean isToken(String value) {
-        int len = value.length();
-        for (int i = 0; i < len; i++) {
-            char c = value.charAt(i);
-            if (c < 0x20 || c >= 0x7f || TSPECIALS.indexOf(c) != -1) {
-                return false;
-            }
-        }
-
-        return true;
-    }
-
     /**
      * Overrides the standard <code>java.lang.Object.clone</code> method to return a copy of this Cookie.
      */
@@ -0,0 +1,550 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package javax.servlet.http;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Parses <code>Cookie</code> request headers and formats <code>Set-Cookie</code> response headers.
+ *
+ * <p>
+ * A codec works in one of two modes:
+ *
+ * <ul>
+ * <li>RFC 6265: cookie pairs are separated by semicolons, values are passed through as sent, and <code>Set-Cookie</code>
+ * values must consist of RFC 6265 cookie-octets, optionally wrapped in double quotes. Names follow the original
+ * Netscape specification: anything but control characters, spaces, commas and semicolons.
+ * <li>RFC 2109: pairs may also be separated by commas, names must be RFC 2616 tokens, quoted values are unquoted, and
+ * <code>$Version</code>, <code>$Path</code> and <code>$Domain</code> attributes are applied. Version 1 cookies are
+ * formatted with quoted values and the <code>Version</code>, <code>Comment</code> and <code>Max-Age</code>
+ * attributes; version 0 cookies in the Netscape style, with values free of spaces, commas and semicolons.
+ * </ul>
+ *
+ * <p>
+ * In either mode, a <code>Domain</code> or <code>Path</code> that would end the attribute it is sent in is refused.
+ *
+ * <p>
+ * The default mode is selected by the <code>org.glassfish.web.rfc2109_cookie_names_enforced</code> system property,
+ * which also decides which names the {@link Cookie} constructor accepts: RFC 2109 unless the property is
+ * <code>false</code>.
+ *
+ * <p>
+ * Codecs are immutable and may be shared by concurrent threads.
+ *
+ * @see Cookie
+ */
+public final class CookieCodec {
+
+    /*
+     * Character classes of the US-ASCII characters; everything at or above 0x80 belongs to none of them.
+     */
+    private static final byte TOKEN = 1; // RFC 2616 token
+    private static final byte NETSCAPE_NAME = 2; // anything printable but ",; "
+    private static final byte COOKIE_OCTET = 4; // RFC 6265 cookie-octet
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (int c = 0x20; c < 0x7f; c++) {
+            byte classes = 0;
+            if (c != ' ' && "()<>@,;:\\\"/[]?={}".indexOf(c) == -1) {
+                classes |= TOKEN;
+            }
+            if (c != ' ' && c != ',' && c != ';') {
+                classes |= NETSCAPE_NAME;
+            }
+            if (c != ' ' && c != '"' && c != ',' && c != ';' && c != '\\') {
+                classes |= COOKIE_OCTET;
+            }
+            CLASSES[c] = classes;
+        }
+    }
+
+    private static final CookieCodec RFC6265 = new CookieCodec(false);
+    private static final CookieCodec RFC2109 = new CookieCodec(true);
+    private static final CookieCodec DEFAULT =
+            Boolean.parseBoolean(System.getProperty("org.glassfish.web.rfc2109_cookie_names_enforced", "true"))
+                    ? RFC2109
+                    : RFC6265;
+
+    private static final String[] DAYS = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+    private static final String[] MONTHS = {
+        "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
+    };
+
+    private final boolean rfc2109;
+
+    private CookieCodec(boolean rfc2109) {
+        this.rfc2109 = rfc2109;
+    }
+
+    /**
+     * Returns the codec for the mode selected by the <code>org.glassfish.web.rfc2109_cookie_names_enforced</code>
+     * system property.
+     *
+     * @return the default codec
+     */
+    public static CookieCodec getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the codec for RFC 6265 cookies.
+     *
+     * @return the RFC 6265 codec
+     */
+    public static CookieCodec rfc6265() {
+        return RFC6265;
+    }
+
+    /**
+     * Returns the codec for RFC 2109 cookies.
+     *
+     * @return the RFC 2109 codec
+     */
+    public static CookieCodec rfc2109() {
+        return RFC2109;
+    }
+
+    /**
+     * Tests whether a string may be used as a cookie name in this mode. Names reserved for cookie attributes are not
+     * checked here.
+     *
+     * @param name the name to test
+     *
+     * @return <code>true</code> if every character of <code>name</code> is allowed in a cookie name
+     */
+    public boolean isValidName(String name) {
+        return isValidName(name, 0, name.length());
+    }
+
+    /**
+     * Tests whether a string can be sent as the value of a <code>Set-Cookie</code> header in this mode without
+     * quoting.
+     *
+     * @param value the value to test
+     *
+     * @return <code>true</code> if <code>value</code> is an RFC 6265 cookie-value, that is cookie-octets optionally
+     *         wrapped in double quotes, or consists of RFC 2616 token characters in RFC 2109 mode
+     */
+    public boolean isValidValue(String value) {
+        return rfc2109 ? is(value, 0, value.length(), TOKEN) : isCookieValue(value);
+    }
+
+    /*
+     * cookie-value = *cookie-octet / ( DQUOTE *cookie-octet DQUOTE )
+     */
+    private static boolean isCookieValue(String value) {
+        int len = value.length();
+        if (len >= 2 && value.charAt(0) == '"' && value.charAt(len - 1) == '"') {
+            return is(value, 1, len - 1, COOKIE_OCTET);
+        }
+        return is(value, 0, len, COOKIE_OCTET);
+    }
+
+    private boolean isValidName(String s, int start, int end) {
+        return is(s, start, end, rfc2109 ? TOKEN : NETSCAPE_NAME);
+    }
+
+    /*
+     * The names the Cookie constructor has always refused, whatever the mode: cookie attributes and anything starting
+     * with '$'.
+     */
+    // file private
+    static boolean isReservedName(String s, int start, int end) {
+        return (end > start && s.charAt(start) == '$')
+                || is(s, start, end, "Comment") // rfc2019
+                || is(s, start, end, "Discard") // 2019++
+                || is(s, start, end, "Domain")
+                || is(s, start, end, "Expires") // (old cookies)
+                || is(s, start, end, "Max-Age") // rfc2019
+                || is(s, start, end, "Path")
+                || is(s, start, end, "Secure")
+                || is(s, start, end, "Version");
+    }
+
+    private boolean isCookieName(String s, int start, int end) {
+        return isValidName(s, start, end) && !isReservedName(s, start, end);
+    }
+
+    private static boolean is(String s, int start, int end, String attribute) {
+        return end - start == attribute.length() && s.regionMatches(true, start, attribute, 0, end - start);
+    }
+
+    private static boolean is(String s, int start, int end, byte cls) {
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80 || (CLASSES[c] & cls) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Prepares a <code>Cookie</code> request header for reading. Nothing is parsed until the returned object is
+     * queried.
+     *
+     * @param header the value of the header, or <code>null</code>
+     *
+     * @return the cookies sent in the header
+     */
+    public CookieHeader parse(String header) {
+        return new CookieHeader(this, header == null ? new String[0] : new String[] {header});
+    }
+
+    /**
+     * Prepares all <code>Cookie</code> request headers of a request, as returned by
+     * {@link HttpServletRequest#getHeaders}, for reading. Nothing is parsed until the returned object is queried.
+     *
+     * @param headers the values of the headers, or <code>null</code>
+     *
+     * @return the cookies sent in the headers
+     */
+    public CookieHeader parse(Enumeration<String> headers) {
+        List<String> values = new ArrayList<>(1);
+        while (headers != null && headers.hasMoreElements()) {
+            String header = headers.nextElement();
+            if (header != null) {
+                values.add(header);
+            }
+        }
+        return new CookieHeader(this, values.toArray(new String[0]));
+    }
+
+    /**
+     * Formats a cookie as the value of a <code>Set-Cookie</code> response header.
+     *
+     * @param cookie the cookie to format
+     *
+     * @return the header value
+     *
+     * @exception IllegalArgumentException if the cookie's value, domain or path cannot be sent in this mode
+     */
+    public String format(Cookie cookie) {
+        return format(cookie, new StringBuilder(64)).toString();
+    }
+
+    /**
+     * Appends a cookie, formatted as the value of a <code>Set-Cookie</code> response header, to a buffer. Callers that
+     * set many cookies can reuse one buffer for all of them.
+     *
+     * @param cookie the cookie to format
+     *
+     * @param sb     the buffer to append to
+     *
+     * @return <code>sb</code>
+     *
+     * @exception IllegalArgumentException if the cookie's value, domain or path cannot be sent in this mode
+     */
+    public StringBuilder format(Cookie cookie, StringBuilder sb) {
+        String value = cookie.getValue();
+        if (value == null) {
+            value = "";
+        }
+        boolean version1 = rfc2109 && cookie.getVersion() > 0;
+        sb.append(cookie.getName()).append('=');
+        if (version1) {
+            appendValue(value, sb);
+            sb.append("; Version=1");
+            if (cookie.getComment() != null) {
+                sb.append("; Comment=");
+                appendQuoted(cookie.getComment(), sb);
+            }
+        } else {
+            // a Netscape-style value is sent as is, so it must not end the pair
+            if (rfc2109 ? !is(value, 0, value.length(), NETSCAPE_NAME) : !isCookieValue(value)) {
+                throw new IllegalArgumentException(Messages.format("err.cookie_value_invalid", value));
+            }
+            sb.append(value);
+        }
+        int maxAge = cookie.getMaxAge();
+        if (maxAge >= 0) {
+            if (version1) {
+                sb.append("; Max-Age=").append(maxAge);
+            } else {
+                if (!rfc2109) {
+                    sb.append("; Max-Age=").append(maxAge);
+                }
+                sb.append("; Expires=");
+                // Some browsers choke on an expiry at the epoch itself
+                appendHttpDate(maxAge == 0 ? 10000 : System.currentTimeMillis() + maxAge * 1000L, sb);
+            }
+        }
+        if (cookie.getDomain() != null) {
+            appendAttribute("Domain", cookie.getDomain(), sb);
+        }
+        if (cookie.getPath() != null) {
+            appendAttribute("Path", cookie.getPath(), sb);
+        }
+        if (cookie.getSecure()) {
+            sb.append("; Secure");
+        }
+        if (cookie.isHttpOnly()) {
+            sb.append("; HttpOnly");
+        }
+        return sb;
+    }
+
+    /*
+     * An attribute value is sent as is, so it must not end the attribute or, in RFC 2109 mode, the cookie.
+     */
+    private void appendAttribute(String attribute, String value, StringBuilder sb) {
+        for (int i = 0, len = value.length(); i < len; i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == 0x7f || c == ';' || (rfc2109 && c == ',')) {
+                throw new IllegalArgumentException(Messages.format("err.cookie_attribute_invalid", attribute, value));
+            }
+        }
+        sb.append("; ").append(attribute).append('=').append(value);
+    }
+
+    private static void appendValue(String value, StringBuilder sb) {
+        if (!value.isEmpty() && is(value, 0, value.length(), TOKEN)) {
+            sb.append(value);
+        } else {
+            appendQuoted(value, sb);
+        }
+    }
+
+    private static void appendQuoted(String value, StringBuilder sb) {
+        sb.append('"');
+        for (int i = 0, len = value.length(); i < len; i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+
+    /*
+     * The IMF-fixdate of RFC 7231, which Netscape-style Expires attributes are also read as.
+     */
+    private static void appendHttpDate(long millis, StringBuilder sb) {
+        LocalDateTime t = LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000L), 0, ZoneOffset.UTC);
+        sb.append(DAYS[t.getDayOfWeek().ordinal()]).append(", ");
+        appendTwoDigits(t.getDayOfMonth(), sb);
+        sb.append(' ')
+                .append(MONTHS[t.getMonthValue() - 1])
+                .append(' ')
+                .append(t.getYear())
+                .append(' ');
+        appendTwoDigits(t.getHour(), sb);
+        sb.append(':');
+        appendTwoDigits(t.getMinute(), sb);
+        sb.append(':');
+        appendTwoDigits(t.getSecond(), sb);
+        sb.append(" GMT");
+    }
+
+    private static void appendTwoDigits(int n, StringBuilder sb) {
+        sb.append((char) ('0' + n / 10)).append((char) ('0' + n % 10));
+    }
+
+    private boolean isSeparator(char c) {
+        return c == ';' || (rfc2109 && c == ',');
+    }
+
+    /*
+     * Finds the next name=value pair at or after pos, storing the bounds of the name and value in bounds, and returns
+     * the position after it, or -1 if there is none. The value bounds include the quotes of a quoted value.
+     */
+    private int next(String header, int pos, int[] bounds) {
+        int len = header.length();
+        while (true) {
+            while (pos < len && (isSeparator(header.charAt(pos)) || isWhitespace(header.charAt(pos)))) {
+                pos++;
+            }
+            if (pos >= len) {
+                return -1;
+            }
+            int nameStart = pos;
+            while (pos < len && header.charAt(pos) != '=' && !isSeparator(header.charAt(pos))) {
+                pos++;
+            }
+            int nameEnd = trimEnd(header, nameStart, pos);
+            if (pos >= len || header.charAt(pos) != '=') {
+                // no value: not a cookie
+                continue;
+            }
+            pos++;
+            while (pos < len && isWhitespace(header.charAt(pos))) {
+                pos++;
+            }
+            int valueStart = pos;
+            int valueEnd;
+            if (pos < len && header.charAt(pos) == '"') {
+                pos++;
+                while (pos < len && header.charAt(pos) != '"') {
+                    if (rfc2109 && header.charAt(pos) == '\\' && pos + 1 < len) {
+                        pos++;
+                    }
+                    pos++;
+                }
+                if (pos < len) {
+                    pos++;
+                }
+                valueEnd = pos;
+                while (pos < len && !isSeparator(header.charAt(pos))) {
+                    pos++;
+                }
+            } else {
+                while (pos < len && !isSeparator(header.charAt(pos))) {
+                    pos++;
+                }
+                valueEnd = trimEnd(header, valueStart, pos);
+            }
+            if (nameEnd == nameStart || hasControl(header, valueStart, valueEnd)) {
+                continue;
+            }
+            bounds[0] = nameStart;
+            bounds[1] = nameEnd;
+            bounds[2] = valueStart;
+            bounds[3] = valueEnd;
+            return pos;
+        }
+    }
+
+    private String value(String header, int start, int end) {
+        if (!rfc2109 || end - start < 2 || header.charAt(start) != '"' || header.charAt(end - 1) != '"') {
+            return header.substring(start, end);
+        }
+        int backslash = header.indexOf('\\', start + 1);
+        if (backslash == -1 || backslash >= end - 1) {
+            return header.substring(start + 1, end - 1);
+        }
+        StringBuilder sb = new StringBuilder(end - start);
+        for (int i = start + 1; i < end - 1; i++) {
+            char c = header.charAt(i);
+            if (c == '\\' && i + 1 < end - 1) {
+                c = header.charAt(++i);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    private static int trimEnd(String s, int start, int end) {
+        while (end > start && isWhitespace(s.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean hasControl(String s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < 0x20 || c == 0x7f) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The cookies sent in one or more <code>Cookie</code> request headers. The headers are scanned in place: looking
+     * up a single cookie by name creates no <code>Cookie</code> objects, and {@link #getCookies} creates them only on
+     * its first call.
+     *
+     * <p>
+     * Pairs whose name is not valid for the codec's mode, or is reserved by {@link Cookie}, are skipped. Instances are
+     * not safe for use by concurrent threads.
+     */
+    public static final class CookieHeader {
+        private final CookieCodec codec;
+        private final String[] headers;
+        private final int[] bounds = new int[4];
+        private Cookie[] cookies;
+
+        private CookieHeader(CookieCodec codec, String[] headers) {
+            this.codec = codec;
+            this.headers = headers;
+        }
+
+        /**
+         * Returns the value of the first cookie with the given name.
+         *
+         * @param name the name of the cookie
+         *
+         * @return the value, or <code>null</code> if no such cookie was sent
+         */
+        public String getValue(String name) {
+            for (String header : headers) {
+                for (int pos = 0; (pos = codec.next(header, pos, bounds)) != -1; ) {
+                    int nameLength = bounds[1] - bounds[0];
+                    if (nameLength == name.length()
+                            && header.regionMatches(bounds[0], name, 0, nameLength)
+                            && codec.isCookieName(header, bounds[0], bounds[1])) {
+                        return codec.value(header, bounds[2], bounds[3]);
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the cookies, in the order they were sent. The array is created on the first call and returned by
+         * every later one.
+         *
+         * @return the cookies, or an empty array if none were sent
+         */
+        public Cookie[] getCookies() {
+            if (cookies == null) {
+                cookies = parse();
+            }
+            return cookies;
+        }
+
+        private Cookie[] parse() {
+            List<Cookie> list = new ArrayList<>();
+            int version = 0;
+            for (String header : headers) {
+                Cookie last = null;
+                for (int pos = 0; (pos = codec.next(header, pos, bounds)) != -1; ) {
+                    int nameStart = bounds[0];
+                    int nameEnd = bounds[1];
+                    String value = codec.value(header, bounds[2], bounds[3]);
+                    if (codec.rfc2109 && header.charAt(nameStart) == '$') {
+                        if (is(header, nameStart, nameEnd, "$Version")) {
+                            version = value.equals("1") ? 1 : 0;
+                        } else if (last != null && is(header, nameStart, nameEnd, "$Path")) {
+                            last.setPath(value);
+                        } else if (last != null && is(header, nameStart, nameEnd, "$Domain")) {
+                            last.setDomain(value);
+                        }
+                        continue;
+                    }
+                    if (!codec.isCookieName(header, nameStart, nameEnd)) {
+                        last = null;
+                        continue;
+                    }
+                    last = new Cookie(header.substring(nameStart, nameEnd), value, codec);
+                    last.setVersion(version);
+                    list.add(last);
+                }
+            }
+            return list.toArray(new Cookie[0]);
+        }
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package javax.servlet.http;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Decodes <code>application/x-www-form-urlencoded</code> data, such as a query string or the body of an HTML form
+ * submitted with the POST method, into {@link FormParameters}.
+ *
+ * <p>
+ * The data is decoded in a single pass as it is read: + characters become spaces, and each run of <i>%xx</i> escapes
+ * is decoded as bytes in the decoder's charset. An escape that is cut short by the end of a name or value is kept
+ * as is. A pair without an = character has an empty value.
+ *
+ * <p>
+ * To bound the memory a client can make the server use, the decoder rejects data with more than a maximum number of
+ * parameters or more than a maximum number of characters (or bytes, for binary input). A negative maximum means no
+ * limit.
+ *
+ * <p>
+ * A <code>FormDecoder</code> holds no state between calls and may be shared by concurrent threads.
+ */
+public final class FormDecoder {
+
+    /**
+     * The default maximum number of parameters.
+     */
+    public static final int DEFAULT_MAX_PARAMETER_COUNT = 10000;
+
+    /**
+     * The default maximum size, in characters or bytes, of the data to decode.
+     */
+    public static final int DEFAULT_MAX_FORM_SIZE = 2 * 1024 * 1024;
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final Charset charset;
+    private final boolean asciiCompatible;
+    private final int maxParameterCount;
+    private final long maxFormSize;
+    private final boolean requireEquals;
+
+    /**
+     * Creates a decoder for the given charset with the default limits.
+     *
+     * @param charset the charset that <i>%xx</i> escapes are encoded in
+     */
+    public FormDecoder(Charset charset) {
+        this(charset, DEFAULT_MAX_PARAMETER_COUNT, DEFAULT_MAX_FORM_SIZE);
+    }
+
+    /**
+     * Creates a decoder for the given charset and limits.
+     *
+     * @param charset           the charset that <i>%xx</i> escapes are encoded in
+     *
+     * @param maxParameterCount the maximum number of name-value pairs, or a negative number for no limit
+     *
+     * @param maxFormSize       the maximum size of the data in characters or bytes, or a negative number for no limit
+     */
+    public FormDecoder(Charset charset, int maxParameterCount, long maxFormSize) {
+        this(charset, maxParameterCount, maxFormSize, false);
+    }
+
+    /*
+     * HttpUtils has always rejected pairs without an =.
+     */
+    // file private
+    FormDecoder(Charset charset, int maxParameterCount, long maxFormSize, boolean requireEquals) {
+        this.charset = Objects.requireNonNull(charset);
+        String probe = "azAZ09&=+%";
+        this.asciiCompatible = Arrays.equals(probe.getBytes(charset), probe.getBytes(StandardCharsets.US_ASCII));
+        this.maxParameterCount = maxParameterCount;
+        this.maxFormSize = maxFormSize;
+        this.requireEquals = requireEquals;
+    }
+
+    /**
+     * Decodes form data held as characters, such as a query string.
+     *
+     * @param data the data to decode
+     *
+     * @return the decoded parameters
+     *
+     * @exception IllegalArgumentException if the data is malformed or exceeds one of the limits
+     */
+    public FormParameters decode(CharSequence data) {
+        checkSize(data.length());
+        Parser parser = new Parser(false);
+        for (int i = 0, len = data.length(); i < len; i++) {
+            parser.accept(data.charAt(i));
+        }
+        return parser.finish();
+    }
+
+    /**
+     * Decodes the remaining bytes of a buffer. The position of the buffer is not changed.
+     *
+     * @param data the data to decode
+     *
+     * @return the decoded parameters
+     *
+     * @exception IllegalArgumentException if the data is malformed or exceeds one of the limits
+     */
+    public FormParameters decode(ByteBuffer data) {
+        checkSize(data.remaining());
+        Parser parser = new Parser(true);
+        for (int i = data.position(), limit = data.limit(); i < limit; i++) {
+            parser.accept(data.get(i) & 0xff);
+        }
+        return parser.finish();
+    }
+
+    /**
+     * Decodes form data read from a stream, such as a {@link javax.servlet.ServletInputStream}. The data is decoded as
+     * it is read, so at no point is the whole of it held in memory. The stream is not closed.
+     *
+     * @param in     the stream to read from
+     *
+     * @param length the number of bytes to read, or a negative number to read until the end of the stream
+     *
+     * @return the decoded parameters
+     *
+     * @exception IOException              if the stream cannot be read, or ends before <code>length</code> bytes have
+     *                                     been read
+     *
+     * @exception IllegalArgumentException if the data is malformed or exceeds one of the limits
+     */
+    public FormParameters decode(InputStream in, long length) throws IOException {
+        checkSize(length);
+        Parser parser = new Parser(true);
+        byte[] buf = new byte[length >= 0 ? (int) Math.min(length, READ_BUFFER_SIZE) : READ_BUFFER_SIZE];
+        long remaining = length;
+        while (length < 0 || remaining > 0) {
+            int n = in.read(buf, 0, length < 0 ? buf.length : (int) Math.min(buf.length, remaining));
+            if (n <= 0) {
+                if (length >= 0) {
+                    throw new EOFException(Messages.get("err.io.short_read"));
+                }
+                break;
+            }
+            for (int i = 0; i < n; i++) {
+                parser.accept(buf[i] & 0xff);
+            }
+            remaining -= n;
+        }
+        return parser.finish();
+    }
+
+    private void checkSize(long size) {
+        if (maxFormSize >= 0 && size > maxFormSize) {
+            throw tooLarge();
+        }
+    }
+
+    private IllegalArgumentException tooLarge() {
+        return new IllegalArgumentException(Messages.format("err.form.too_large", maxFormSize));
+    }
+
+    private static int hexValue(int unit) {
+        if (unit >= '0' && unit <= '9') {
+            return unit - '0';
+        }
+        if (unit >= 'a' && unit <= 'f') {
+            return unit - 'a' + 10;
+        }
+        if (unit >= 'A' && unit <= 'F') {
+            return unit - 'A' + 10;
+        }
+        return -1;
+    }
+
+    /*
+     * The state of one decode call. A name or value is gathered as bytes, which the charset turns into a String once
+     * it is complete; only characters that have no byte form yet (non-ASCII characters of character input) go through
+     * the StringBuilder.
+     */
+    private final class Parser {
+        private final boolean binary;
+        private final FormParameters parameters = new FormParameters();
+        private byte[] bytes = new byte[64];
+        private int byteCount;
+        private StringBuilder chars;
+        private String name;
+        private int pairLength;
+        private long size;
+        // 0: none, 1: after '%', 2: after '%' and one more unit
+        private int escape;
+        private int escapeFirst;
+
+        Parser(boolean binary) {
+            this.binary = binary;
+        }
+
+        void accept(int unit) {
+            if (maxFormSize >= 0 && ++size > maxFormSize) {
+                throw tooLarge();
+            }
+            if (escape == 1) {
+                if (!isTerminator(unit)) {
+                    escapeFirst = unit;
+                    escape = 2;
+                    pairLength++;
+                    return;
+                }
+            } else if (escape == 2) {
+                if (!isTerminator(unit)) {
+                    int hi = hexValue(escapeFirst);
+                    int lo = hexValue(unit);
+                    if (hi == -1 || lo == -1) {
+                        throw new IllegalArgumentException(Messages.format(
+                                "err.form.invalid_escape", String.valueOf((char) escapeFirst) + (char) unit));
+                    }
+                    appendByte((hi << 4) | lo);
+                    escape = 0;
+                    pairLength++;
+                    return;
+                }
+            }
+            switch (unit) {
+                case '&':
+                    endEscape();
+                    endPair();
+                    return;
+                case '=':
+                    if (name == null) {
+                        endEscape();
+                        name = finishToken();
+                    } else {
+                        appendRaw(unit);
+                    }
+                    break;
+                case '+':
+                    appendByte(' ');
+                    break;
+                case '%':
+                    escape = 1;
+                    break;
+                default:
+                    appendRaw(unit);
+                    break;
+            }
+            pairLength++;
+        }
+
+        FormParameters finish() {
+            endEscape();
+            endPair();
+            return parameters.freeze();
+        }
+
+        private boolean isTerminator(int unit) {
+            return unit == '&' || (unit == '=' && name == null);
+        }
+
+        /*
+         * An escape cut short by the end of its name or value is kept literally.
+         */
+        private void endEscape() {
+            if (escape != 0) {
+                appendByte('%');
+                if (escape == 2) {
+                    appendRaw(escapeFirst);
+                }
+                escape = 0;
+            }
+        }
+
+        private void endPair() {
+            if (pairLength == 0) {
+                return;
+            }
+            String value;
+            if (name == null) {
+                name = finishToken();
+                if (requireEquals) {
+                    throw new IllegalArgumentException(Messages.format("err.form.missing_equals", name));
+                }
+                value = "";
+            } else {
+                value = finishToken();
+            }
+            if (maxParameterCount >= 0 && parameters.getParameterCount() >= maxParameterCount) {
+                throw new IllegalArgumentException(Messages.format("err.form.too_many_parameters", maxParameterCount));
+            }
+            parameters.add(name, value);
+            name = null;
+            pairLength = 0;
+        }
+
+        private void appendRaw(int unit) {
+            if (unit < 0x80 ? asciiCompatible : binary) {
+                appendByte(unit);
+            } else {
+                appendChar((char) unit);
+            }
+        }
+
+        private void appendByte(int b) {
+            if (byteCount == bytes.length) {
+                bytes = Arrays.copyOf(bytes, byteCount * 2);
+            }
+            bytes[byteCount++] = (byte) b;
+        }
+
+        private void appendChar(char c) {
+            if (chars == null) {
+                chars = new StringBuilder();
+            }
+            flushBytes();
+            chars.append(c);
+        }
+
+        private void flushBytes() {
+            if (byteCount > 0) {
+                chars.append(new String(bytes, 0, byteCount, charset));
+                byteCount = 0;
+            }
+        }
+
+        private String finishToken() {
+            String token;
+            if (chars == null || chars.length() == 0) {
+                token = byteCount == 0 ? "" : new String(bytes, 0, byteCount, charset);
+            } else {
+                flushBytes();
+                token = chars.toString();
+                chars.setLength(0);
+            }
+            byteCount = 0;
+            return token;
+        }
+    }
+}
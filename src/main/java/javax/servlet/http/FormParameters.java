@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package javax.servlet.http;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The parameters decoded by a {@link FormDecoder}, in the order their names first appeared. A name that appears more
+ * than once maps to all of its values, in order.
+ *
+ * <p>
+ * Instances are immutable once returned by the decoder. The arrays handed out by {@link #getValues} and
+ * {@link #asMap} are shared and must not be modified.
+ *
+ * @see FormDecoder
+ */
+public final class FormParameters {
+
+    /*
+     * While decoding, a name maps to a String[1] or, once repeated, to a growable Values; freeze() trims every Values
+     * to a String[] so that the map can be exposed as is.
+     */
+    private final Map<String, Object> values = new LinkedHashMap<>();
+    private Map<String, String[]> view;
+    private int count;
+
+    // file private
+    FormParameters() {}
+
+    // file private
+    void add(String name, String value) {
+        Object existing = values.get(name);
+        if (existing == null) {
+            values.put(name, new String[] {value});
+        } else if (existing instanceof Values) {
+            ((Values) existing).add(value);
+        } else {
+            values.put(name, new Values(((String[]) existing)[0], value));
+        }
+        count++;
+    }
+
+    // file private
+    int getParameterCount() {
+        return count;
+    }
+
+    // file private
+    @SuppressWarnings("unchecked")
+    FormParameters freeze() {
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            if (entry.getValue() instanceof Values) {
+                entry.setValue(((Values) entry.getValue()).toArray());
+            }
+        }
+        view = Collections.unmodifiableMap((Map<String, String[]>) (Map<String, ?>) values);
+        return this;
+    }
+
+    /**
+     * Returns the first value of the named parameter.
+     *
+     * @param name the name of the parameter
+     *
+     * @return the first value, or <code>null</code> if the parameter is not present
+     */
+    public String getValue(String name) {
+        String[] v = view.get(name);
+        return v != null ? v[0] : null;
+    }
+
+    /**
+     * Returns all values of the named parameter.
+     *
+     * @param name the name of the parameter
+     *
+     * @return the values, in the order they were decoded, or <code>null</code> if the parameter is not present
+     */
+    public String[] getValues(String name) {
+        return view.get(name);
+    }
+
+    /**
+     * Returns the number of distinct parameter names.
+     *
+     * @return the number of names
+     */
+    public int size() {
+        return view.size();
+    }
+
+    /**
+     * Returns <code>true</code> if no parameters were decoded.
+     *
+     * @return whether there are no parameters
+     */
+    public boolean isEmpty() {
+        return view.isEmpty();
+    }
+
+    /**
+     * Returns an unmodifiable map view of the parameters, in the form of {@link javax.servlet.ServletRequest#getParameterMap}.
+     *
+     * @return the parameter names mapped to their values
+     */
+    public Map<String, String[]> asMap() {
+        return view;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (Map.Entry<String, String[]> entry : view.entrySet()) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(entry.getKey()).append('=');
+            String[] v = entry.getValue();
+            sb.append(v.length == 1 ? v[0] : String.join(",", v));
+        }
+        return sb.append('}').toString();
+    }
+
+    private static final class Values {
+        private String[] items;
+        private int size;
+
+        Values(String first, String second) {
+            items = new String[] {first, second, null, null};
+            size = 2;
+        }
+
+        void add(String value) {
+            if (size == items.length) {
+                String[] grown = new String[size * 2];
+                System.arraycopy(items, 0, grown, 0, size);
+                items = grown;
+            }
+            items[size++] = value;
+        }
+
+        String[] toArray() {
+            if (size == items.length) {
+                return items;
+            }
+            String[] trimmed = new String[size];
+            System.arraycopy(items, 0, trimmed, 0, size);
+            return trimmed;
+        }
+    }
+}
@@ -22,10 +22,17 @@ import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 import java.lang.reflect.Method;
-import java.text.MessageFormat;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
-import java.util.ResourceBundle;
+import java.util.List;
+import java.util.Objects;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.GenericServlet;
 import javax.servlet.ServletException;
 import javax.servlet.ServletOutputStream;
@@ -76,10 +83,20 @@ public abstract class HttpServlet extends GenericServlet {
     private static final String METHOD_TRACE = "TRACE";
 
     private static final String HEADER_IFMODSINCE = "If-Modified-Since";
+    private static final String HEADER_IFUNMODSINCE = "If-Unmodified-Since";
+    private static final String HEADER_IFMATCH = "If-Match";
+    private static final String HEADER_IFNONEMATCH = "If-None-Match";
+    private static final String HEADER_IFRANGE = "If-Range";
+    private static final String HEADER_RANGE = "Range";
     private static final String HEADER_LASTMOD = "Last-Modified";
+    private static final String HEADER_ETAG = "ETag";
 
-    private static final String LSTRING_FILE = "javax.servlet.http.LocalStrings";
-    private static ResourceBundle lStrings = ResourceBundle.getBundle(LSTRING_FILE);
+    private static final ClassValue<DispatchDescriptor> DESCRIPTORS = new ClassValue<DispatchDescriptor>() {
+        @Override
+        protected DispatchDescriptor computeValue(Class<?> type) {
+            return new DispatchDescriptor(type);
+        }
+    };
 
     /**
      * Does nothing, because this is an abstract class.
@@ -140,7 +157,7 @@ public abstract class HttpServlet extends GenericServlet {
      */
     protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
         String protocol = req.getProtocol();
-        String msg = lStrings.getString("http.method_get_not_supported");
+        String msg = Messages.get("http.method_get_not_supported");
         resp.sendError(getMethodNotSupportedCode(protocol), msg);
     }
 
@@ -163,6 +180,30 @@ public abstract class HttpServlet extends GenericServlet {
         return -1;
     }
 
+    /**
+     *
+     * Returns the entity tag of the representation a GET request would currently produce, as it should appear in the
+     * <code>ETag</code> response header: a quoted string, optionally prefixed with <code>W/</code> for a weak tag. If
+     * the tag is unknown, this method returns <code>null</code> (the default).
+     *
+     * <p>
+     * Servlets that can cheaply compute a validator for their content should override this method. The
+     * <code>service</code> method then answers <code>If-None-Match</code> and <code>If-Match</code> requests with a
+     * 304 (Not Modified) or 412 (Precondition Failed) status without calling <code>doGet</code> or
+     * <code>doHead</code>, and honors <code>If-Range</code> by hiding the <code>Range</code> header when the
+     * representation has changed.
+     *
+     * @param req the <code>HttpServletRequest</code> object that is sent to the servlet
+     *
+     * @return the entity tag, such as <code>"xyzzy"</code> or <code>W/"xyzzy"</code>, or <code>null</code> if it is
+     *         not known
+     *
+     * @see #getLastModified
+     */
+    protected String getETag(HttpServletRequest req) {
+        return null;
+    }
+
     /**
      *
      *
@@ -174,7 +215,9 @@ public abstract class HttpServlet extends GenericServlet {
      * <p>
      * If you override this method, you can avoid computing the response body and just set the response headers directly
      * to improve performance. Make sure that the <code>doHead</code> method you write is both safe and idempotent (that
-     * is, protects itself from being called multiple times for one HTTP HEAD request).
+     * is, protects itself from being called multiple times for one HTTP HEAD request). Alternatively, override
+     * {@link #doHeaders} to supply the headers of a GET response without producing its body; <code>doGet</code> is then
+     * only run when <code>doHeaders</code> declines.
      *
      * <p>
      * If the HTTP HEAD request is incorrectly formatted, <code>doHead</code> returns an HTTP "Bad Request" message.
@@ -188,10 +231,43 @@ public abstract class HttpServlet extends GenericServlet {
      * @throws ServletException if the request for the HEAD could not be handled
      */
     protected void doHead(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        if (doHeaders(req, resp)) {
+            return;
+        }
         NoBodyResponse response = new NoBodyResponse(resp);
 
         doGet(req, response);
-        response.setContentLength();
+        if (req.isAsyncStarted()) {
+            req.getAsyncContext().addListener(new NoBodyAsyncContextListener(response));
+        } else {
+            response.setContentLength();
+        }
+    }
+
+    /**
+     *
+     * Called by the default <code>doHead</code> method to set the headers that a GET request for the same resource
+     * would produce, such as Content-Type and Content-Length, without generating the response body. Returns
+     * <code>true</code> if it did so, or <code>false</code> (the default) to have <code>doHead</code> run
+     * <code>doGet</code> and discard the body instead.
+     *
+     * <p>
+     * Servlets whose responses are expensive to generate but whose length and type are cheap to determine, such as
+     * those serving files, should override this method. It must not write to the response body, and it must not have
+     * any effect if it returns <code>false</code>.
+     *
+     * @param req  the request object that is passed to the servlet
+     *
+     * @param resp the response object on which to set the headers
+     *
+     * @return <code>true</code> if the headers have been set and <code>doGet</code> need not be called
+     *
+     * @throws IOException      if an input or output error occurs
+     *
+     * @throws ServletException if the request for the HEAD could not be handled
+     */
+    protected boolean doHeaders(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        return false;
     }
 
     /**
@@ -242,7 +318,7 @@ public abstract class HttpServlet extends GenericServlet {
      */
     protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
         String protocol = req.getProtocol();
-        String msg = lStrings.getString("http.method_post_not_supported");
+        String msg = Messages.get("http.method_post_not_supported");
         resp.sendError(getMethodNotSupportedCode(protocol), msg);
     }
 
@@ -276,7 +352,7 @@ public abstract class HttpServlet extends GenericServlet {
      */
     protected void doPut(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
         String protocol = req.getProtocol();
-        String msg = lStrings.getString("http.method_put_not_supported");
+        String msg = Messages.get("http.method_put_not_supported");
         resp.sendError(getMethodNotSupportedCode(protocol), msg);
     }
 
@@ -303,7 +379,7 @@ public abstract class HttpServlet extends GenericServlet {
      */
     protected void doDelete(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
         String protocol = req.getProtocol();
-        String msg = lStrings.getString("http.method_delete_not_supported");
+        String msg = Messages.get("http.method_delete_not_supported");
         resp.sendError(getMethodNotSupportedCode(protocol), msg);
     }
 
@@ -317,28 +393,6 @@ public abstract class HttpServlet extends GenericServlet {
         }
     }
 
-    private Method[] getAllDeclaredMethods(Class<? extends HttpServlet> c) {
-
-        Class<?> clazz = c;
-        Method[] allMethods = null;
-
-        while (!clazz.equals(HttpServlet.class)) {
-            Method[] thisMethods = clazz.getDeclaredMethods();
-            if (allMethods != null && allMethods.length > 0) {
-                Method[] subClassMethods = allMethods;
-                allMethods = new Method[thisMethods.length + subClassMethods.length];
-                System.arraycopy(thisMethods, 0, allMethods, 0, thisMethods.length);
-                System.arraycopy(subClassMethods, 0, allMethods, thisMethods.length, subClassMethods.length);
-            } else {
-                allMethods = thisMethods;
-            }
-
-            clazz = clazz.getSuperclass();
-        }
-
-        return ((allMethods != null) ? allMethods : new Method[0]);
-    }
-
     /**
      * Called by the server (via the <code>service</code> method) to allow a servlet to handle a OPTIONS request.
      *
@@ -361,75 +415,7 @@ public abstract class HttpServlet extends GenericServlet {
      * @throws ServletException if the request for the OPTIONS cannot be handled
      */
     protected void doOptions(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
-        Method[] methods = getAllDeclaredMethods(this.getClass());
-
-        boolean ALLOW_GET = false;
-        boolean ALLOW_HEAD = false;
-        boolean ALLOW_POST = false;
-        boolean ALLOW_PUT = false;
-        boolean ALLOW_DELETE = false;
-        boolean ALLOW_TRACE = true;
-        boolean ALLOW_OPTIONS = true;
-
-        for (Method method : methods) {
-            String methodName = method.getName();
-
-            if (methodName.equals("doGet")) {
-                ALLOW_GET = true;
-                ALLOW_HEAD = true;
-            } else if (methodName.equals("doPost")) {
-                ALLOW_POST = true;
-            } else if (methodName.equals("doPut")) {
-                ALLOW_PUT = true;
-            } else if (methodName.equals("doDelete")) {
-                ALLOW_DELETE = true;
-            }
-        }
-
-        // we know "allow" is not null as ALLOW_OPTIONS = true
-        // when this method is invoked
-        StringBuilder allow = new StringBuilder();
-        if (ALLOW_GET) {
-            allow.append(METHOD_GET);
-        }
-        if (ALLOW_HEAD) {
-            if (allow.length() > 0) {
-                allow.append(", ");
-            }
-            allow.append(METHOD_HEAD);
-        }
-        if (ALLOW_POST) {
-            if (allow.length() > 0) {
-                allow.append(", ");
-            }
-            allow.append(METHOD_POST);
-        }
-        if (ALLOW_PUT) {
-            if (allow.length() > 0) {
-                allow.append(", ");
-            }
-            allow.append(METHOD_PUT);
-        }
-        if (ALLOW_DELETE) {
-            if (allow.length() > 0) {
-                allow.append(", ");
-            }
-            allow.append(METHOD_DELETE);
-        }
-        if (ALLOW_TRACE) {
-            if (allow.length() > 0) {
-                allow.append(", ");
-            }
-            allow.append(METHOD_TRACE);
-        }
-        if (ALLOW_OPTIONS) {
-            if (allow.length() > 0) {
-                allow.append(", ");
-            }
-            allow.append(METHOD_OPTIONS);
-        }
-
-        resp.setHeader("Allow", allow.toString());
+        resp.setHeader("Allow", DESCRIPTORS.get(getClass()).allow);
     }
 
     /**
@@ -491,30 +477,29 @@ public abstract class HttpServlet extends GenericServlet {
      */
     protected void service(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
         String method = req.getMethod();
+        DispatchDescriptor descriptor = DESCRIPTORS.get(getClass());
 
         if (method.equals(METHOD_GET)) {
-            long lastModified = getLastModified(req);
-            if (lastModified == -1) {
-                // servlet doesn't support if-modified-since, no reason
+            if (!descriptor.conditional) {
+                // servlet doesn't support conditional requests, no reason
                 // to go through further expensive logic
                 doGet(req, resp);
             } else {
-                long ifModifiedSince = req.getDateHeader(HEADER_IFMODSINCE);
-                if (ifModifiedSince < lastModified) {
-                    // If the servlet mod time is later, call doGet()
-                    // Round down to the nearest second for a proper compare
-                    // A ifModifiedSince of -1 will always be less
-                    maybeSetLastModified(resp, lastModified);
-                    doGet(req, resp);
-                } else {
-                    resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                HttpServletRequest request = evaluateConditions(descriptor, req, resp);
+                if (request != null) {
+                    doGet(request, resp);
                 }
             }
 
         } else if (method.equals(METHOD_HEAD)) {
-            long lastModified = getLastModified(req);
-            maybeSetLastModified(resp, lastModified);
-            doHead(req, resp);
+            if (!descriptor.conditional) {
+                doHead(req, resp);
+            } else {
+                HttpServletRequest request = evaluateConditions(descriptor, req, resp);
+                if (request != null) {
+                    doHead(request, resp);
+                }
+            }
 
         } else if (method.equals(METHOD_POST)) {
             doPost(req, resp);
@@ -537,15 +522,94 @@ public abstract class HttpServlet extends GenericServlet {
             // method was requested, anywhere on this server.
             //
 
-            String errMsg = lStrings.getString("http.method_not_implemented");
-            Object[] errArgs = new Object[1];
-            errArgs[0] = method;
-            errMsg = MessageFormat.format(errMsg, errArgs);
+            String errMsg = Messages.format("http.method_not_implemented", method);
 
             resp.sendError(HttpServletResponse.SC_NOT_IMPLEMENTED, errMsg);
         }
     }
 
+    /*
+     * Evaluates the preconditions of a GET or HEAD request in the order given by RFC 7232, section 6. Returns the
+     * request to dispatch, which hides the Range header if If-Range did not match, or null if the response has already
+     * been answered with 304 or 412. The validators are set on the response either way.
+     */
+    private HttpServletRequest evaluateConditions(
+            DispatchDescriptor descriptor, HttpServletRequest req, HttpServletResponse resp) {
+        long lastModified = descriptor.lastModified ? getLastModified(req) : -1;
+        String etag = descriptor.entityTag ? getETag(req) : null;
+        maybeSetLastModified(resp, lastModified);
+        maybeSetETag(resp, etag);
+        if (lastModified < 0 && etag == null) {
+            return req;
+        }
+        // HTTP dates have one second precision
+        long modified = lastModified < 0 ? -1 : lastModified / 1000 * 1000;
+
+        Enumeration<String> ifMatch = req.getHeaders(HEADER_IFMATCH);
+        if (etag != null && ifMatch != null && ifMatch.hasMoreElements()) {
+            if (!EntityTags.matches(ifMatch, etag, false)) {
+                resp.setStatus(HttpServletResponse.SC_PRECONDITION_FAILED);
+                return null;
+            }
+        } else if (modified >= 0) {
+            long ifUnmodifiedSince = getDateHeader(req, HEADER_IFUNMODSINCE);
+            if (ifUnmodifiedSince != -1 && modified > ifUnmodifiedSince) {
+                resp.setStatus(HttpServletResponse.SC_PRECONDITION_FAILED);
+                return null;
+            }
+        }
+
+        Enumeration<String> ifNoneMatch = req.getHeaders(HEADER_IFNONEMATCH);
+        if (ifNoneMatch != null && ifNoneMatch.hasMoreElements()) {
+            // a present If-None-Match replaces If-Modified-Since even when there is no entity tag to compare
+            if (etag != null && EntityTags.matches(ifNoneMatch, etag, true)) {
+                resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return null;
+            }
+        } else if (modified >= 0) {
+            // A ifModifiedSince of -1 will always be less
+            long ifModifiedSince = getDateHeader(req, HEADER_IFMODSINCE);
+            if (ifModifiedSince >= modified) {
+                resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return null;
+            }
+        }
+
+        String ifRange = req.getHeader(HEADER_IFRANGE);
+        if (ifRange != null && req.getHeader(HEADER_RANGE) != null) {
+            boolean current;
+            if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+                current = etag != null && EntityTags.matches(ifRange, etag, false);
+            } else {
+                current = modified >= 0 && getDateHeader(req, HEADER_IFRANGE) == modified;
+            }
+            if (!current) {
+                return new NoRangeRequest(req);
+            }
+        }
+        return req;
+    }
+
+    /*
+     * Malformed dates in conditional headers are ignored rather than failing the request.
+     */
+    private static long getDateHeader(HttpServletRequest req, String name) {
+        try {
+            return req.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /*
+     * Sets the ETag header field in the same way as maybeSetLastModified.
+     */
+    private void maybeSetETag(HttpServletResponse resp, String etag) {
+        if (etag != null && !resp.containsHeader(HEADER_ETAG)) {
+            resp.setHeader(HEADER_ETAG, etag);
+        }
+    }
+
     /*
      * Sets the Last-Modified entity header field, if it has not already been set and if the value is meaningful. Called
      * before doGet, to ensure that headers are set before response data is written. A subclass might have set this
@@ -588,6 +652,174 @@ public abstract class HttpServlet extends GenericServlet {
 
         service(request, response);
     }
+
+    /*
+     * What a concrete servlet class overrides, found by scanning its hierarchy once instead of on every request.
+     * Methods are matched by name alone, as doOptions always has.
+     */
+    private static final class DispatchDescriptor {
+        final boolean lastModified;
+        final boolean entityTag;
+        final boolean conditional;
+        final String allow;
+
+        DispatchDescriptor(Class<?> type) {
+            boolean get = false;
+            boolean post = false;
+            boolean put = false;
+            boolean delete = false;
+            boolean lastModified = false;
+            boolean entityTag = false;
+
+            for (Class<?> clazz = type; clazz != null && clazz != HttpServlet.class; clazz = clazz.getSuperclass()) {
+                for (Method method : clazz.getDeclaredMethods()) {
+                    switch (method.getName()) {
+                        case "doGet":
+                            get = true;
+                            break;
+                        case "doPost":
+                            post = true;
+                            break;
+                        case "doPut":
+                            put = true;
+                            break;
+                        case "doDelete":
+                            delete = true;
+                            break;
+                        case "getLastModified":
+                            lastModified = true;
+                            break;
+                        case "getETag":
+                            entityTag = true;
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            }
+
+            StringBuilder allow = new StringBuilder();
+            if (get) {
+                allow.append(METHOD_GET).append(", ").append(METHOD_HEAD).append(", ");
+            }
+            if (post) {
+                allow.append(METHOD_POST).append(", ");
+            }
+            if (put) {
+                allow.append(METHOD_PUT).append(", ");
+            }
+            if (delete) {
+                allow.append(METHOD_DELETE).append(", ");
+            }
+            allow.append(METHOD_TRACE).append(", ").append(METHOD_OPTIONS);
+
+            this.lastModified = lastModified;
+            this.entityTag = entityTag;
+            this.conditional = lastModified || entityTag;
+            this.allow = allow.toString();
+        }
+    }
+}
+
+/*
+ * Entity-tag comparison as defined by RFC 7232, section 2.3.2, over the comma separated lists found in If-Match and
+ * If-None-Match. A list that cannot be parsed matches nothing past the point where it went wrong.
+ */
+// file private
+final class EntityTags {
+
+    private EntityTags() {}
+
+    static boolean matches(Enumeration<String> values, String etag, boolean weak) {
+        while (values.hasMoreElements()) {
+            String value = values.nextElement();
+            if (value != null && matches(value, etag, weak)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean matches(String list, String etag, boolean weak) {
+        boolean etagWeak = etag.startsWith("W/");
+        int etagStart = etagWeak ? 2 : 0;
+        int etagLength = etag.length() - etagStart;
+        int len = list.length();
+        int i = 0;
+        while (i < len) {
+            char c = list.charAt(i);
+            if (c == ' ' || c == '\t' || c == ',') {
+                i++;
+                continue;
+            }
+            if (c == '*') {
+                return true;
+            }
+            boolean tagWeak = false;
+            if (c == 'W' && list.startsWith("W/", i)) {
+                tagWeak = true;
+                i += 2;
+            }
+            if (i >= len || list.charAt(i) != '"') {
+                return false;
+            }
+            int end = list.indexOf('"', i + 1);
+            if (end == -1) {
+                return false;
+            }
+            end++;
+            if ((weak || !(tagWeak || etagWeak))
+                    && end - i == etagLength
+                    && list.regionMatches(i, etag, etagStart, etagLength)) {
+                return true;
+            }
+            i = end;
+        }
+        return false;
+    }
+}
+
+/*
+ * A request whose Range header is hidden, because an If-Range precondition found that the representation the client
+ * holds is no longer current and the whole representation must be sent instead.
+ */
+// file private
+class NoRangeRequest extends HttpServletRequestWrapper {
+
+    // file private
+    NoRangeRequest(HttpServletRequest request) {
+        super(request);
+    }
+
+    private static boolean isHidden(String name) {
+        return "range".equalsIgnoreCase(name) || "if-range".equalsIgnoreCase(name);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return isHidden(name) ? null : super.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return isHidden(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        Enumeration<String> names = super.getHeaderNames();
+        if (names == null) {
+            return null;
+        }
+        List<String> visible = new ArrayList<>();
+        while (names.hasMoreElements()) {
+            String name = names.nextElement();
+            if (!isHidden(name)) {
+                visible.add(name);
+            }
+        }
+        return Collections.enumeration(visible);
+    }
 }
 
 /*
@@ -598,8 +830,6 @@ public abstract class HttpServlet extends GenericServlet {
 // file private
 class NoBodyResponse extends HttpServletResponseWrapper {
 
-    private static final ResourceBundle lStrings = ResourceBundle.getBundle("javax.servlet.http.LocalStrings");
-
     private NoBodyOutputStream noBody;
     private PrintWriter writer;
     private boolean didSetContentLength;
@@ -608,7 +838,7 @@ class NoBodyResponse extends HttpServletResponseWrapper {
     // file private
     NoBodyResponse(HttpServletResponse r) {
         super(r);
-        noBody = new NoBodyOutputStream();
+        noBody = new NoBodyOutputStream(this);
     }
 
     // file private
@@ -667,7 +897,7 @@ class NoBodyResponse extends HttpServletResponseWrapper {
     public ServletOutputStream getOutputStream() throws IOException {
 
         if (writer != null) {
-            throw new IllegalStateException(lStrings.getString("err.ise.getOutputStream"));
+            throw new IllegalStateException(Messages.get("err.ise.getOutputStream"));
         }
         usingOutputStream = true;
 
@@ -678,11 +908,14 @@ class NoBodyResponse extends HttpServletResponseWrapper {
     public PrintWriter getWriter() throws UnsupportedEncodingException {
 
         if (usingOutputStream) {
-            throw new IllegalStateException(lStrings.getString("err.ise.getWriter"));
+            throw new IllegalStateException(Messages.get("err.ise.getWriter"));
         }
 
         if (writer == null) {
-            OutputStreamWriter w = new OutputStreamWriter(noBody, getCharacterEncoding());
+            String encoding = getCharacterEncoding();
+            Writer w = NoBodyWriter.supports(encoding)
+                    ? new NoBodyWriter(noBody, encoding)
+                    : new OutputStreamWriter(noBody, encoding);
             writer = new PrintWriter(w);
         }
 
@@ -696,19 +929,24 @@ class NoBodyResponse extends HttpServletResponseWrapper {
 // file private
 class NoBodyOutputStream extends ServletOutputStream {
 
-    private static final String LSTRING_FILE = "javax.servlet.http.LocalStrings";
-    private static ResourceBundle lStrings = ResourceBundle.getBundle(LSTRING_FILE);
-
+    private final NoBodyResponse response;
     private int contentLength = 0;
 
     // file private
-    NoBodyOutputStream() {}
+    NoBodyOutputStream(NoBodyResponse response) {
+        this.response = response;
+    }
 
     // file private
     int getContentLength() {
         return contentLength;
     }
 
+    // file private
+    void addContentLength(int len) {
+        contentLength += len;
+    }
+
     @Override
     public void write(int b) {
         contentLength++;
@@ -717,16 +955,15 @@ class NoBodyOutputStream extends ServletOutputStream {
     @Override
     public void write(byte[] buf, int offset, int len) throws IOException {
         if (buf == null) {
-            throw new NullPointerException(lStrings.getString("err.io.nullArray"));
+            throw new NullPointerException(Messages.get("err.io.nullArray"));
         }
 
         if (offset < 0 || len < 0 || offset + len > buf.length) {
-            String msg = lStrings.getString("err.io.indexOutOfBounds");
-            Object[] msgArgs = new Object[3];
-            msgArgs[0] = Integer.valueOf(offset);
-            msgArgs[1] = Integer.valueOf(len);
-            msgArgs[2] = Integer.valueOf(buf.length);
-            msg = MessageFormat.format(msg, msgArgs);
+            String msg = Messages.format(
+                    "err.io.indexOutOfBounds",
+                    Integer.valueOf(offset),
+                    Integer.valueOf(len),
+                    Integer.valueOf(buf.length));
             throw new IndexOutOfBoundsException(msg);
         }
 
@@ -735,9 +972,144 @@ class NoBodyOutputStream extends ServletOutputStream {
 
     @Override
     public boolean isReady() {
-        return false;
+        // Will always be ready as data is swallowed.
+        return true;
+    }
+
+    /*
+     * The container's own stream enforces the async and single-registration rules and calls the listener from a
+     * container thread. Nothing is ever written to that stream, so it stays ready.
+     */
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+        try {
+            response.getResponse().getOutputStream().setWriteListener(writeListener);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
+
+/*
+ * Writer that works out how many bytes its characters would encode to without encoding them, for the charsets whose
+ * lengths are simple arithmetic. Characters the charset cannot represent count as the single '?' an
+ * OutputStreamWriter would substitute, and a high surrogate at the end of one write is held back until the next, as
+ * OutputStreamWriter does.
+ */
+// file private
+class NoBodyWriter extends Writer {
+
+    private final NoBodyOutputStream noBody;
+    private final boolean utf8;
+    private boolean pendingHighSurrogate;
+
+    // file private
+    NoBodyWriter(NoBodyOutputStream noBody, String encoding) {
+        this.noBody = noBody;
+        this.utf8 = Charset.forName(encoding).equals(StandardCharsets.UTF_8);
+    }
+
+    // file private
+    static boolean supports(String encoding) {
+        if (encoding == null) {
+            return false;
+        }
+        Charset charset;
+        try {
+            charset = Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return charset.equals(StandardCharsets.UTF_8)
+                || charset.equals(StandardCharsets.ISO_8859_1)
+                || charset.equals(StandardCharsets.US_ASCII);
     }
 
     @Override
-    public void setWriteListener(WriteListener writeListener) {}
+    public void write(int c) {
+        noBody.addContentLength(count((char) c));
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+        Objects.checkFromIndexSize(off, len, cbuf.length);
+        int bytes = 0;
+        for (int i = off; i < off + len; i++) {
+            bytes += count(cbuf[i]);
+        }
+        noBody.addContentLength(bytes);
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+        Objects.checkFromIndexSize(off, len, str.length());
+        int bytes = 0;
+        for (int i = off; i < off + len; i++) {
+            bytes += count(str.charAt(i));
+        }
+        noBody.addContentLength(bytes);
+    }
+
+    private int count(char c) {
+        int bytes = 0;
+        if (pendingHighSurrogate) {
+            pendingHighSurrogate = false;
+            if (Character.isLowSurrogate(c)) {
+                return utf8 ? 4 : 1;
+            }
+            bytes = 1;
+        }
+        if (Character.isHighSurrogate(c)) {
+            pendingHighSurrogate = true;
+        } else if (!utf8 || c < 0x80 || Character.isLowSurrogate(c)) {
+            bytes += 1;
+        } else if (c < 0x800) {
+            bytes += 2;
+        } else {
+            bytes += 3;
+        }
+        return bytes;
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {
+        if (pendingHighSurrogate) {
+            pendingHighSurrogate = false;
+            noBody.addContentLength(1);
+        }
+    }
+}
+
+/*
+ * Sets the content length of a HEAD response once an asynchronous GET has finished writing its (discarded) body.
+ */
+// file private
+class NoBodyAsyncContextListener implements AsyncListener {
+
+    private final NoBodyResponse noBodyResponse;
+
+    // file private
+    NoBodyAsyncContextListener(NoBodyResponse noBodyResponse) {
+        this.noBodyResponse = noBodyResponse;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) throws IOException {
+        noBodyResponse.setContentLength();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) throws IOException {}
+
+    @Override
+    public void onError(AsyncEvent event) throws IOException {}
+
+    @Override
+    public void onStartAsync(AsyncEvent event) throws IOException {
+        // Restarting async drops the listeners of the previous cycle
+        event.getAsyncContext().addListener(this);
+    }
 }
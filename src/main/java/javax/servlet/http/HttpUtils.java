@@ -21,8 +21,6 @@ package javax.servlet.http;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Hashtable;
-import java.util.ResourceBundle;
-import java.util.StringTokenizer;
 import javax.servlet.ServletInputStream;
 
 /**
@@ -33,8 +31,10 @@ import javax.servlet.ServletInputStream;
 @Deprecated
 public class HttpUtils {
 
-    private static final String LSTRING_FILE = "javax.servlet.http.LocalStrings";
-    private static ResourceBundle lStrings = ResourceBundle.getBundle(LSTRING_FILE);
+    /*
+     * No limits, and no pairs without an =, as before the parsing moved to FormDecoder.
+     */
+    private static final FormDecoder LEGACY_DECODER = new FormDecoder(StandardCharsets.ISO_8859_1, -1, -1, true);
 
     /**
      * Constructs an empty <code>HttpUtils</code> object.
@@ -62,39 +62,11 @@ public class HttpUtils {
      * @exception IllegalArgumentException if the query string is invalid
      */
     public static Hashtable<String, String[]> parseQueryString(String s) {
-
-        String[] valArray = null;
-
         if (s == null) {
             throw new IllegalArgumentException();
         }
 
-        Hashtable<String, String[]> ht = new Hashtable<>();
-        StringBuilder sb = new StringBuilder();
-        StringTokenizer st = new StringTokenizer(s, "&");
-        while (st.hasMoreTokens()) {
-            String pair = st.nextToken();
-            int pos = pair.indexOf('=');
-            if (pos == -1) {
-                // XXX
-                // should give more detail about the illegal argument
-                throw new IllegalArgumentException();
-            }
-            String key = parseName(pair.substring(0, pos), sb);
-            String val = parseName(pair.substring(pos + 1), sb);
-            if (ht.containsKey(key)) {
-                String[] oldVals = ht.get(key);
-                valArray = new String[oldVals.length + 1];
-                System.arraycopy(oldVals, 0, valArray, 0, oldVals.length);
-                valArray[oldVals.length] = val;
-            } else {
-                valArray = new String[1];
-                valArray[0] = val;
-            }
-            ht.put(key, valArray);
-        }
-
-        return ht;
+        return new Hashtable<>(LEGACY_DECODER.decode(s).asMap());
     }
 
     /**
@@ -133,70 +105,16 @@ public class HttpUtils {
             throw new IllegalArgumentException();
         }
 
-        //
-        // Make sure we read the entire POSTed body.
-        //
-        byte[] postedBytes = new byte[len];
-        try {
-            int offset = 0;
-
-            do {
-                int inputLen = in.read(postedBytes, offset, len - offset);
-                if (inputLen <= 0) {
-                    String msg = lStrings.getString("err.io.short_read");
-                    throw new IllegalArgumentException(msg);
-                }
-                offset += inputLen;
-            } while ((len - offset) > 0);
-
-        } catch (IOException e) {
-            throw new IllegalArgumentException(e.getMessage());
-        }
-
         // XXX we shouldn't assume that the only kind of POST body
         // is FORM data encoded using ASCII or ISO Latin/1 ... or
         // that the body should always be treated as FORM data.
         //
 
-        String postedBody = new String(postedBytes, 0, len, StandardCharsets.ISO_8859_1);
-        return parseQueryString(postedBody);
-    }
-
-    /*
-     * Parse a name in the query string.
-     */
-    private static String parseName(String s, StringBuilder sb) {
-        sb.setLength(0);
-        for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            switch (c) {
-                case '+':
-                    sb.append(' ');
-                    break;
-                case '%':
-                    try {
-                        sb.append((char) Integer.parseInt(s.substring(i + 1, i + 3), 16));
-                        i += 2;
-                    } catch (NumberFormatException e) {
-                        // XXX
-                        // need to be more specific about illegal arg
-                        throw new IllegalArgumentException();
-                    } catch (StringIndexOutOfBoundsException e) {
-                        String rest = s.substring(i);
-                        sb.append(rest);
-                        if (rest.length() == 2) {
-                            i++;
-                        }
-                    }
-
-                    break;
-                default:
-                    sb.append(c);
-                    break;
-            }
+        try {
+            return new Hashtable<>(LEGACY_DECODER.decode(in, len).asMap());
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage());
         }
-
-        return sb.toString();
     }
 
     /**
@@ -0,0 +1,392 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package javax.servlet.resources;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import org.w3c.dom.ls.LSInput;
+import org.w3c.dom.ls.LSResourceResolver;
+import org.xml.sax.Attributes;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Resolves the DTDs and XML schemas of the deployment descriptors, and the schemas they include and import, to the
+ * copies bundled with this API, so that parsing or validating a <code>web.xml</code> or <code>web-fragment.xml</code>
+ * never reaches out to the network.
+ *
+ * <p>
+ * Entities are looked up by public identifier, system identifier or URI in the <code>javax/servlet/catalog.xml</code>
+ * catalog. A relative reference made from one of the resolved documents, such as the <code>include</code> of
+ * <code>javaee_8.xsd</code> by <code>web-common_4_0.xsd</code>, is looked up by file name. The JSP schemas the catalog
+ * lists are part of the JSP API and are found on the class path if it is present. Anything else is left to the parser:
+ * the resolver methods return <code>null</code>.
+ *
+ * <p>
+ * The resolver holds no mutable state and may be shared by concurrent threads.
+ *
+ * @see DescriptorSchema
+ */
+public final class DescriptorResolver implements EntityResolver, LSResourceResolver {
+
+    private static final String CATALOG = "javax/servlet/catalog.xml";
+
+    private static final DescriptorResolver INSTANCE = new DescriptorResolver(false);
+
+    // file private
+    static final DescriptorResolver SCHEMA_COMPILER_INSTANCE = new DescriptorResolver(true);
+
+    private final boolean substituteJspSchemas;
+
+    private DescriptorResolver(boolean substituteJspSchemas) {
+        this.substituteJspSchemas = substituteJspSchemas;
+    }
+
+    /**
+     * Returns the resolver.
+     *
+     * @return the shared resolver instance
+     */
+    public static DescriptorResolver getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Resolves an entity to a bundled copy, for use with a SAX parser or a {@link javax.xml.parsers.DocumentBuilder}.
+     *
+     * @param publicId the public identifier of the entity, or <code>null</code>
+     *
+     * @param systemId the system identifier of the entity, or <code>null</code>
+     *
+     * @return the bundled copy, or <code>null</code> if there is none
+     *
+     * @exception IOException if the bundled copy cannot be read
+     */
+    @Override
+    public InputSource resolveEntity(String publicId, String systemId) throws IOException {
+        Resolved resolved = resolve(publicId, systemId, null);
+        if (resolved == null) {
+            return null;
+        }
+        InputSource source = new InputSource(resolved.openStream());
+        source.setPublicId(publicId);
+        source.setSystemId(resolved.systemId);
+        return source;
+    }
+
+    /**
+     * Resolves a resource to a bundled copy, for use with a {@link javax.xml.validation.SchemaFactory} or a DOM Level 3
+     * parser.
+     *
+     * @param type         the type of the resource, ignored
+     *
+     * @param namespaceURI the namespace of the resource, ignored
+     *
+     * @param publicId     the public identifier of the resource, or <code>null</code>
+     *
+     * @param systemId     the system identifier of the resource, or <code>null</code>
+     *
+     * @param baseURI      the URI of the document that refers to the resource, or <code>null</code>
+     *
+     * @return the bundled copy, or <code>null</code> if there is none
+     *
+     * @exception UncheckedIOException if the bundled copy cannot be read
+     */
+    @Override
+    public LSInput resolveResource(String type, String namespaceURI, String publicId, String systemId, String baseURI) {
+        Resolved resolved = resolve(publicId, systemId, baseURI);
+        if (resolved == null) {
+            return null;
+        }
+        try {
+            return new Input(publicId, resolved.systemId, baseURI, resolved.openStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the location of the bundled copy of a resource.
+     *
+     * @param publicId the public identifier of the resource, or <code>null</code>
+     *
+     * @param systemId the system identifier of the resource, or <code>null</code>
+     *
+     * @return the location of the bundled copy, or <code>null</code> if there is none
+     */
+    public URL getResource(String publicId, String systemId) {
+        Resolved resolved = resolve(publicId, systemId, null);
+        return resolved != null ? resolved.url : null;
+    }
+
+    private Resolved resolve(String publicId, String systemId, String baseURI) {
+        Catalog catalog = Catalog.INSTANCE;
+        String path = null;
+        if (systemId != null) {
+            String absolute = absolute(systemId, baseURI);
+            path = catalog.paths.get(absolute);
+            if (path == null && baseURI != null && catalog.isBundled(baseURI)) {
+                path = catalog.pathsByName.get(absolute.substring(absolute.lastIndexOf('/') + 1));
+            }
+        }
+        if (path == null && publicId != null) {
+            path = catalog.paths.get(publicId);
+        }
+        if (path == null) {
+            return null;
+        }
+        URL url = findResource(path);
+        if (url != null) {
+            return new Resolved(url, url.toString(), null);
+        }
+        if (substituteJspSchemas && systemId != null && path.contains("/jsp/")) {
+            String absolute = absolute(systemId, baseURI);
+            String namespace = Catalog.INSTANCE.namespaces.get(absolute.substring(absolute.lastIndexOf('/') + 1));
+            if (namespace != null) {
+                return new Resolved(null, absolute, jspSchemaSubstitute(namespace));
+            }
+        }
+        return null;
+    }
+
+    private static String absolute(String systemId, String baseURI) {
+        if (baseURI == null) {
+            return systemId;
+        }
+        try {
+            return new URI(baseURI).resolve(new URI(systemId)).toString();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return systemId;
+        }
+    }
+
+    // file private
+    static URL findResource(String path) {
+        URL url = DescriptorResolver.class.getResource("/" + path);
+        if (url == null) {
+            ClassLoader loader = DescriptorResolver.class.getClassLoader();
+            url = loader != null ? loader.getResource(path) : ClassLoader.getSystemResource(path);
+        }
+        return url;
+    }
+
+    /*
+     * The web-app and web-fragment schemas include the JSP schema of their version, which ships with the JSP API rather
+     * than this one. Without it, schema compilation falls back to a stand-in that declares the two types the servlet
+     * schemas use, with the content of jsp-config left unchecked.
+     */
+    private static byte[] jspSchemaSubstitute(String namespace) {
+        String schema = "<xsd:schema xmlns:xsd='http://www.w3.org/2001/XMLSchema' targetNamespace='" + namespace
+                + "' elementFormDefault='qualified' attributeFormDefault='unqualified'>"
+                + "<xsd:complexType name='jsp-configType'>"
+                + "<xsd:sequence><xsd:any namespace='##targetNamespace' processContents='skip' minOccurs='0'"
+                + " maxOccurs='unbounded'/></xsd:sequence>"
+                + "<xsd:attribute name='id' type='xsd:ID'/>"
+                + "</xsd:complexType>"
+                + "<xsd:complexType name='jsp-fileType'>"
+                + "<xsd:simpleContent><xsd:extension base='xsd:token'><xsd:attribute name='id' type='xsd:ID'/>"
+                + "</xsd:extension></xsd:simpleContent>"
+                + "</xsd:complexType>"
+                + "</xsd:schema>";
+        return schema.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class Resolved {
+        final URL url;
+        final String systemId;
+        final byte[] content;
+
+        Resolved(URL url, String systemId, byte[] content) {
+            this.url = url;
+            this.systemId = systemId;
+            this.content = content;
+        }
+
+        InputStream openStream() throws IOException {
+            return content != null ? new ByteArrayInputStream(content) : url.openStream();
+        }
+    }
+
+    /*
+     * The catalog, read on first use. Identifiers map to resource paths relative to the class path root.
+     */
+    private static final class Catalog extends DefaultHandler {
+        static final Catalog INSTANCE = new Catalog();
+
+        final Map<String, String> paths = new HashMap<>();
+        final Map<String, String> pathsByName = new HashMap<>();
+        // the target namespace of each schema, for the catalog entries that are a namespace URI and a file name
+        final Map<String, String> namespaces = new HashMap<>();
+        final Set<String> bundled = new HashSet<>();
+
+        private Catalog() {
+            URL url = findResource(CATALOG);
+            if (url == null) {
+                throw new IllegalStateException(CATALOG + " not found");
+            }
+            try (InputStream in = url.openStream()) {
+                SAXParserFactory factory = SAXParserFactory.newInstance();
+                factory.setNamespaceAware(true);
+                factory.newSAXParser().parse(in, this);
+            } catch (IOException | ParserConfigurationException | SAXException e) {
+                throw new IllegalStateException("Cannot read " + CATALOG, e);
+            }
+            for (String path : pathsByName.values()) {
+                URL resource = findResource(path);
+                if (resource != null) {
+                    bundled.add(resource.toString());
+                }
+            }
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            String id;
+            switch (localName) {
+                case "uri":
+                    id = attributes.getValue("name");
+                    break;
+                case "system":
+                    id = attributes.getValue("systemId");
+                    break;
+                case "public":
+                    id = attributes.getValue("publicId");
+                    break;
+                default:
+                    return;
+            }
+            String path = CATALOG.substring(0, CATALOG.lastIndexOf('/') + 1) + attributes.getValue("uri");
+            String name = path.substring(path.lastIndexOf('/') + 1);
+            paths.put(id, path);
+            pathsByName.put(name, path);
+            int slash = id.lastIndexOf('/');
+            if (localName.equals("uri") && slash > 0 && id.endsWith(".xsd")) {
+                namespaces.put(id.substring(slash + 1), id.substring(0, slash));
+            }
+        }
+
+        @Override
+        public InputSource resolveEntity(String publicId, String systemId) {
+            // the catalog has no DTD; never fetch one
+            return new InputSource(new StringReader(""));
+        }
+
+        boolean isBundled(String uri) {
+            return bundled.contains(uri) || paths.containsKey(uri);
+        }
+    }
+
+    private static final class Input implements LSInput {
+        private String publicId;
+        private String systemId;
+        private String baseURI;
+        private InputStream byteStream;
+
+        Input(String publicId, String systemId, String baseURI, InputStream byteStream) {
+            this.publicId = publicId;
+            this.systemId = systemId;
+            this.baseURI = baseURI;
+            this.byteStream = byteStream;
+        }
+
+        @Override
+        public Reader getCharacterStream() {
+            return null;
+        }
+
+        @Override
+        public void setCharacterStream(Reader characterStream) {}
+
+        @Override
+        public InputStream getByteStream() {
+            return byteStream;
+        }
+
+        @Override
+        public void setByteStream(InputStream byteStream) {
+            this.byteStream = byteStream;
+        }
+
+        @Override
+        public String getStringData() {
+            return null;
+        }
+
+        @Override
+        public void setStringData(String stringData) {}
+
+        @Override
+        public String getSystemId() {
+            return systemId;
+        }
+
+        @Override
+        public void setSystemId(String systemId) {
+            this.systemId = systemId;
+        }
+
+        @Override
+        public String getPublicId() {
+            return publicId;
+        }
+
+        @Override
+        public void setPublicId(String publicId) {
+            this.publicId = publicId;
+        }
+
+        @Override
+        public String getBaseURI() {
+            return baseURI;
+        }
+
+        @Override
+        public void setBaseURI(String baseURI) {
+            this.baseURI = baseURI;
+        }
+
+        @Override
+        public String getEncoding() {
+            return null;
+        }
+
+        @Override
+        public void setEncoding(String encoding) {}
+
+        @Override
+        public boolean getCertifiedText() {
+            return false;
+        }
+
+        @Override
+        public void setCertifiedText(boolean certifiedText) {}
+    }
+}
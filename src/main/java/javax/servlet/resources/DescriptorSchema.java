@@ -0,0 +1,140 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package javax.servlet.resources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import javax.xml.XMLConstants;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import org.xml.sax.SAXException;
+
+/**
+ * The XML schemas of the deployment descriptor versions that are defined by a schema rather than a DTD.
+ *
+ * <p>
+ * Each schema is compiled from the bundled schema documents the first time it is asked for, with every include and
+ * import resolved by the {@link DescriptorResolver} and network access disabled, and then kept for the life of the
+ * class loader. A compiled {@link Schema} is immutable and may be shared by concurrent threads; each thread creates
+ * its own {@link javax.xml.validation.Validator} from it.
+ *
+ * <p>
+ * The web-app and web-fragment schemas include the JSP schema of their version, which is part of the JSP API. If the
+ * JSP API is not on the class path, the schema is compiled without it, and the content of <code>jsp-config</code>
+ * elements is not validated.
+ */
+public enum DescriptorSchema {
+    WEB_APP_2_4("web-app", "2.4", "web-app_2_4.xsd"),
+    WEB_APP_2_5("web-app", "2.5", "web-app_2_5.xsd"),
+    WEB_APP_3_0("web-app", "3.0", "web-app_3_0.xsd"),
+    WEB_APP_3_1("web-app", "3.1", "web-app_3_1.xsd"),
+    WEB_APP_4_0("web-app", "4.0", "web-app_4_0.xsd"),
+    WEB_FRAGMENT_3_0("web-fragment", "3.0", "web-fragment_3_0.xsd"),
+    WEB_FRAGMENT_3_1("web-fragment", "3.1", "web-fragment_3_1.xsd"),
+    WEB_FRAGMENT_4_0("web-fragment", "4.0", "web-fragment_4_0.xsd");
+
+    private final String rootElement;
+    private final String version;
+    private final String fileName;
+    private volatile Schema schema;
+
+    DescriptorSchema(String rootElement, String version, String fileName) {
+        this.rootElement = rootElement;
+        this.version = version;
+        this.fileName = fileName;
+    }
+
+    /**
+     * Returns the schema for the given descriptor, as identified by its root element and <code>version</code>
+     * attribute.
+     *
+     * @param rootElement the local name of the root element, <code>web-app</code> or <code>web-fragment</code>
+     *
+     * @param version     the value of the <code>version</code> attribute of the root element
+     *
+     * @return the schema, or <code>null</code> if the descriptor version is unknown or is defined by a DTD
+     */
+    public static DescriptorSchema forVersion(String rootElement, String version) {
+        for (DescriptorSchema candidate : values()) {
+            if (candidate.rootElement.equals(rootElement) && candidate.version.equals(version)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the local name of the root element of the descriptors this schema describes.
+     *
+     * @return <code>web-app</code> or <code>web-fragment</code>
+     */
+    public String getRootElement() {
+        return rootElement;
+    }
+
+    /**
+     * Returns the descriptor version this schema describes.
+     *
+     * @return the version, such as <code>4.0</code>
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the location of the bundled schema document.
+     *
+     * @return the location of the schema document
+     */
+    public URL getResource() {
+        return DescriptorResolver.findResource("javax/servlet/resources/" + fileName);
+    }
+
+    /**
+     * Returns the compiled schema, compiling it on first use.
+     *
+     * @return the compiled schema
+     *
+     * @exception SAXException if the schema cannot be compiled
+     */
+    public Schema getSchema() throws SAXException {
+        Schema result = schema;
+        if (result == null) {
+            synchronized (this) {
+                result = schema;
+                if (result == null) {
+                    result = compile();
+                    schema = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private Schema compile() throws SAXException {
+        URL url = getResource();
+        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        factory.setResourceResolver(DescriptorResolver.SCHEMA_COMPILER_INSTANCE);
+        factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+        factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        try (InputStream in = url.openStream()) {
+            return factory.newSchema(new StreamSource(in, url.toString()));
+        } catch (IOException e) {
+            throw new SAXException(e);
+        }
+    }
+}
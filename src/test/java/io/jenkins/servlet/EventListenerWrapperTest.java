@@ -0,0 +1,109 @@
+package io.jenkins.servlet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import io.jenkins.servlet.http.HttpSessionBindingEventWrapper;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.EventListener;
+import java.util.List;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletContextAttributeEvent;
+import javax.servlet.ServletContextAttributeListener;
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpSessionBindingEvent;
+import org.junit.Test;
+
+public class EventListenerWrapperTest {
+
+    @Test
+    public void adaptsAListenerOncePerInterface() {
+        RecordingListener listener = new RecordingListener();
+        List<EventListener> adapters = EventListenerWrapper.toJakartaEventListeners(listener);
+        assertEquals(2, adapters.size());
+        assertTrue(adapters.get(0) instanceof jakarta.servlet.ServletContextListener);
+        assertTrue(adapters.get(1) instanceof jakarta.servlet.ServletContextAttributeListener);
+        for (EventListener adapter : adapters) {
+            assertEquals(List.of(listener), EventListenerWrapper.fromJakartaEventListeners(adapter));
+        }
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> EventListenerWrapper.toJakartaEventListeners(new EventListener() {}));
+        assertThrows(
+                IllegalArgumentException.class, () -> EventListenerWrapper.checkJavaxEventListenerType(String.class));
+        assertTrue(EventListenerWrapper.isJavaxEventListenerType(RecordingListener.class));
+        assertFalse(EventListenerWrapper.isJakartaEventListenerType(RecordingListener.class));
+    }
+
+    @Test
+    public void deliversEventsWhoseSourceRoundTrips() {
+        RecordingListener listener = new RecordingListener();
+        jakarta.servlet.ServletContext context = proxy(jakarta.servlet.ServletContext.class);
+        jakarta.servlet.ServletContextEvent event = new jakarta.servlet.ServletContextEvent(context);
+        jakarta.servlet.ServletContextListener adapter =
+                ServletContextListenerWrapper.toJakartaServletContextListener(listener);
+        adapter.contextInitialized(event);
+        ServletContextEvent seen = listener.events.get(0);
+        assertSame(context, ServletContextWrapper.toJakartaServletContext(seen.getServletContext()));
+        assertSame(seen.getServletContext(), seen.getSource());
+        assertSame(event, ServletContextEventWrapper.toJakartaServletContextEvent(seen));
+        assertTrue(seen.toString().contains(seen.getServletContext().toString()));
+    }
+
+    @Test
+    public void convertsAttributeEventsWithoutTheSource() {
+        ServletContext context =
+                ServletContextWrapper.fromJakartServletContext(proxy(jakarta.servlet.ServletContext.class));
+        ServletContextAttributeEvent event = new ServletContextAttributeEvent(context, "name", "value");
+        jakarta.servlet.ServletContextAttributeEvent converted =
+                ServletContextAttributeEventWrapper.toJakartaServletContextAttributeEvent(event);
+        assertEquals("name", converted.getName());
+        assertEquals("value", converted.getValue());
+        assertSame(ServletContextWrapper.toJakartaServletContext(context), converted.getServletContext());
+        assertSame(event, ServletContextAttributeEventWrapper.fromJakartaServletContextAttributeEvent(converted));
+
+        HttpSession session = proxy(HttpSession.class);
+        HttpSessionBindingEvent binding = new HttpSessionBindingEvent(session, "key", 42);
+        jakarta.servlet.http.HttpSessionBindingEvent jakarta =
+                HttpSessionBindingEventWrapper.toJakartaHttpSessionBindingEvent(binding);
+        assertEquals("key", jakarta.getName());
+        assertEquals(42, jakarta.getValue());
+        assertSame(binding, HttpSessionBindingEventWrapper.fromJakartaHttpSessionBindingEvent(jakarta));
+    }
+
+    @Test
+    public void unresolvedSourcesRefuseEveryCall() {
+        ServletContext source = EventListenerWrapper.unresolvedEventSource(ServletContext.class);
+        assertThrows(IllegalStateException.class, source::getContextPath);
+    }
+
+    private static <T> T proxy(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> type.getSimpleName() + "@" + System.identityHashCode(proxy);
+                    default -> null;
+                }));
+    }
+
+    private static class RecordingListener implements ServletContextListener, ServletContextAttributeListener {
+        final List<ServletContextEvent> events = new ArrayList<>();
+
+        @Override
+        public void contextInitialized(ServletContextEvent sce) {
+            events.add(sce);
+        }
+
+        @Override
+        public void contextDestroyed(ServletContextEvent sce) {
+            events.add(sce);
+        }
+    }
+}
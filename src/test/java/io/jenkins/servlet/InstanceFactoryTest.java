@@ -0,0 +1,79 @@
+package io.jenkins.servlet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import javax.servlet.ServletException;
+import org.junit.Test;
+
+public class InstanceFactoryTest {
+
+    @Test
+    public void createsAFreshInstanceEveryTime() throws ServletException {
+        Counted first = InstanceFactory.newInstance(Counted.class, ServletException::new);
+        Counted second = InstanceFactory.newInstance(Counted.class, ServletException::new);
+        assertNotSame(first, second);
+        assertEquals(first.number + 1, second.number);
+    }
+
+    @Test
+    public void reportsClassesThatCannotBeInstantiatedThroughTheGivenException() {
+        for (Class<?> type : new Class<?>[] {NoPublicConstructor.class, NeedsArgument.class, Abstract.class}) {
+            for (int attempt = 0; attempt < 2; attempt++) {
+                ServletException e = assertThrows(
+                        ServletException.class, () -> InstanceFactory.newInstance(type, ServletException::new));
+                assertEquals("Cannot instantiate " + type.getName(), e.getMessage());
+                assertTrue(e.getRootCause() instanceof ReflectiveOperationException);
+            }
+        }
+        assertThrows(NullPointerException.class, () -> InstanceFactory.newInstance(null, ServletException::new));
+    }
+
+    @Test
+    public void wrapsOnlyCheckedConstructorExceptions() {
+        IllegalArgumentException e = assertThrows(
+                IllegalArgumentException.class,
+                () -> InstanceFactory.newInstance(ThrowsChecked.class, IllegalArgumentException::new));
+        assertSame(ThrowsChecked.FAILURE, e.getCause());
+
+        IllegalStateException unchecked = assertThrows(
+                IllegalStateException.class,
+                () -> InstanceFactory.newInstance(ThrowsUnchecked.class, IllegalArgumentException::new));
+        assertEquals("unchecked", unchecked.getMessage());
+    }
+
+    public static class Counted {
+        private static int instances;
+
+        final int number = ++instances;
+    }
+
+    public static class NoPublicConstructor {
+        NoPublicConstructor() {}
+    }
+
+    public static class NeedsArgument {
+        public NeedsArgument(String argument) {}
+    }
+
+    public abstract static class Abstract {
+        public Abstract() {}
+    }
+
+    public static class ThrowsChecked {
+        static final Exception FAILURE = new Exception("checked");
+
+        public ThrowsChecked() throws Exception {
+            throw FAILURE;
+        }
+    }
+
+    public static class ThrowsUnchecked {
+        public ThrowsUnchecked() {
+            throw new IllegalStateException("unchecked");
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package io.jenkins.servlet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import io.jenkins.servlet.http.HttpServletRequestWrapper;
+import io.jenkins.servlet.http.HttpSessionWrapper;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.EventListener;
+import java.util.List;
+import java.util.Map;
+import javax.servlet.Filter;
+import javax.servlet.GenericServlet;
+import javax.servlet.Servlet;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletContextListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import org.junit.Test;
+
+public class ServletContextWrapperTest {
+
+    @Test
+    public void convertingTheSameContextReturnsTheSameAdapter() {
+        ServletContext javax = proxy(ServletContext.class, Map.of());
+        jakarta.servlet.ServletContext adapter = ServletContextWrapper.toJakartaServletContext(javax);
+        assertSame(adapter, ServletContextWrapper.toJakartaServletContext(javax));
+        assertNotSame(adapter, ServletContextWrapper.toJakartaServletContext(proxy(ServletContext.class, Map.of())));
+
+        jakarta.servlet.ServletContext jakarta = proxy(jakarta.servlet.ServletContext.class, Map.of());
+        ServletContext back = ServletContextWrapper.fromJakartServletContext(jakarta);
+        assertSame(back, ServletContextWrapper.fromJakartServletContext(jakarta));
+
+        assertThrows(NullPointerException.class, () -> ServletContextWrapper.toJakartaServletContext(null));
+        assertThrows(NullPointerException.class, () -> ServletContextWrapper.fromJakartServletContext(null));
+    }
+
+    @Test
+    public void roundTripsReturnTheOriginalContext() {
+        ServletContext javax = proxy(ServletContext.class, Map.of());
+        assertSame(
+                javax,
+                ServletContextWrapper.fromJakartServletContext(ServletContextWrapper.toJakartaServletContext(javax)));
+
+        jakarta.servlet.ServletContext jakarta = proxy(jakarta.servlet.ServletContext.class, Map.of());
+        assertSame(
+                jakarta,
+                ServletContextWrapper.toJakartaServletContext(ServletContextWrapper.fromJakartServletContext(jakarta)));
+    }
+
+    @Test
+    public void everyPathToAContextSharesOneAdapter() {
+        jakarta.servlet.ServletContext context = proxy(jakarta.servlet.ServletContext.class, Map.of());
+        ServletContext adapter = ServletContextWrapper.fromJakartServletContext(context);
+        jakarta.servlet.ServletContext self =
+                proxy(jakarta.servlet.ServletContext.class, Map.of("getContext", context));
+        jakarta.servlet.http.HttpSession session =
+                proxy(jakarta.servlet.http.HttpSession.class, Map.of("getServletContext", context));
+        jakarta.servlet.http.HttpServletRequest request =
+                proxy(jakarta.servlet.http.HttpServletRequest.class, Map.of("getServletContext", context));
+
+        assertSame(adapter, ServletContextWrapper.fromJakartServletContext(self).getContext("/"));
+        assertSame(adapter, HttpSessionWrapper.fromJakartaHttpSession(session).getServletContext());
+        assertSame(
+                adapter,
+                HttpServletRequestWrapper.fromJakartaHttpServletRequest(request).getServletContext());
+    }
+
+    @Test
+    public void createListenerIsLeftToTheJavaxContainer() throws Exception {
+        List<Class<?>> requested = new ArrayList<>();
+        jakarta.servlet.ServletContextListener created = new jakarta.servlet.ServletContextListener() {};
+        ServletContext container = ServletContext.class.cast(Proxy.newProxyInstance(
+                ServletContext.class.getClassLoader(), new Class<?>[] {ServletContext.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("createListener")) {
+                        return null;
+                    }
+                    requested.add((Class<?>) args[0]);
+                    if (args[0] == Unloadable.class) {
+                        throw new ServletException("cannot create");
+                    }
+                    return created;
+                }));
+        jakarta.servlet.ServletContext adapter = ServletContextWrapper.toJakartaServletContext(container);
+        assertSame(created, adapter.createListener(jakarta.servlet.ServletContextListener.class));
+        assertThrows(jakarta.servlet.ServletException.class, () -> adapter.createListener(Unloadable.class));
+        assertEquals(List.of(jakarta.servlet.ServletContextListener.class, Unloadable.class), requested);
+    }
+
+    @Test
+    public void createsWhatTheOtherContainerCannot() throws Exception {
+        jakarta.servlet.ServletContext jakarta =
+                ServletContextWrapper.toJakartaServletContext(proxy(ServletContext.class, Map.of()));
+        assertTrue(jakarta.createServlet(JakartaServlet.class) instanceof JakartaServlet);
+
+        ServletContext javax =
+                ServletContextWrapper.fromJakartServletContext(proxy(jakarta.servlet.ServletContext.class, Map.of()));
+        assertTrue(javax.createListener(Listener.class) instanceof Listener);
+        assertThrows(IllegalArgumentException.class, () -> javax.createListener(Unloadable.class));
+    }
+
+    @Test
+    public void classNamesOfTheOtherApiAreRegisteredThroughAdapters() {
+        List<Object[]> registered = new ArrayList<>();
+        jakarta.servlet.ServletContext jakarta =
+                ServletContextWrapper.toJakartaServletContext(container(ServletContext.class, registered));
+        jakarta.addServlet("jakarta", JakartaServlet.class.getName());
+        jakarta.addServlet("javax", JavaxServlet.class.getName());
+        jakarta.addServlet("missing", "no.such.Servlet");
+        jakarta.addFilter("jakarta", JakartaFilter.class.getName());
+        jakarta.addListener(JakartaListener.class.getName());
+        jakarta.addListener(Listener.class.getName());
+
+        assertTrue(registered.get(0)[1] instanceof Servlet);
+        assertEquals(JavaxServlet.class.getName(), registered.get(1)[1]);
+        assertEquals("no.such.Servlet", registered.get(2)[1]);
+        assertTrue(registered.get(3)[1] instanceof Filter);
+        assertTrue(registered.get(4)[0] instanceof ServletContextListener);
+        assertEquals(Listener.class.getName(), registered.get(5)[0]);
+        assertEquals(6, registered.size());
+
+        registered.clear();
+        ServletContext javax = ServletContextWrapper.fromJakartServletContext(
+                container(jakarta.servlet.ServletContext.class, registered));
+        javax.addServlet("javax", JavaxServlet.class.getName());
+        javax.addFilter("jakarta", JakartaFilter.class.getName());
+        javax.addListener(Listener.class.getName());
+        assertTrue(registered.get(0)[1] instanceof jakarta.servlet.Servlet);
+        assertEquals(JakartaFilter.class.getName(), registered.get(1)[1]);
+        assertTrue(registered.get(2)[0] instanceof jakarta.servlet.ServletContextListener);
+    }
+
+    /*
+     * A container that records the arguments of every registration and answers with a registration of its own.
+     */
+    private static <T> T container(Class<T> type, List<Object[]> registered) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> switch (method.getName()) {
+                    case "addServlet", "addFilter", "addListener" -> {
+                        registered.add(args);
+                        yield method.getReturnType() == void.class ? null : proxy(method.getReturnType(), Map.of());
+                    }
+                    case "getClassLoader" -> ServletContextWrapperTest.class.getClassLoader();
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> null;
+                }));
+    }
+
+    public static class JavaxServlet extends GenericServlet {
+        @Override
+        public void service(ServletRequest req, ServletResponse res) {}
+    }
+
+    public static class JakartaFilter implements jakarta.servlet.Filter {
+        @Override
+        public void doFilter(
+                jakarta.servlet.ServletRequest request,
+                jakarta.servlet.ServletResponse response,
+                jakarta.servlet.FilterChain chain) {}
+    }
+
+    public static class JakartaListener implements jakarta.servlet.ServletContextListener {}
+
+    public static class JakartaServlet extends jakarta.servlet.GenericServlet {
+        @Override
+        public void service(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {}
+    }
+
+    public static class Listener implements ServletContextListener {}
+
+    public static class Unloadable implements EventListener {}
+
+    private static <T> T proxy(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> type.getSimpleName() + "@" + System.identityHashCode(proxy);
+                    default -> answers.get(method.getName());
+                }));
+    }
+}
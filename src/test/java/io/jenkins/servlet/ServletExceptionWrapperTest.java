@@ -0,0 +1,67 @@
+package io.jenkins.servlet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import javax.servlet.ServletException;
+import javax.servlet.UnavailableException;
+import org.junit.Test;
+
+public class ServletExceptionWrapperTest {
+
+    @Test
+    public void roundTripsReturnTheOriginalException() {
+        ServletException javax = new ServletException("boom");
+        jakarta.servlet.ServletException converted = ServletExceptionWrapper.toJakartaServletException(javax);
+        assertSame(javax, converted.getCause());
+        assertSame(javax, converted.getRootCause());
+        assertSame(javax, ServletExceptionWrapper.fromJakartaServletException(converted));
+
+        jakarta.servlet.ServletException jakarta = new jakarta.servlet.ServletException("bang");
+        ServletException back = ServletExceptionWrapper.fromJakartaServletException(jakarta);
+        assertSame(jakarta, back.getCause());
+        assertSame(jakarta, ServletExceptionWrapper.toJakartaServletException(back));
+
+        assertThrows(NullPointerException.class, () -> ServletExceptionWrapper.toJakartaServletException(null));
+        assertThrows(NullPointerException.class, () -> ServletExceptionWrapper.fromJakartaServletException(null));
+    }
+
+    @Test
+    public void adaptersCarryTheOriginalMessageButNoStackTrace() {
+        ServletException javax = new ServletException("boom");
+        jakarta.servlet.ServletException converted = ServletExceptionWrapper.toJakartaServletException(javax);
+        assertEquals(javax.toString(), converted.getMessage());
+        assertEquals(jakarta.servlet.ServletException.class.getName() + ": " + javax, converted.toString());
+        assertEquals(0, converted.getStackTrace().length);
+
+        jakarta.servlet.ServletException jakarta = new jakarta.servlet.ServletException("bang");
+        ServletException back = ServletExceptionWrapper.fromJakartaServletException(jakarta);
+        assertEquals(jakarta.toString(), back.getMessage());
+        assertEquals(0, back.getStackTrace().length);
+    }
+
+    @Test
+    public void preservesUnavailableExceptions() {
+        UnavailableException temporary = new UnavailableException("busy", 30);
+        jakarta.servlet.ServletException converted = ServletExceptionWrapper.toJakartaServletException(temporary);
+        assertTrue(converted instanceof jakarta.servlet.UnavailableException);
+        jakarta.servlet.UnavailableException unavailable = (jakarta.servlet.UnavailableException) converted;
+        assertFalse(unavailable.isPermanent());
+        assertEquals(30, unavailable.getUnavailableSeconds());
+        assertSame(temporary, unavailable.getCause());
+        assertSame(temporary, unavailable.getRootCause());
+        assertEquals(0, unavailable.getStackTrace().length);
+        assertSame(temporary, ServletExceptionWrapper.fromJakartaServletException(unavailable));
+
+        jakarta.servlet.UnavailableException permanent = new jakarta.servlet.UnavailableException("gone");
+        ServletException back = ServletExceptionWrapper.fromJakartaServletException(permanent);
+        assertTrue(back instanceof UnavailableException);
+        assertTrue(((UnavailableException) back).isPermanent());
+        assertEquals(-1, ((UnavailableException) back).getUnavailableSeconds());
+        assertSame(permanent, back.getCause());
+        assertSame(permanent, ServletExceptionWrapper.toJakartaServletException(back));
+    }
+}
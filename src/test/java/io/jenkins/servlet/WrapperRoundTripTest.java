@@ -0,0 +1,192 @@
+package io.jenkins.servlet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import io.jenkins.servlet.descriptor.JspConfigDescriptorWrapper;
+import io.jenkins.servlet.descriptor.JspPropertyGroupDescriptorWrapper;
+import io.jenkins.servlet.descriptor.TaglibDescriptorWrapper;
+import io.jenkins.servlet.http.HttpServletMappingWrapper;
+import io.jenkins.servlet.http.HttpServletRequestWrapper;
+import io.jenkins.servlet.http.HttpServletResponseWrapper;
+import io.jenkins.servlet.http.HttpSessionAttributeListenerWrapper;
+import io.jenkins.servlet.http.HttpSessionContextWrapper;
+import io.jenkins.servlet.http.HttpSessionIdListenerWrapper;
+import io.jenkins.servlet.http.HttpSessionListenerWrapper;
+import io.jenkins.servlet.http.HttpSessionWrapper;
+import io.jenkins.servlet.http.HttpUpgradeHandlerWrapper;
+import io.jenkins.servlet.http.PartWrapper;
+import io.jenkins.servlet.http.PushBuilderWrapper;
+import io.jenkins.servlet.http.WebConnectionWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRegistration;
+import javax.servlet.WriteListener;
+import org.junit.Test;
+
+public class WrapperRoundTripTest {
+    private static final List<Class<?>> WRAPPERS = List.of(
+            AsyncContextWrapper.class,
+            AsyncListenerWrapper.class,
+            FilterChainWrapper.class,
+            FilterConfigWrapper.class,
+            FilterRegistrationDynamicWrapper.class,
+            FilterRegistrationWrapper.class,
+            FilterWrapper.class,
+            ReadListenerWrapper.class,
+            RegistrationDynamicWrapper.class,
+            RegistrationWrapper.class,
+            RequestDispatcherWrapper.class,
+            ServletConfigWrapper.class,
+            ServletContextAttributeListenerWrapper.class,
+            ServletContextListenerWrapper.class,
+            ServletContextWrapper.class,
+            ServletRegistrationDynamicWrapper.class,
+            ServletRegistrationWrapper.class,
+            ServletRequestAttributeListenerWrapper.class,
+            ServletRequestListenerWrapper.class,
+            ServletRequestWrapper.class,
+            ServletResponseWrapper.class,
+            ServletWrapper.class,
+            SessionCookieConfigWrapper.class,
+            WriteListenerWrapper.class,
+            JspConfigDescriptorWrapper.class,
+            JspPropertyGroupDescriptorWrapper.class,
+            TaglibDescriptorWrapper.class,
+            HttpServletMappingWrapper.class,
+            HttpServletRequestWrapper.class,
+            HttpServletResponseWrapper.class,
+            HttpSessionAttributeListenerWrapper.class,
+            HttpSessionContextWrapper.class,
+            HttpSessionIdListenerWrapper.class,
+            HttpSessionListenerWrapper.class,
+            HttpSessionWrapper.class,
+            HttpUpgradeHandlerWrapper.class,
+            PartWrapper.class,
+            PushBuilderWrapper.class,
+            WebConnectionWrapper.class);
+
+    @Test
+    public void everyInterfaceAdapterUnwrapsOnARoundTrip() throws Exception {
+        int pairs = 0;
+        for (Class<?> wrapper : WRAPPERS) {
+            for (Method to : wrapper.getMethods()) {
+                if (!isConversion(to, "toJakarta")) {
+                    continue;
+                }
+                Class<?> javaxType = to.getParameterTypes()[0];
+                Class<?> jakartaType = to.getReturnType();
+                Method from = findConversion(wrapper, jakartaType, javaxType);
+                String what = wrapper.getSimpleName() + "." + to.getName();
+
+                Object javax = proxy(javaxType);
+                Object toJakarta = to.invoke(null, javax);
+                assertNotSame(what, javax, toJakarta);
+                assertTrue(what, jakartaType.isInstance(toJakarta));
+                assertSame(what, javax, from.invoke(null, toJakarta));
+
+                Object jakarta = proxy(jakartaType);
+                Object toJavax = from.invoke(null, jakarta);
+                assertNotSame(what, jakarta, toJavax);
+                assertTrue(what, javaxType.isInstance(toJavax));
+                assertSame(what, jakarta, to.invoke(null, toJavax));
+                pairs++;
+            }
+        }
+        assertEquals(WRAPPERS.size(), pairs);
+    }
+
+    @Test
+    public void registrationAdaptersUnwrapAsTheirSuperInterfaces() {
+        ServletRegistration.Dynamic dynamic = proxy(ServletRegistration.Dynamic.class);
+        jakarta.servlet.ServletRegistration.Dynamic converted =
+                ServletRegistrationDynamicWrapper.toJakartaServletRegistrationDynamic(dynamic);
+        assertSame(dynamic, ServletRegistrationWrapper.fromJakartaServletRegistration(converted));
+        assertSame(dynamic, RegistrationDynamicWrapper.fromJakartaRegistrationDynamic(converted));
+        assertSame(dynamic, RegistrationWrapper.fromJakartaRegistration(converted));
+    }
+
+    @Test
+    public void streamAdaptersUnwrapOnARoundTrip() throws IOException {
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        ServletOutputStream out = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {}
+        };
+        jakarta.servlet.ServletOutputStream jakartaOut = ServletOutputStreamWrapper.toJakartaServletOutputStream(out);
+        assertSame(out, ServletOutputStreamWrapper.fromJakartaServletOutputStream(jakartaOut));
+        jakartaOut.print("ok");
+        assertEquals("ok", written.toString("ISO-8859-1"));
+
+        ServletInputStream in = new ServletInputStream() {
+            @Override
+            public int read() {
+                return 'x';
+            }
+
+            @Override
+            public boolean isFinished() {
+                return false;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {}
+        };
+        jakarta.servlet.ServletInputStream jakartaIn = ServletInputStreamWrapper.toJakartaServletInputStream(in);
+        assertSame(in, ServletInputStreamWrapper.fromJakartaServletInputStream(jakartaIn));
+        assertEquals('x', jakartaIn.read());
+    }
+
+    private static boolean isConversion(Method method, String prefix) {
+        return Modifier.isStatic(method.getModifiers())
+                && method.getName().startsWith(prefix)
+                && method.getParameterCount() == 1
+                && method.getParameterTypes()[0].isInterface();
+    }
+
+    private static Method findConversion(Class<?> wrapper, Class<?> parameterType, Class<?> returnType) {
+        for (Method method : wrapper.getMethods()) {
+            // not "fromJakarta", to also match ServletContextWrapper.fromJakartServletContext
+            if (isConversion(method, "fromJakart")
+                    && method.getParameterTypes()[0] == parameterType
+                    && method.getReturnType() == returnType) {
+                return method;
+            }
+        }
+        throw new AssertionError("no fromJakarta counterpart in " + wrapper.getName() + " for " + parameterType);
+    }
+
+    private static <T> T proxy(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> type.getSimpleName() + "@" + System.identityHashCode(proxy);
+                    default -> null;
+                }));
+    }
+}
@@ -0,0 +1,129 @@
+package io.jenkins.servlet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.junit.Test;
+
+public class WrapperViewsTest {
+    private final List<String> converted = new ArrayList<>();
+
+    private StringBuilder convert(String s) {
+        converted.add(s);
+        return new StringBuilder(s);
+    }
+
+    @Test
+    public void collectionsConvertOnlyWhatIsIterated() {
+        List<String> source = new ArrayList<>(List.of("a", "b", "c"));
+        Collection<StringBuilder> view = WrapperViews.collection(source, this::convert);
+        assertEquals(3, view.size());
+        assertFalse(view.isEmpty());
+        assertEquals(List.of(), converted);
+
+        Iterator<StringBuilder> it = view.iterator();
+        StringBuilder a = it.next();
+        assertEquals(List.of("a"), converted);
+
+        List<StringBuilder> all = new ArrayList<>(view);
+        assertSame(a, all.get(0));
+        assertEquals(List.of("a", "b", "c"), converted);
+        // a second pass reuses the adapters of the first
+        List<StringBuilder> again = new ArrayList<>(view);
+        for (int i = 0; i < all.size(); i++) {
+            assertSame(all.get(i), again.get(i));
+        }
+        assertEquals(3, converted.size());
+    }
+
+    @Test
+    public void collectionsReflectChangesToTheSource() {
+        List<String> source = new ArrayList<>(List.of("a", "b"));
+        Collection<StringBuilder> view = WrapperViews.collection(source, this::convert);
+        List<StringBuilder> before = new ArrayList<>(view);
+
+        source.set(1, "x");
+        source.add("y");
+        List<StringBuilder> after = new ArrayList<>(view);
+        assertEquals(3, view.size());
+        assertSame(before.get(0), after.get(0));
+        assertNotSame(before.get(1), after.get(1));
+        assertEquals("x", after.get(1).toString());
+        assertEquals("y", after.get(2).toString());
+
+        source.clear();
+        assertTrue(view.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> view.add(new StringBuilder()));
+    }
+
+    @Test
+    public void mapsConvertOnlyTheValuesLookedUp() {
+        Map<String, String> source = new LinkedHashMap<>();
+        source.put("one", "1");
+        source.put("two", "2");
+        source.put("none", null);
+        Map<String, StringBuilder> view = WrapperViews.map(source, this::convert);
+        assertTrue(view.containsKey("two"));
+        assertEquals(3, view.size());
+        assertEquals(List.of("one", "two", "none"), new ArrayList<>(view.keySet()));
+        assertEquals(List.of(), converted);
+
+        StringBuilder two = view.get("two");
+        assertSame(two, view.get("two"));
+        assertNull(view.get("none"));
+        assertNull(view.get("missing"));
+        assertEquals(List.of("2"), converted);
+
+        Map<String, StringBuilder> copy = new LinkedHashMap<>(view);
+        assertSame(two, copy.get("two"));
+        assertEquals(List.of("2", "1"), converted);
+    }
+
+    @Test
+    public void mapsReflectChangesToTheSource() {
+        Map<String, String> source = new LinkedHashMap<>();
+        source.put("one", "1");
+        Map<String, StringBuilder> view = WrapperViews.map(source, this::convert);
+        StringBuilder one = view.get("one");
+
+        source.put("one", "uno");
+        source.put("two", "2");
+        assertNotSame(one, view.get("one"));
+        assertEquals("uno", view.get("one").toString());
+        assertEquals("2", view.get("two").toString());
+
+        source.remove("one");
+        assertFalse(view.containsKey("one"));
+        assertEquals(1, view.entrySet().size());
+        assertThrows(UnsupportedOperationException.class, () -> view.put("three", new StringBuilder()));
+        assertThrows(UnsupportedOperationException.class, () -> view.keySet().remove("two"));
+    }
+
+    @Test
+    public void enumerationsConvertAsTheyAreConsumedAndOnlyOnce() {
+        Enumeration<StringBuilder> view =
+                WrapperViews.enumeration(Collections.enumeration(List.of("a", "b")), this::convert);
+        assertEquals(List.of(), converted);
+        assertTrue(view.hasMoreElements());
+        assertEquals("a", view.nextElement().toString());
+        assertEquals(List.of("a"), converted);
+        assertEquals("b", view.nextElement().toString());
+        assertFalse(view.hasMoreElements());
+        assertThrows(NoSuchElementException.class, view::nextElement);
+        assertEquals(List.of("a", "b"), converted);
+    }
+}
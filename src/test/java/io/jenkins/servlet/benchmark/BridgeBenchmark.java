@@ -0,0 +1,117 @@
+package io.jenkins.servlet.benchmark;
+
+import io.jenkins.servlet.FilterChainWrapper;
+import io.jenkins.servlet.ServletWrapper;
+import io.jenkins.servlet.http.HttpServletRequestWrapper;
+import io.jenkins.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of the javax bridge on the operations a Jenkins request commonly performs, starting from the
+ * Jakarta objects a container would supply.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BridgeBenchmark {
+    private final byte[] chunk = new byte[512];
+    private final String page = "<tr><td>jenkins</td></tr>".repeat(1024);
+
+    private jakarta.servlet.http.HttpServletRequest containerRequest;
+    private StubHttpServletResponse containerResponse;
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() {
+        jakarta.servlet.http.Cookie[] cookies = {
+            new jakarta.servlet.http.Cookie("JSESSIONID.1234abcd", "node0benchmark"),
+            new jakarta.servlet.http.Cookie("screenResolution", "1920x1080"),
+            new jakarta.servlet.http.Cookie("jenkins-timestamper-offset", "0")
+        };
+        containerRequest = new StubHttpServletRequest(cookies, new StubHttpSession());
+        containerResponse = new StubHttpServletResponse();
+        request = HttpServletRequestWrapper.fromJakartaHttpServletRequest(containerRequest);
+        response = HttpServletResponseWrapper.fromJakartaHttpServletResponse(containerResponse);
+
+        jakarta.servlet.Servlet servlet = ServletWrapper.toJakartaServlet(new BenchmarkServlet());
+        chain = FilterChainWrapper.fromJakartaFilterChain(servlet::service);
+    }
+
+    @Benchmark
+    public HttpServletRequest wrapRequest() {
+        return HttpServletRequestWrapper.fromJakartaHttpServletRequest(containerRequest);
+    }
+
+    @Benchmark
+    public String getHeader() {
+        return request.getHeader("User-Agent");
+    }
+
+    @Benchmark
+    public String getParameter() {
+        return request.getParameter("name");
+    }
+
+    @Benchmark
+    public Cookie[] getCookies() {
+        return request.getCookies();
+    }
+
+    @Benchmark
+    public HttpSession getSession() {
+        return request.getSession(false);
+    }
+
+    @Benchmark
+    public void outputStreamWrite() throws IOException {
+        response.getOutputStream().write(chunk);
+    }
+
+    @Benchmark
+    public void outputStreamPrintLong() throws IOException {
+        response.getOutputStream().println(System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public void outputStreamPrintString() throws IOException {
+        response.getOutputStream().print(page);
+    }
+
+    @Benchmark
+    public void filterChainDispatch() throws IOException, ServletException {
+        chain.doFilter(request, response);
+    }
+
+    private static final class BenchmarkServlet extends HttpServlet {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            resp.setContentType("text/plain");
+            resp.getOutputStream().write('x');
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.jenkins.servlet.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class CookieArrayCacheTest {
+    private final List<String> converted = new ArrayList<>();
+
+    @Test
+    public void reusesTheConvertedCookiesWhileTheSourceIsUnchanged() {
+        CookieArrayCache<String, StringBuilder> cache = cache(false);
+        String[] source = {"a", "b"};
+        StringBuilder[] first = cache.get(source);
+        StringBuilder[] second = cache.get(source);
+        assertNotSame(first, second);
+        assertSame(first[0], second[0]);
+        assertSame(first[1], second[1]);
+        // an equal array, even a different instance, holding the same cookies is a hit
+        StringBuilder[] third = cache.get(new String[] {source[0], source[1]});
+        assertSame(first[0], third[0]);
+        assertEquals(List.of("a", "b"), converted);
+        assertNull(cache.get(null));
+    }
+
+    @Test
+    public void reconvertsWhenTheSourceChanges() {
+        CookieArrayCache<String, StringBuilder> cache = cache(false);
+        String[] source = {"a", "b"};
+        StringBuilder[] first = cache.get(source);
+
+        source[1] = new String("b");
+        StringBuilder[] changed = cache.get(source);
+        assertNotSame(first[1], changed[1]);
+
+        StringBuilder[] shorter = cache.get(new String[] {source[0]});
+        assertEquals(1, shorter.length);
+        assertEquals(List.of("a", "b", "a", "b", "a"), converted);
+    }
+
+    @Test
+    public void callersCannotChangeEachOthersArrays() {
+        CookieArrayCache<String, StringBuilder> cache = cache(false);
+        String[] source = {"a", "b"};
+        StringBuilder[] first = cache.get(source);
+        StringBuilder a = first[0];
+        first[0] = new StringBuilder("replaced");
+        first[1] = null;
+        StringBuilder[] second = cache.get(source);
+        assertSame(a, second[0]);
+        assertEquals("b", second[1].toString());
+    }
+
+    @Test
+    public void clonesEveryCookieOnlyWhenAskedTo() {
+        CookieArrayCache<String, StringBuilder> cache = cache(true);
+        String[] source = {"a"};
+        StringBuilder[] first = cache.get(source);
+        StringBuilder[] second = cache.get(source);
+        assertNotSame(first[0], second[0]);
+        first[0].append("!");
+        assertEquals("a", second[0].toString());
+        assertEquals(List.of("a"), converted);
+    }
+
+    private CookieArrayCache<String, StringBuilder> cache(boolean cloneCookies) {
+        return new CookieArrayCache<>(
+                name -> {
+                    converted.add(name);
+                    return new StringBuilder(name);
+                },
+                StringBuilder[]::new,
+                StringBuilder::new,
+                cloneCookies);
+    }
+}
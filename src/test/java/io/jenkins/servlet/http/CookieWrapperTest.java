@@ -0,0 +1,93 @@
+package io.jenkins.servlet.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import javax.servlet.http.Cookie;
+import org.junit.Test;
+
+public class CookieWrapperTest {
+
+    @Test
+    public void jakartaViewsWriteThroughToTheJavaxCookie() {
+        Cookie cookie = new Cookie("session", "1");
+        jakarta.servlet.http.Cookie view = CookieWrapper.toJakartaServletHttpCookie(cookie);
+        assertEquals("session", view.getName());
+
+        view.setValue("2");
+        view.setMaxAge(60);
+        view.setPath("/app");
+        assertEquals("2", cookie.getValue());
+        assertEquals(60, cookie.getMaxAge());
+        assertEquals("/app", cookie.getPath());
+
+        cookie.setHttpOnly(true);
+        cookie.setDomain("example.com");
+        assertTrue(view.isHttpOnly());
+        assertEquals("example.com", view.getDomain());
+        assertSame(cookie, CookieWrapper.fromJakartaServletHttpCookie(view));
+    }
+
+    @Test
+    public void javaxViewsWriteThroughToTheJakartaCookie() {
+        jakarta.servlet.http.Cookie cookie = new jakarta.servlet.http.Cookie("session", "1");
+        Cookie view = CookieWrapper.fromJakartaServletHttpCookie(cookie);
+        assertEquals("session", view.getName());
+
+        view.setValue("2");
+        view.setMaxAge(60);
+        view.setPath("/app");
+        assertEquals("2", cookie.getValue());
+        assertEquals(60, cookie.getMaxAge());
+        assertEquals("/app", cookie.getPath());
+
+        cookie.setSecure(true);
+        assertTrue(view.getSecure());
+        assertSame(cookie, CookieWrapper.toJakartaServletHttpCookie(view));
+    }
+
+    @Test
+    public void clonesDetachFromTheWrappedCookie() {
+        Cookie cookie = new Cookie("session", "1");
+        jakarta.servlet.http.Cookie clone = (jakarta.servlet.http.Cookie)
+                CookieWrapper.toJakartaServletHttpCookie(cookie).clone();
+        clone.setValue("2");
+        cookie.setPath("/app");
+        assertEquals("1", cookie.getValue());
+        assertEquals("2", clone.getValue());
+        assertNull(clone.getPath());
+        assertEquals("session", clone.getName());
+
+        jakarta.servlet.http.Cookie jakarta = new jakarta.servlet.http.Cookie("session", "1");
+        Cookie javaxClone =
+                (Cookie) CookieWrapper.fromJakartaServletHttpCookie(jakarta).clone();
+        javaxClone.setMaxAge(5);
+        assertEquals(-1, jakarta.getMaxAge());
+        assertEquals(5, javaxClone.getMaxAge());
+    }
+
+    @Test
+    public void requestCookiesAreSharedViews() {
+        jakarta.servlet.http.Cookie cookie = new jakarta.servlet.http.Cookie("session", "1");
+        jakarta.servlet.http.Cookie[] cookies = {cookie};
+        jakarta.servlet.http.HttpServletRequest request =
+                (jakarta.servlet.http.HttpServletRequest) Proxy.newProxyInstance(
+                        getClass().getClassLoader(),
+                        new Class<?>[] {jakarta.servlet.http.HttpServletRequest.class},
+                        (proxy, method, args) -> method.getName().equals("getCookies") ? cookies : null);
+        javax.servlet.http.HttpServletRequest wrapped =
+                HttpServletRequestWrapper.fromJakartaHttpServletRequest(request);
+
+        Cookie[] first = wrapped.getCookies();
+        Cookie[] second = wrapped.getCookies();
+        assertNotSame(first, second);
+        assertSame(first[0], second[0]);
+        first[0].setValue("2");
+        assertEquals("2", cookie.getValue());
+        assertEquals("2", second[0].getValue());
+    }
+}
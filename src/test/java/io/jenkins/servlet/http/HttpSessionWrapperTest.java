@@ -0,0 +1,68 @@
+package io.jenkins.servlet.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.lang.reflect.Proxy;
+import javax.servlet.http.HttpSession;
+import org.junit.Test;
+
+public class HttpSessionWrapperTest {
+
+    @Test
+    public void wrapsEachSessionOnceInBothDirections() {
+        HttpSession javax = session(HttpSession.class, false);
+        jakarta.servlet.http.HttpSession adapter = HttpSessionWrapper.toJakartaHttpSession(javax);
+        assertSame(adapter, HttpSessionWrapper.toJakartaHttpSession(javax));
+        assertSame(javax, HttpSessionWrapper.fromJakartaHttpSession(adapter));
+
+        jakarta.servlet.http.HttpSession jakarta = session(jakarta.servlet.http.HttpSession.class, false);
+        HttpSession back = HttpSessionWrapper.fromJakartaHttpSession(jakarta);
+        assertSame(back, HttpSessionWrapper.fromJakartaHttpSession(jakarta));
+        assertSame(jakarta, HttpSessionWrapper.toJakartaHttpSession(back));
+    }
+
+    @Test
+    public void invalidationForgetsTheAdapter() {
+        HttpSession javax = session(HttpSession.class, false);
+        jakarta.servlet.http.HttpSession adapter = HttpSessionWrapper.toJakartaHttpSession(javax);
+        adapter.invalidate();
+        assertNotSame(adapter, HttpSessionWrapper.toJakartaHttpSession(javax));
+
+        jakarta.servlet.http.HttpSession jakarta = session(jakarta.servlet.http.HttpSession.class, false);
+        HttpSession back = HttpSessionWrapper.fromJakartaHttpSession(jakarta);
+        back.invalidate();
+        assertNotSame(back, HttpSessionWrapper.fromJakartaHttpSession(jakarta));
+    }
+
+    @Test
+    public void failedInvalidationForgetsTheAdapterToo() {
+        HttpSession javax = session(HttpSession.class, true);
+        jakarta.servlet.http.HttpSession adapter = HttpSessionWrapper.toJakartaHttpSession(javax);
+        IllegalStateException e = assertThrows(IllegalStateException.class, adapter::invalidate);
+        assertEquals("already invalidated", e.getMessage());
+        assertNotSame(adapter, HttpSessionWrapper.toJakartaHttpSession(javax));
+
+        jakarta.servlet.http.HttpSession jakarta = session(jakarta.servlet.http.HttpSession.class, true);
+        HttpSession back = HttpSessionWrapper.fromJakartaHttpSession(jakarta);
+        assertThrows(IllegalStateException.class, back::invalidate);
+        assertNotSame(back, HttpSessionWrapper.fromJakartaHttpSession(jakarta));
+    }
+
+    private static <T> T session(Class<T> type, boolean invalidated) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "invalidate" -> {
+                        if (invalidated) {
+                            throw new IllegalStateException("already invalidated");
+                        }
+                        yield null;
+                    }
+                    default -> null;
+                }));
+    }
+}
@@ -0,0 +1,171 @@
+package io.jenkins.servlet.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import io.jenkins.servlet.ServletExceptionWrapper;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpUpgradeHandler;
+import javax.servlet.http.WebConnection;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HttpUpgradeHandlerWrapperTest {
+    private static final List<String> events = new ArrayList<>();
+
+    private Object containerHandler;
+
+    @Before
+    public void clearEvents() {
+        events.clear();
+    }
+
+    @Test
+    public void javaxServletsUpgradeJakartaRequests() throws Exception {
+        HttpServletRequest request = HttpServletRequestWrapper.fromJakartaHttpServletRequest(
+                request(jakarta.servlet.http.HttpServletRequest.class, null));
+        JavaxHandler handler = request.upgrade(JavaxHandler.class);
+        assertNotNull(handler);
+        assertEquals(List.of("upgrade", "new"), events);
+
+        // the container drives the adapter it instantiated, which reaches the application's handler
+        jakarta.servlet.http.HttpUpgradeHandler adapter = (jakarta.servlet.http.HttpUpgradeHandler) containerHandler;
+        assertSame(handler, HttpUpgradeHandlerWrapper.fromJakartaHttpUpgradeHandler(adapter));
+        jakarta.servlet.http.WebConnection connection = connection(jakarta.servlet.http.WebConnection.class);
+        adapter.init(connection);
+        assertSame(connection, WebConnectionWrapper.toJakartaWebConnection(handler.connection));
+        handler.connection.close();
+        adapter.destroy();
+        assertEquals(List.of("upgrade", "new", "init", "close", "destroy"), events);
+    }
+
+    @Test
+    public void jakartaServletsUpgradeJavaxRequests() throws Exception {
+        jakarta.servlet.http.HttpServletRequest request =
+                HttpServletRequestWrapper.toJakartaHttpServletRequest(request(HttpServletRequest.class, null));
+        JakartaHandler handler = request.upgrade(JakartaHandler.class);
+        assertNotNull(handler);
+        assertEquals(List.of("upgrade", "new"), events);
+
+        HttpUpgradeHandler adapter = (HttpUpgradeHandler) containerHandler;
+        assertSame(handler, HttpUpgradeHandlerWrapper.toJakartaHttpUpgradeHandler(adapter));
+        WebConnection connection = connection(WebConnection.class);
+        adapter.init(connection);
+        assertSame(connection, WebConnectionWrapper.fromJakartaWebConnection(handler.connection));
+        handler.connection.close();
+        adapter.destroy();
+        assertEquals(List.of("upgrade", "new", "init", "close", "destroy"), events);
+    }
+
+    @Test
+    public void failedUpgradesDoNotInstantiateTheHandler() {
+        jakarta.servlet.ServletException refused = new jakarta.servlet.ServletException("refused");
+        HttpServletRequest javax = HttpServletRequestWrapper.fromJakartaHttpServletRequest(
+                request(jakarta.servlet.http.HttpServletRequest.class, refused));
+        ServletException e = assertThrows(ServletException.class, () -> javax.upgrade(JavaxHandler.class));
+        assertSame(refused, ServletExceptionWrapper.toJakartaServletException(e));
+
+        jakarta.servlet.http.HttpServletRequest jakarta = HttpServletRequestWrapper.toJakartaHttpServletRequest(
+                request(HttpServletRequest.class, new ServletException("refused")));
+        assertThrows(jakarta.servlet.ServletException.class, () -> jakarta.upgrade(JakartaHandler.class));
+        assertEquals(List.of("upgrade", "upgrade"), events);
+    }
+
+    @Test
+    public void unboundAdaptersFailClearly() {
+        HttpUpgradeHandlerWrapper.JakartaHttpUpgradeHandlerWrapperImpl jakarta =
+                new HttpUpgradeHandlerWrapper.JakartaHttpUpgradeHandlerWrapperImpl();
+        assertThrows(
+                IllegalStateException.class, () -> jakarta.init(connection(jakarta.servlet.http.WebConnection.class)));
+        assertThrows(IllegalStateException.class, jakarta::destroy);
+        assertThrows(IllegalStateException.class, jakarta::toJavaxHttpUpgradeHandler);
+
+        HttpUpgradeHandlerWrapper.JavaxHttpUpgradeHandlerWrapperImpl javax =
+                new HttpUpgradeHandlerWrapper.JavaxHttpUpgradeHandlerWrapperImpl();
+        assertThrows(IllegalStateException.class, () -> javax.init(connection(WebConnection.class)));
+        assertThrows(IllegalStateException.class, javax::destroy);
+        assertThrows(IllegalStateException.class, javax::toJakartaHttpUpgradeHandler);
+
+        javax.bind(new JakartaHandler());
+        assertThrows(IllegalStateException.class, () -> javax.bind(new JakartaHandler()));
+        assertTrue(javax.toJakartaHttpUpgradeHandler() instanceof JakartaHandler);
+    }
+
+    /*
+     * A request whose upgrade instantiates the handler class reflectively, as a container does.
+     */
+    private <T> T request(Class<T> type, Exception failure) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> switch (method.getName()) {
+                    case "upgrade" -> {
+                        events.add("upgrade");
+                        if (failure != null) {
+                            throw failure;
+                        }
+                        containerHandler = ((Class<?>) args[0]).getConstructor().newInstance();
+                        yield containerHandler;
+                    }
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> null;
+                }));
+    }
+
+    private static <T> T connection(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> switch (method.getName()) {
+                    case "close" -> {
+                        events.add("close");
+                        yield null;
+                    }
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> null;
+                }));
+    }
+
+    public static class JavaxHandler implements HttpUpgradeHandler {
+        WebConnection connection;
+
+        public JavaxHandler() {
+            events.add("new");
+        }
+
+        @Override
+        public void init(WebConnection wc) {
+            events.add("init");
+            connection = wc;
+        }
+
+        @Override
+        public void destroy() {
+            events.add("destroy");
+        }
+    }
+
+    public static class JakartaHandler implements jakarta.servlet.http.HttpUpgradeHandler {
+        jakarta.servlet.http.WebConnection connection;
+
+        public JakartaHandler() {
+            events.add("new");
+        }
+
+        @Override
+        public void init(jakarta.servlet.http.WebConnection wc) {
+            events.add("init");
+            connection = wc;
+        }
+
+        @Override
+        public void destroy() {
+            events.add("destroy");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.jenkins.servlet.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.PushBuilder;
+import org.junit.Test;
+
+public class PushBuilderWrapperTest {
+
+    @Test
+    public void buildsAJakartaPushThroughTheJavaxApi() {
+        Builder<jakarta.servlet.http.PushBuilder> target = new Builder<>(jakarta.servlet.http.PushBuilder.class);
+        PushBuilder builder = PushBuilderWrapper.fromJakartaPushBuilder(target.proxy);
+        assertSame(
+                builder,
+                builder.method("GET")
+                        .path("/static/app.js")
+                        .queryString("v=1")
+                        .sessionId("abc")
+                        .setHeader("Accept", "*/*")
+                        .addHeader("X-Trace", "1")
+                        .removeHeader("Accept"));
+        builder.push();
+        assertEquals("GET", builder.getMethod());
+        assertEquals("/static/app.js", builder.getPath());
+        assertEquals("v=1", builder.getQueryString());
+        assertEquals("abc", builder.getSessionId());
+        assertEquals(Set.of("X-Trace"), builder.getHeaderNames());
+        assertEquals("1", builder.getHeader("X-Trace"));
+        assertEquals(List.of("/static/app.js?v=1"), target.pushed);
+        assertSame(target.proxy, PushBuilderWrapper.toJakartaPushBuilder(builder));
+    }
+
+    @Test
+    public void buildsAJavaxPushThroughTheJakartaApi() {
+        Builder<PushBuilder> target = new Builder<>(PushBuilder.class);
+        jakarta.servlet.http.PushBuilder builder = PushBuilderWrapper.toJakartaPushBuilder(target.proxy);
+        assertSame(builder, builder.path("/static/app.css").addHeader("X-Trace", "2"));
+        builder.push();
+        assertEquals("/static/app.css", builder.getPath());
+        assertEquals("2", builder.getHeader("X-Trace"));
+        assertEquals(List.of("/static/app.css"), target.pushed);
+        assertSame(target.proxy, PushBuilderWrapper.fromJakartaPushBuilder(builder));
+    }
+
+    @Test
+    public void requestsWithoutPushSupportReturnNull() {
+        jakarta.servlet.http.HttpServletRequest noPush = request(jakarta.servlet.http.HttpServletRequest.class, null);
+        assertNull(
+                HttpServletRequestWrapper.fromJakartaHttpServletRequest(noPush).newPushBuilder());
+        HttpServletRequest javaxNoPush = request(HttpServletRequest.class, null);
+        assertNull(HttpServletRequestWrapper.toJakartaHttpServletRequest(javaxNoPush)
+                .newPushBuilder());
+
+        Builder<jakarta.servlet.http.PushBuilder> target = new Builder<>(jakarta.servlet.http.PushBuilder.class);
+        jakarta.servlet.http.HttpServletRequest push =
+                request(jakarta.servlet.http.HttpServletRequest.class, target.proxy);
+        PushBuilder builder =
+                HttpServletRequestWrapper.fromJakartaHttpServletRequest(push).newPushBuilder();
+        builder.path("/a").push();
+        assertEquals(List.of("/a"), target.pushed);
+    }
+
+    private static <T> T request(Class<T> type, Object pushBuilder) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[] {type},
+                (proxy, method, args) -> method.getName().equals("newPushBuilder") ? pushBuilder : null));
+    }
+
+    /*
+     * A push builder of either API that keeps what it is given and records the paths it pushes.
+     */
+    private static class Builder<T> {
+        final Map<String, String> fields = new HashMap<>();
+        final Map<String, String> headers = new LinkedHashMap<>();
+        final List<String> pushed = new ArrayList<>();
+        final T proxy;
+
+        Builder(Class<T> type) {
+            proxy = type.cast(
+                    Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> {
+                        String name = method.getName();
+                        switch (name) {
+                            case "setHeader", "addHeader" -> headers.put((String) args[0], (String) args[1]);
+                            case "removeHeader" -> headers.remove((String) args[0]);
+                            case "getHeader" -> {
+                                return headers.get((String) args[0]);
+                            }
+                            case "getHeaderNames" -> {
+                                return headers.keySet();
+                            }
+                            case "push" -> {
+                                String query = fields.get("queryString");
+                                pushed.add(fields.get("path") + (query != null ? "?" + query : ""));
+                                return null;
+                            }
+                            default -> {
+                                if (name.startsWith("get")) {
+                                    return fields.get(Character.toLowerCase(name.charAt(3)) + name.substring(4));
+                                }
+                                fields.put(name, (String) args[0]);
+                            }
+                        }
+                        return p;
+                    }));
+        }
+    }
+}
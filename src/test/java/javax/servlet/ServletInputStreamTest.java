@@ -0,0 +1,101 @@
+package javax.servlet;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class ServletInputStreamTest {
+
+    @Test
+    public void readsUpToAndIncludingTheNewline() throws IOException {
+        ServletInputStream in = stream("first\nsecond\r\nlast");
+        byte[] b = new byte[64];
+        assertEquals("first\n", line(in, b, 0, b.length));
+        assertEquals("second\r\n", line(in, b, 0, b.length));
+        assertEquals("last", line(in, b, 0, b.length));
+        assertEquals(-1, in.readLine(b, 0, b.length));
+    }
+
+    @Test
+    public void stopsAtTheMaximumLength() throws IOException {
+        ServletInputStream in = stream("abcdef\n");
+        byte[] b = new byte[8];
+        assertEquals(4, in.readLine(b, 2, 4));
+        assertEquals("abcd", new String(b, 2, 4, StandardCharsets.US_ASCII));
+        assertEquals(0, b[0]);
+        assertEquals(0, b[6]);
+        assertEquals("ef\n", line(in, b, 0, b.length));
+        assertEquals(0, in.readLine(b, 0, 0));
+    }
+
+    @Test
+    public void leavesTheRestOfTheStreamToLaterReads() throws IOException {
+        ServletInputStream in = stream("one\ntwo");
+        byte[] b = new byte[64];
+        assertEquals("one\n", line(in, b, 0, b.length));
+        assertEquals('t', in.read());
+        assertEquals(2, in.available());
+    }
+
+    @Test
+    public void keepsTheCallersMark() throws IOException {
+        ServletInputStream in = stream("head\nbody\n");
+        byte[] b = new byte[64];
+        in.mark(100);
+        assertEquals("head\n", line(in, b, 0, b.length));
+        assertEquals("body\n", line(in, b, 0, b.length));
+        in.reset();
+        assertEquals("head\n", line(in, b, 0, b.length));
+    }
+
+    private static String line(ServletInputStream in, byte[] b, int off, int len) throws IOException {
+        int n = in.readLine(b, off, len);
+        return new String(b, off, n, StandardCharsets.US_ASCII);
+    }
+
+    private static ServletInputStream stream(String data) {
+        ByteArrayInputStream bytes = new ByteArrayInputStream(data.getBytes(StandardCharsets.US_ASCII));
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return bytes.read();
+            }
+
+            @Override
+            public int available() {
+                return bytes.available();
+            }
+
+            @Override
+            public boolean markSupported() {
+                return true;
+            }
+
+            @Override
+            public void mark(int readlimit) {
+                bytes.mark(readlimit);
+            }
+
+            @Override
+            public void reset() {
+                bytes.reset();
+            }
+
+            @Override
+            public boolean isFinished() {
+                return bytes.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {}
+        };
+    }
+}
@@ -0,0 +1,175 @@
+package javax.servlet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.CharConversionException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class ServletOutputStreamTest {
+
+    @Test
+    public void printsEveryOverload() throws IOException {
+        CapturingStream out = new CapturingStream();
+        out.print("s");
+        out.print(true);
+        out.print('c');
+        out.print(-12);
+        out.print(Long.MIN_VALUE);
+        out.print(1.5f);
+        out.print(2.25d);
+        out.print((String) null);
+        out.println();
+        out.println("t");
+        out.println(false);
+        out.println('d');
+        out.println(Integer.MAX_VALUE);
+        out.println(7L);
+        out.println(0.5f);
+        out.println(-0.0d);
+        out.println((String) null);
+        assertEquals(
+                "strue" + "c-12" + Long.MIN_VALUE + "1.52.25null\r\n" + "t\r\nfalse\r\nd\r\n" + Integer.MAX_VALUE
+                        + "\r\n7\r\n0.5\r\n-0.0\r\nnull\r\n",
+                out.text());
+    }
+
+    @Test
+    public void eachPrintIsOneBoundedWrite() throws IOException {
+        CapturingStream out = new CapturingStream();
+        out.print(true);
+        out.print('c');
+        out.print(1);
+        out.print(Long.MIN_VALUE);
+        out.print(3f);
+        out.println(4d);
+        out.println();
+        out.println("x");
+        out.println(-5);
+        out.println('\u00ff');
+        assertEquals(
+                Arrays.asList(
+                        "true",
+                        "c",
+                        "1",
+                        String.valueOf(Long.MIN_VALUE),
+                        "3.0",
+                        "4.0\r\n",
+                        "\r\n",
+                        "x\r\n",
+                        "-5\r\n",
+                        "\u00ff\r\n"),
+                out.written());
+        for (byte[] array : out.writes) {
+            assertTrue(array.length <= 22);
+        }
+    }
+
+    @Test
+    public void writesLongStringsInChunks() throws IOException {
+        CapturingStream out = new CapturingStream();
+        String s = "a".repeat(8192 * 2 + 5);
+        out.print(s);
+        assertEquals(Arrays.asList(8192, 8192, 5), out.lengths());
+        assertEquals(s, out.text());
+
+        // the line terminator may straddle two chunks
+        CapturingStream line = new CapturingStream();
+        String t = "b".repeat(8191);
+        line.println(t);
+        assertEquals(Arrays.asList(8192, 1), line.lengths());
+        assertEquals(t + "\r\n", line.text());
+
+        CapturingStream empty = new CapturingStream();
+        empty.print("");
+        assertEquals(0, empty.writes.size());
+    }
+
+    @Test
+    public void neverReusesAnArrayHandedToWrite() throws IOException {
+        CapturingStream out = new CapturingStream();
+        out.print(123);
+        out.print("abc");
+        out.println(456L);
+        out.print(true);
+        assertEquals(4, out.writes.size());
+        for (int i = 0; i < out.writes.size(); i++) {
+            for (int j = i + 1; j < out.writes.size(); j++) {
+                assertNotSame(out.writes.get(i), out.writes.get(j));
+            }
+        }
+        assertEquals(Arrays.asList("123", "abc", "456\r\n", "true"), out.written());
+    }
+
+    @Test
+    public void rejectsCharactersOutsideLatin1WithoutWriting() throws IOException {
+        CapturingStream out = new CapturingStream();
+        assertThrows(CharConversionException.class, () -> out.print("ab\u20ac"));
+        assertThrows(CharConversionException.class, () -> out.println('\u0100'));
+        assertEquals("", out.text());
+        out.print("\u00e9");
+        assertArrayEquals(new byte[] {(byte) 0xe9}, out.bytes.toByteArray());
+    }
+
+    private static class CapturingStream extends ServletOutputStream {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        // the arrays exactly as handed to write, kept the way a non-blocking container may keep them
+        final List<byte[]> writes = new ArrayList<>();
+        private final List<int[]> ranges = new ArrayList<>();
+        private final List<byte[]> snapshots = new ArrayList<>();
+
+        @Override
+        public void write(int b) {
+            bytes.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes.write(b, off, len);
+            writes.add(b);
+            ranges.add(new int[] {off, len});
+            snapshots.add(Arrays.copyOfRange(b, off, off + len));
+            for (int i = 0; i < writes.size(); i++) {
+                int[] range = ranges.get(i);
+                assertArrayEquals(snapshots.get(i), Arrays.copyOfRange(writes.get(i), range[0], range[0] + range[1]));
+            }
+        }
+
+        List<String> written() {
+            List<String> written = new ArrayList<>();
+            for (byte[] snapshot : snapshots) {
+                written.add(new String(snapshot, StandardCharsets.ISO_8859_1));
+            }
+            return written;
+        }
+
+        List<Integer> lengths() {
+            List<Integer> lengths = new ArrayList<>();
+            for (int[] range : ranges) {
+                lengths.add(range[1]);
+            }
+            return lengths;
+        }
+
+        String text() {
+            return new String(bytes.toByteArray(), StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {}
+    }
+}
@@ -0,0 +1,170 @@
+package javax.servlet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import org.junit.Test;
+
+public class ServletRequestWrapperTest {
+
+    private static final String COMPACT_CHAINS = "javax.servlet.ServletRequestWrapper.compactChains";
+
+    @Test
+    public void walksTheChain() {
+        ServletRequest request = request("a");
+        ServletRequestWrapper inner = new ServletRequestWrapper(request);
+        ServletRequestWrapper outer = new ServletRequestWrapper(inner);
+        assertEquals(2, outer.getChainDepth());
+        assertTrue(outer.isWrapperFor(request));
+        assertTrue(outer.isWrapperFor(inner));
+        assertFalse(inner.isWrapperFor(outer));
+        assertEquals("a", outer.getAttribute("name"));
+        inner.setRequest(request("b"));
+        assertEquals("b", outer.getAttribute("name"));
+        assertFalse(outer.isWrapperFor(request));
+    }
+
+    @Test
+    public void asksAWrapperThatOverridesIsWrapperFor() {
+        ServletRequest hidden = request("a");
+        ServletRequestWrapper claiming = new ServletRequestWrapper(request("b")) {
+            @Override
+            public boolean isWrapperFor(ServletRequest wrapped) {
+                return wrapped == hidden || super.isWrapperFor(wrapped);
+            }
+        };
+        ServletRequestWrapper outer = new ServletRequestWrapper(claiming);
+        assertTrue(outer.isWrapperFor(hidden));
+        assertTrue(outer.isWrapperFor(ServletRequest.class));
+        assertFalse(outer.isWrapperFor(HttpServletRequest.class));
+    }
+
+    @Test
+    public void headerCallsReachTheWrappedRequest() {
+        HttpServletRequest request = (HttpServletRequest) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] {HttpServletRequest.class},
+                (proxy, method, args) -> method.getName().equals("getHeader") ? "v" : null);
+        HttpServletRequestWrapper wrapper = new HttpServletRequestWrapper(new HttpServletRequestWrapper(request));
+        assertEquals("v", wrapper.getHeader("h"));
+        assertSame(request, ((ServletRequestWrapper) wrapper.getRequest()).getRequest());
+    }
+
+    @Test
+    public void compactedChainsFollowConcurrentSetRequest() throws Exception {
+        URL main = ServletRequestWrapper.class
+                .getProtectionDomain()
+                .getCodeSource()
+                .getLocation();
+        URL test = ServletRequestWrapperTest.class
+                .getProtectionDomain()
+                .getCodeSource()
+                .getLocation();
+        String previous = System.setProperty(COMPACT_CHAINS, "true");
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {main, test}, ClassLoader.getPlatformClassLoader())) {
+            @SuppressWarnings("unchecked")
+            Callable<String> race = (Callable<String>) loader.loadClass(CompactionRace.class.getName())
+                    .getConstructor()
+                    .newInstance();
+            assertEquals("", race.call());
+        } finally {
+            if (previous == null) {
+                System.clearProperty(COMPACT_CHAINS);
+            } else {
+                System.setProperty(COMPACT_CHAINS, previous);
+            }
+        }
+    }
+
+    private static ServletRequest request(String value) {
+        return (ServletRequest) Proxy.newProxyInstance(
+                ServletRequestWrapperTest.class.getClassLoader(),
+                new Class<?>[] {ServletRequest.class},
+                (proxy, method, args) -> method.getName().equals("getAttribute") ? value : null);
+    }
+
+    /*
+     * Run in a class loader of its own, in which ServletRequestWrapper is initialized with chain compaction on. Two
+     * threads keep rewiring different links of one chain while others read through it; once they stop, every read
+     * must see the final chain. Returns a description of the failures, or an empty string.
+     */
+    public static final class CompactionRace implements Callable<String> {
+        @Override
+        public String call() throws Exception {
+            Field compact = ServletRequestWrapper.class.getDeclaredField("COMPACT_CHAINS");
+            compact.setAccessible(true);
+            if (!compact.getBoolean(null)) {
+                return "chain compaction is off";
+            }
+            StringBuilder failures = new StringBuilder();
+            for (int round = 0; round < 200 && failures.length() == 0; round++) {
+                ServletRequest first = request("first");
+                ServletRequest second = request("second");
+                ServletRequestWrapper inner = new ServletRequestWrapper(first);
+                ServletRequestWrapper middle = new ServletRequestWrapper(inner);
+                ServletRequestWrapper outer = new ServletRequestWrapper(new ServletRequestWrapper(middle));
+                AtomicBoolean done = new AtomicBoolean();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Thread> threads = new ArrayList<>();
+                for (int i = 0; i < 2; i++) {
+                    threads.add(new Thread(() -> {
+                        await(start);
+                        while (!done.get()) {
+                            outer.getAttribute("name");
+                        }
+                    }));
+                }
+                Thread rewireInner = new Thread(() -> {
+                    await(start);
+                    for (int i = 0; i < 100; i++) {
+                        inner.setRequest(i % 2 == 0 ? second : first);
+                    }
+                    inner.setRequest(second);
+                });
+                Thread rewireMiddle = new Thread(() -> {
+                    await(start);
+                    for (int i = 0; i < 100; i++) {
+                        middle.setRequest(i % 2 == 0 ? first : inner);
+                    }
+                    middle.setRequest(inner);
+                });
+                threads.forEach(Thread::start);
+                rewireInner.start();
+                rewireMiddle.start();
+                start.countDown();
+                rewireInner.join();
+                rewireMiddle.join();
+                Object seen = outer.getAttribute("name");
+                done.set(true);
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+                if (!"second".equals(seen) || !"second".equals(outer.getAttribute("name"))) {
+                    failures.append("round ").append(round).append(" read ").append(seen);
+                }
+            }
+            return failures.toString();
+        }
+
+        private static void await(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
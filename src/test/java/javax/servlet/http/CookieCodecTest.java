@@ -0,0 +1,156 @@
+package javax.servlet.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+public class CookieCodecTest {
+
+    @Test
+    public void parsesRfc6265Headers() {
+        CookieCodec.CookieHeader header = CookieCodec.rfc6265().parse("a=1; b=\"two\"; c/d=3,4; e= ; =x; f");
+        assertEquals(Arrays.asList("a=1", "b=\"two\"", "c/d=3,4", "e="), describe(header.getCookies()));
+        assertEquals("1", header.getValue("a"));
+        assertEquals("\"two\"", header.getValue("b"));
+        assertEquals("3,4", header.getValue("c/d"));
+        assertEquals("", header.getValue("e"));
+        assertNull(header.getValue("f"));
+        assertSame(header.getCookies(), header.getCookies());
+    }
+
+    @Test
+    public void rfc6265NamesAreNotCheckedAgainUnderTheDefaultMode() {
+        assertSame(CookieCodec.rfc2109(), CookieCodec.getDefault());
+        Cookie[] cookies = CookieCodec.rfc6265().parse("a/b=1").getCookies();
+        assertEquals(1, cookies.length);
+        assertEquals("a/b", cookies[0].getName());
+        assertThrows(IllegalArgumentException.class, () -> new Cookie("a/b", "1"));
+    }
+
+    @Test
+    public void parsesRfc2109Headers() {
+        CookieCodec.CookieHeader header =
+                CookieCodec.rfc2109().parse("$Version=1; a=\"x\\\"y\"; $Path=/p; $Domain=example.com, b=2; c/d=3");
+        Cookie[] cookies = header.getCookies();
+        assertEquals(Arrays.asList("a=x\"y", "b=2"), describe(cookies));
+        assertEquals("/p", cookies[0].getPath());
+        assertEquals("example.com", cookies[0].getDomain());
+        assertEquals(1, cookies[0].getVersion());
+        assertNull(cookies[1].getPath());
+        assertEquals("x\"y", header.getValue("a"));
+        assertNull(header.getValue("c/d"));
+    }
+
+    @Test
+    public void getValueSkipsTheNamesGetCookiesSkips() {
+        for (CookieCodec codec : Arrays.asList(CookieCodec.rfc6265(), CookieCodec.rfc2109())) {
+            CookieCodec.CookieHeader header = codec.parse("$Version=1; Path=/x; a b=1; Max-Age=3; ok=1");
+            assertEquals(Collections.singletonList("ok=1"), describe(header.getCookies()));
+            assertNull(header.getValue("$Version"));
+            assertNull(header.getValue("Path"));
+            assertNull(header.getValue("Max-Age"));
+            assertNull(header.getValue("a b"));
+            assertEquals("1", header.getValue("ok"));
+        }
+    }
+
+    @Test
+    public void parsesEveryHeaderOfARequest() {
+        List<String> headers = new ArrayList<>(Arrays.asList("a=1", "b=2; c=3"));
+        Cookie[] cookies =
+                CookieCodec.rfc6265().parse(Collections.enumeration(headers)).getCookies();
+        assertEquals(Arrays.asList("a=1", "b=2", "c=3"), describe(cookies));
+        assertEquals(0, CookieCodec.rfc6265().parse((String) null).getCookies().length);
+    }
+
+    @Test
+    public void formatsRfc6265Cookies() {
+        Cookie cookie = new Cookie("id", "abc");
+        cookie.setMaxAge(0);
+        cookie.setDomain("example.com");
+        cookie.setPath("/app");
+        cookie.setSecure(true);
+        cookie.setHttpOnly(true);
+        assertEquals(
+                "id=abc; Max-Age=0; Expires=Thu, 01 Jan 1970 00:00:10 GMT; Domain=example.com; Path=/app; Secure;"
+                        + " HttpOnly",
+                CookieCodec.rfc6265().format(cookie));
+        cookie.setValue("a b");
+        assertThrows(IllegalArgumentException.class, () -> CookieCodec.rfc6265().format(cookie));
+    }
+
+    @Test
+    public void formatsQuotedRfc6265Values() {
+        Cookie cookie = new Cookie("id", "\"abc\"");
+        assertEquals("id=\"abc\"", CookieCodec.rfc6265().format(cookie));
+        cookie.setValue("\"\"");
+        assertEquals("id=\"\"", CookieCodec.rfc6265().format(cookie));
+        for (String value : Arrays.asList("\"", "\"abc", "abc\"", "\"a\"b\"", "\"a b\"")) {
+            cookie.setValue(value);
+            assertThrows(value, IllegalArgumentException.class, () -> CookieCodec.rfc6265()
+                    .format(cookie));
+        }
+    }
+
+    @Test
+    public void formatsRfc2109Cookies() {
+        Cookie cookie = new Cookie("id", "a b");
+        cookie.setVersion(1);
+        cookie.setComment("say \"hi\"");
+        cookie.setMaxAge(60);
+        assertEquals(
+                "id=\"a b\"; Version=1; Comment=\"say \\\"hi\\\"\"; Max-Age=60",
+                CookieCodec.rfc2109().format(cookie));
+        Cookie netscape = new Cookie("id", "abc");
+        netscape.setPath("/");
+        assertEquals("id=abc; Path=/", CookieCodec.rfc2109().format(netscape));
+    }
+
+    @Test
+    public void refusesValuesThatWouldInjectAttributes() {
+        Cookie version0 = new Cookie("id", "x; Domain=evil.example");
+        assertThrows(IllegalArgumentException.class, () -> CookieCodec.rfc2109().format(version0));
+        assertThrows(IllegalArgumentException.class, () -> CookieCodec.rfc6265().format(version0));
+        for (CookieCodec codec : Arrays.asList(CookieCodec.rfc6265(), CookieCodec.rfc2109())) {
+            Cookie path = new Cookie("id", "x");
+            path.setPath("/; Secure");
+            assertThrows(IllegalArgumentException.class, () -> codec.format(path));
+            Cookie domain = new Cookie("id", "x");
+            domain.setDomain("example.com\r\nSet-Cookie: a=b");
+            assertThrows(IllegalArgumentException.class, () -> codec.format(domain));
+        }
+        Cookie comma = new Cookie("id", "x");
+        comma.setPath("/a,b=c");
+        assertEquals("id=x; Path=/a,b=c", CookieCodec.rfc6265().format(comma));
+        assertThrows(IllegalArgumentException.class, () -> CookieCodec.rfc2109().format(comma));
+    }
+
+    @Test
+    public void classifiesNamesAndValuesByMode() {
+        assertTrue(CookieCodec.rfc6265().isValidName("a/b"));
+        assertFalse(CookieCodec.rfc2109().isValidName("a/b"));
+        assertFalse(CookieCodec.rfc6265().isValidName("a;b"));
+        assertTrue(CookieCodec.rfc6265().isValidValue("a/b"));
+        assertFalse(CookieCodec.rfc2109().isValidValue("a/b"));
+        assertFalse(CookieCodec.rfc6265().isValidValue("a\"b"));
+        assertTrue(CookieCodec.rfc6265().isValidValue("\"a/b\""));
+        assertFalse(CookieCodec.rfc2109().isValidValue("\"ab\""));
+    }
+
+    private static List<String> describe(Cookie[] cookies) {
+        List<String> list = new ArrayList<>();
+        for (Cookie cookie : cookies) {
+            list.add(cookie.getName() + "=" + cookie.getValue());
+        }
+        return list;
+    }
+}
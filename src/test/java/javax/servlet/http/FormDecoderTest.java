@@ -0,0 +1,161 @@
+package javax.servlet.http;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import org.junit.Test;
+
+public class FormDecoderTest {
+
+    /*
+     * Each input with the result the original, hand-written HttpUtils.parseQueryString produced for it, values joined
+     * with '|'.
+     */
+    private static final String[][] LEGACY_RESULTS = {
+        {"", "{}"},
+        {"&", "{}"},
+        {"=", "{=}"},
+        {"a=1&b=2", "{a=1, b=2}"},
+        {"a=1&a=2&a=3", "{a=1|2|3}"},
+        {"a+b=c+d", "{a b=c d}"},
+        {"x=%41%42", "{x=AB}"},
+        {"n=1+%2B+2", "{n=1 + 2}"},
+        {"k=&=v", "{=v, k=}"},
+        {"a=1&&b=2", "{a=1, b=2}"},
+        {"a==b", "{a==b}"},
+        {"a=%", "{a=%}"},
+        {"a=%2", "{a=%2}"},
+        {"a=%4", "{a=%4}"},
+        {"x=%e9", "{x=\u00e9}"},
+        {"a=%e9%", "{a=\u00e9%}"},
+        {"caf%C3%A9=%E2%82%AC", "{caf\u00c3\u00a9=\u00e2\u0082\u00ac}"},
+    };
+
+    @Test
+    public void parseQueryStringMatchesTheLegacyParser() {
+        for (String[] row : LEGACY_RESULTS) {
+            assertEquals(row[0], row[1], flatten(HttpUtils.parseQueryString(row[0])));
+        }
+    }
+
+    @Test
+    public void parseQueryStringRejectsWhatTheLegacyParserRejected() {
+        assertThrows(IllegalArgumentException.class, () -> HttpUtils.parseQueryString(null));
+        IllegalArgumentException noEquals =
+                assertThrows(IllegalArgumentException.class, () -> HttpUtils.parseQueryString("a=1&b"));
+        assertNotNull(noEquals.getMessage());
+        IllegalArgumentException badEscape =
+                assertThrows(IllegalArgumentException.class, () -> HttpUtils.parseQueryString("%zz=1"));
+        assertNotNull(badEscape.getMessage());
+    }
+
+    @Test
+    public void parsePostDataMatchesParseQueryString() {
+        String body = "a=1&b=%41+x&a=2";
+        Hashtable<String, String[]> fromPost = HttpUtils.parsePostData(body.length(), stream(body));
+        assertEquals(flatten(HttpUtils.parseQueryString(body)), flatten(fromPost));
+        assertEquals(0, HttpUtils.parsePostData(0, null).size());
+        assertThrows(IllegalArgumentException.class, () -> HttpUtils.parsePostData(body.length() + 1, stream(body)));
+    }
+
+    @Test
+    public void decodesInTheGivenCharset() throws IOException {
+        FormDecoder decoder = new FormDecoder(StandardCharsets.UTF_8);
+        String data = "caf%C3%A9=%E2%82%AC&caf\u00e9=x";
+        assertArrayEquals(new String[] {"\u20ac", "x"}, decoder.decode(data).getValues("caf\u00e9"));
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        assertEquals(
+                decoder.decode(data).toString(),
+                decoder.decode(ByteBuffer.wrap(bytes)).toString());
+        assertEquals(
+                decoder.decode(data).toString(),
+                decoder.decode(new ByteArrayInputStream(bytes), -1).toString());
+    }
+
+    @Test
+    public void pairsWithoutEqualsHaveAnEmptyValue() {
+        FormParameters parameters = new FormDecoder(StandardCharsets.UTF_8).decode("flag&a=1");
+        assertEquals("", parameters.getValue("flag"));
+        assertEquals("1", parameters.getValue("a"));
+        assertNull(parameters.getValue("missing"));
+        assertEquals(2, parameters.size());
+    }
+
+    @Test
+    public void leavesTheBufferPositionAlone() {
+        ByteBuffer buffer = ByteBuffer.wrap("xx a=1".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(3);
+        assertEquals("1", new FormDecoder(StandardCharsets.UTF_8).decode(buffer).getValue("a"));
+        assertEquals(3, buffer.position());
+    }
+
+    @Test
+    public void enforcesTheLimits() {
+        FormDecoder decoder = new FormDecoder(StandardCharsets.UTF_8, 2, 10);
+        assertEquals(2, decoder.decode("a=1&b=2").size());
+        assertNotNull(assertThrows(IllegalArgumentException.class, () -> decoder.decode("a=1&b=2&c=3"))
+                .getMessage());
+        assertNotNull(assertThrows(IllegalArgumentException.class, () -> decoder.decode("a=123456789"))
+                .getMessage());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> decoder.decode(new ByteArrayInputStream("a=123456789".getBytes(StandardCharsets.US_ASCII)), -1));
+        FormDecoder unlimited = new FormDecoder(StandardCharsets.UTF_8, -1, -1);
+        assertEquals(3, unlimited.decode("a=1&b=2&c=3").size());
+    }
+
+    @Test
+    public void reportsAShortStream() {
+        FormDecoder decoder = new FormDecoder(StandardCharsets.UTF_8);
+        assertThrows(
+                EOFException.class,
+                () -> decoder.decode(new ByteArrayInputStream("a=1".getBytes(StandardCharsets.US_ASCII)), 4));
+    }
+
+    private static String flatten(Map<String, String[]> parameters) {
+        Map<String, String> sorted = new TreeMap<>();
+        parameters.forEach((name, values) -> sorted.put(name, String.join("|", values)));
+        return sorted.toString();
+    }
+
+    private static ServletInputStream stream(String data) {
+        ByteArrayInputStream bytes = new ByteArrayInputStream(data.getBytes(StandardCharsets.ISO_8859_1));
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return bytes.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return bytes.read(b, off, len);
+            }
+
+            @Override
+            public boolean isFinished() {
+                return bytes.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {}
+        };
+    }
+}
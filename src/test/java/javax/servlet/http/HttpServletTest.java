@@ -0,0 +1,406 @@
+package javax.servlet.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import org.junit.Test;
+
+public class HttpServletTest {
+    private static final long MODIFIED = 1_700_000_000_000L;
+
+    @Test
+    public void servletsWithoutValidatorsAlwaysRunTheHandler() throws Exception {
+        PlainServlet servlet = new PlainServlet();
+        Exchange exchange = new Exchange("GET").header("If-None-Match", "*").header("If-Match", "\"x\"");
+        servlet.service(exchange.request(), exchange.response());
+        assertTrue(servlet.handled);
+        assertEquals(200, exchange.status);
+        assertFalse(exchange.responseHeaders.containsKey("ETag"));
+    }
+
+    @Test
+    public void answersIfNoneMatchWithNotModified() throws Exception {
+        for (String ifNoneMatch : List.of("\"a\"", "\"b\", \"a\"", "W/\"a\"", "*")) {
+            ConditionalServlet servlet = new ConditionalServlet("\"a\"", -1);
+            Exchange exchange = new Exchange("GET").header("If-None-Match", ifNoneMatch);
+            servlet.service(exchange.request(), exchange.response());
+            assertFalse(ifNoneMatch, servlet.handled);
+            assertEquals(ifNoneMatch, 304, exchange.status);
+            assertEquals("\"a\"", exchange.responseHeaders.get("ETag"));
+        }
+
+        ConditionalServlet servlet = new ConditionalServlet("\"a\"", -1);
+        Exchange exchange = new Exchange("HEAD").header("If-None-Match", "\"a\"");
+        servlet.service(exchange.request(), exchange.response());
+        assertFalse(servlet.handled);
+        assertEquals(304, exchange.status);
+    }
+
+    @Test
+    public void ifMatchIsEvaluatedFirstAndComparesStrongly() throws Exception {
+        ConditionalServlet servlet = new ConditionalServlet("\"a\"", -1);
+        Exchange exchange = new Exchange("GET").header("If-Match", "\"b\"").header("If-None-Match", "\"a\"");
+        servlet.service(exchange.request(), exchange.response());
+        assertFalse(servlet.handled);
+        assertEquals(412, exchange.status);
+
+        servlet = new ConditionalServlet("\"a\"", -1);
+        exchange = new Exchange("GET").header("If-Match", "W/\"a\"");
+        servlet.service(exchange.request(), exchange.response());
+        assertEquals(412, exchange.status);
+
+        servlet = new ConditionalServlet("\"a\"", -1);
+        exchange = new Exchange("GET").header("If-Match", "\"a\"").header("If-None-Match", "\"b\"");
+        servlet.service(exchange.request(), exchange.response());
+        assertTrue(servlet.handled);
+        assertEquals(200, exchange.status);
+    }
+
+    @Test
+    public void entityTagsTakePrecedenceOverDates() throws Exception {
+        ConditionalServlet servlet = new ConditionalServlet("\"a\"", MODIFIED);
+        Exchange exchange = new Exchange("GET")
+                .header("If-Match", "\"a\"")
+                .header("If-Unmodified-Since", date(MODIFIED - 60_000))
+                .header("If-None-Match", "\"b\"")
+                .header("If-Modified-Since", date(MODIFIED));
+        servlet.service(exchange.request(), exchange.response());
+        assertTrue(servlet.handled);
+        assertEquals(200, exchange.status);
+        assertEquals(date(MODIFIED), exchange.responseHeaders.get("Last-Modified"));
+    }
+
+    @Test
+    public void ifNoneMatchReplacesIfModifiedSinceWithoutAnEntityTag() throws Exception {
+        ConditionalServlet servlet = new ConditionalServlet(null, MODIFIED);
+        Exchange exchange =
+                new Exchange("GET").header("If-None-Match", "\"x\"").header("If-Modified-Since", date(MODIFIED));
+        servlet.service(exchange.request(), exchange.response());
+        assertTrue(servlet.handled);
+        assertEquals(200, exchange.status);
+        assertFalse(exchange.responseHeaders.containsKey("ETag"));
+    }
+
+    @Test
+    public void preconditionFailuresWinOverNotModified() throws Exception {
+        ConditionalServlet servlet = new ConditionalServlet(null, MODIFIED);
+        Exchange exchange = new Exchange("GET")
+                .header("If-Unmodified-Since", date(MODIFIED - 60_000))
+                .header("If-Modified-Since", date(MODIFIED));
+        servlet.service(exchange.request(), exchange.response());
+        assertFalse(servlet.handled);
+        assertEquals(412, exchange.status);
+    }
+
+    @Test
+    public void comparesDatesAtSecondPrecisionAndIgnoresMalformedOnes() throws Exception {
+        ConditionalServlet servlet = new ConditionalServlet(null, MODIFIED + 999);
+        Exchange exchange = new Exchange("GET").header("If-Modified-Since", date(MODIFIED));
+        servlet.service(exchange.request(), exchange.response());
+        assertFalse(servlet.handled);
+        assertEquals(304, exchange.status);
+
+        servlet = new ConditionalServlet(null, MODIFIED + 1000);
+        exchange = new Exchange("GET").header("If-Modified-Since", date(MODIFIED));
+        servlet.service(exchange.request(), exchange.response());
+        assertTrue(servlet.handled);
+
+        servlet = new ConditionalServlet(null, MODIFIED);
+        exchange =
+                new Exchange("GET").header("If-Unmodified-Since", "yesterday").header("If-Modified-Since", "today");
+        servlet.service(exchange.request(), exchange.response());
+        assertTrue(servlet.handled);
+        assertEquals(200, exchange.status);
+    }
+
+    @Test
+    public void staleIfRangeHidesTheRangeHeader() throws Exception {
+        ConditionalServlet servlet = new ConditionalServlet("\"a\"", MODIFIED);
+        Exchange exchange = new Exchange("GET").header("Range", "bytes=0-9").header("If-Range", "\"a\"");
+        servlet.service(exchange.request(), exchange.response());
+        assertEquals("bytes=0-9", servlet.range);
+
+        for (String ifRange : List.of("\"b\"", "W/\"a\"", date(MODIFIED - 60_000))) {
+            servlet = new ConditionalServlet("\"a\"", MODIFIED);
+            exchange = new Exchange("GET").header("Range", "bytes=0-9").header("If-Range", ifRange);
+            servlet.service(exchange.request(), exchange.response());
+            assertTrue(ifRange, servlet.handled);
+            assertNull(ifRange, servlet.range);
+            assertFalse(ifRange, servlet.headerNames.contains("Range"));
+            assertTrue(ifRange, servlet.headerNames.contains("Accept"));
+        }
+
+        servlet = new ConditionalServlet(null, MODIFIED);
+        exchange = new Exchange("GET").header("Range", "bytes=0-9").header("If-Range", date(MODIFIED));
+        servlet.service(exchange.request(), exchange.response());
+        assertEquals("bytes=0-9", servlet.range);
+    }
+
+    @Test
+    public void optionsListsTheMethodsEachClassOverrides() throws Exception {
+        Exchange exchange = new Exchange("OPTIONS");
+        new HttpServlet() {}.service(exchange.request(), exchange.response());
+        assertEquals("TRACE, OPTIONS", exchange.responseHeaders.get("Allow"));
+
+        exchange = new Exchange("OPTIONS");
+        new PlainServlet().service(exchange.request(), exchange.response());
+        assertEquals("GET, HEAD, TRACE, OPTIONS", exchange.responseHeaders.get("Allow"));
+
+        exchange = new Exchange("OPTIONS");
+        new PlainServlet() {
+            @Override
+            protected void doPost(HttpServletRequest req, HttpServletResponse resp) {}
+
+            @Override
+            protected void doDelete(HttpServletRequest req, HttpServletResponse resp) {}
+        }.service(exchange.request(), exchange.response());
+        assertEquals("GET, HEAD, POST, DELETE, TRACE, OPTIONS", exchange.responseHeaders.get("Allow"));
+    }
+
+    @Test
+    public void headUsesDoHeadersInsteadOfRunningDoGet() throws Exception {
+        BodyServlet servlet = new BodyServlet("0123456789", true);
+        Exchange exchange = new Exchange("HEAD");
+        servlet.service(exchange.request(), exchange.response());
+        assertEquals(0, servlet.gets);
+        assertEquals("42", exchange.responseHeaders.get("Content-Length"));
+
+        servlet = new BodyServlet("0123456789", false);
+        exchange = new Exchange("HEAD");
+        servlet.service(exchange.request(), exchange.response());
+        assertEquals(1, servlet.gets);
+        assertEquals("10", exchange.responseHeaders.get("Content-Length"));
+    }
+
+    @Test
+    public void headCountsTheBytesTheWriterWouldEncode() throws Exception {
+        String body = "a\u00e9\u20ac\ud83d\ude00\udc00\ud800x";
+        for (String encoding : List.of("UTF-8", "ISO-8859-1", "US-ASCII", "UTF-16BE")) {
+            String expected = String.valueOf(body.getBytes(encoding).length);
+
+            Exchange exchange = new Exchange("HEAD");
+            exchange.encoding = encoding;
+            new BodyServlet(body, false).service(exchange.request(), exchange.response());
+            assertEquals(encoding, expected, exchange.responseHeaders.get("Content-Length"));
+
+            // a surrogate pair split across two writes still counts as one character
+            exchange = new Exchange("HEAD");
+            exchange.encoding = encoding;
+            new BodyServlet(body, false) {
+                @Override
+                protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                    resp.getWriter().write(body, 0, 4);
+                    resp.getWriter().write(body, 4, body.length() - 4);
+                }
+            }.service(exchange.request(), exchange.response());
+            assertEquals(encoding, expected, exchange.responseHeaders.get("Content-Length"));
+        }
+    }
+
+    @Test
+    public void headHandsWriteListenersToTheContainerStream() throws Exception {
+        WriteListener listener = new WriteListener() {
+            @Override
+            public void onWritePossible() {}
+
+            @Override
+            public void onError(Throwable t) {}
+        };
+        List<WriteListener> registered = new ArrayList<>();
+        Exchange exchange = new Exchange("HEAD");
+        exchange.outputStream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                throw new AssertionError("HEAD must not write a body");
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                registered.add(writeListener);
+            }
+        };
+        new BodyServlet("", false) {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                ServletOutputStream out = resp.getOutputStream();
+                out.setWriteListener(listener);
+                assertTrue(out.isReady());
+                out.write(new byte[5]);
+            }
+        }.service(exchange.request(), exchange.response());
+        assertEquals(List.of(listener), registered);
+        assertEquals("5", exchange.responseHeaders.get("Content-Length"));
+    }
+
+    private static String date(long millis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC));
+    }
+
+    private static class PlainServlet extends HttpServlet {
+        private static final long serialVersionUID = 1L;
+
+        boolean handled;
+        String range;
+        List<String> headerNames;
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+            handled = true;
+            range = req.getHeader("Range");
+            headerNames = Collections.list(req.getHeaderNames());
+        }
+
+        @Override
+        protected void doHead(HttpServletRequest req, HttpServletResponse resp) {
+            handled = true;
+        }
+    }
+
+    private static class BodyServlet extends HttpServlet {
+        private static final long serialVersionUID = 1L;
+
+        private final String body;
+        private final boolean knowsHeaders;
+        int gets;
+
+        BodyServlet(String body, boolean knowsHeaders) {
+            this.body = body;
+            this.knowsHeaders = knowsHeaders;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            gets++;
+            resp.getWriter().write(body);
+        }
+
+        @Override
+        protected boolean doHeaders(HttpServletRequest req, HttpServletResponse resp) {
+            if (knowsHeaders) {
+                resp.setContentLength(42);
+            }
+            return knowsHeaders;
+        }
+    }
+
+    private static class ConditionalServlet extends PlainServlet {
+        private static final long serialVersionUID = 1L;
+
+        private final String etag;
+        private final long lastModified;
+
+        ConditionalServlet(String etag, long lastModified) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        protected String getETag(HttpServletRequest req) {
+            return etag;
+        }
+
+        @Override
+        protected long getLastModified(HttpServletRequest req) {
+            return lastModified;
+        }
+    }
+
+    /*
+     * A request carrying the given method and headers, and a response recording status and headers, each backed by a
+     * proxy that answers every other call with null.
+     */
+    private static class Exchange {
+        final String method;
+        final Map<String, List<String>> requestHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        final Map<String, String> responseHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        String encoding = "ISO-8859-1";
+        ServletOutputStream outputStream;
+        int status = 200;
+
+        Exchange(String method) {
+            this.method = method;
+            header("Accept", "*/*");
+        }
+
+        Exchange header(String name, String value) {
+            requestHeaders.computeIfAbsent(name, k -> new ArrayList<>()).add(value);
+            return this;
+        }
+
+        HttpServletRequest request() {
+            return proxy(HttpServletRequest.class, (name, args) -> switch (name) {
+                case "getMethod" -> method;
+                case "isAsyncStarted" -> false;
+                case "getHeader" -> {
+                    List<String> values = requestHeaders.get((String) args[0]);
+                    yield values != null ? values.get(0) : null;
+                }
+                case "getHeaders" -> Collections.enumeration(requestHeaders.getOrDefault((String) args[0], List.of()));
+                case "getHeaderNames" -> Collections.enumeration(new ArrayList<>(requestHeaders.keySet()));
+                case "getDateHeader" -> {
+                    List<String> values = requestHeaders.get((String) args[0]);
+                    if (values == null) {
+                        yield -1L;
+                    }
+                    try {
+                        yield ZonedDateTime.parse(values.get(0), DateTimeFormatter.RFC_1123_DATE_TIME)
+                                .toInstant()
+                                .toEpochMilli();
+                    } catch (DateTimeParseException e) {
+                        throw new IllegalArgumentException(values.get(0), e);
+                    }
+                }
+                default -> null;
+            });
+        }
+
+        HttpServletResponse response() {
+            return proxy(HttpServletResponse.class, (name, args) -> switch (name) {
+                case "setStatus" -> {
+                    status = (Integer) args[0];
+                    yield null;
+                }
+                case "setHeader" -> responseHeaders.put((String) args[0], (String) args[1]);
+                case "setDateHeader" -> responseHeaders.put((String) args[0], date((Long) args[1]));
+                case "containsHeader" -> responseHeaders.containsKey((String) args[0]);
+                case "setContentLength" -> responseHeaders.put("Content-Length", String.valueOf(args[0]));
+                case "getCharacterEncoding" -> encoding;
+                case "getOutputStream" -> outputStream;
+                default -> null;
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, Answers answers) {
+            return type.cast(Proxy.newProxyInstance(
+                    type.getClassLoader(),
+                    new Class<?>[] {type},
+                    (proxy, method, args) -> answers.answer(method.getName(), args)));
+        }
+    }
+
+    private interface Answers {
+        Object answer(String method, Object[] args);
+    }
+}
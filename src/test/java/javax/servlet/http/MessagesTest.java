@@ -0,0 +1,50 @@
+package javax.servlet.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+public class MessagesTest {
+    private static final String KEY = "err.io.indexOutOfBounds";
+
+    @Test
+    public void readsMessagesFromThePackageBundle() {
+        ResourceBundle bundle = ResourceBundle.getBundle("javax.servlet.http.LocalStrings");
+        assertEquals(bundle.getString("err.ise.getWriter"), Messages.get("err.ise.getWriter"));
+        assertEquals(MessageFormat.format(bundle.getString(KEY), 1, 2, 3), Messages.format(KEY, 1, 2, 3));
+        assertThrows(MissingResourceException.class, () -> Messages.get("no.such.key"));
+    }
+
+    @Test
+    public void sharedFormatsGiveEachCallerItsOwnArguments() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        String expected = "Invalid offset [" + thread + "] and / or length [" + i
+                                + "] specified for array of size [" + thread + "]";
+                        assertEquals(expected, Messages.format(KEY, thread, i, thread));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package javax.servlet.resources;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Validator;
+import org.junit.Test;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+public class DescriptorSchemaTest {
+
+    @Test
+    public void findsSchemasByRootElementAndVersion() {
+        assertSame(DescriptorSchema.WEB_APP_4_0, DescriptorSchema.forVersion("web-app", "4.0"));
+        assertSame(DescriptorSchema.WEB_FRAGMENT_3_1, DescriptorSchema.forVersion("web-fragment", "3.1"));
+        assertNull(DescriptorSchema.forVersion("web-app", "2.3"));
+        assertNull(DescriptorSchema.forVersion("web-fragment", "2.5"));
+        for (DescriptorSchema schema : DescriptorSchema.values()) {
+            assertNotNull(schema.name(), schema.getResource());
+        }
+    }
+
+    @Test
+    public void compilesEverySchemaOfflineOnce() throws SAXException {
+        for (DescriptorSchema schema : DescriptorSchema.values()) {
+            assertSame(schema.name(), schema.getSchema(), schema.getSchema());
+        }
+    }
+
+    @Test
+    public void validatesDescriptors() throws Exception {
+        Validator validator = DescriptorSchema.WEB_APP_4_0.getSchema().newValidator();
+        validator.validate(new StreamSource(new StringReader(webApp("<display-name>app</display-name>"))));
+        assertThrows(
+                SAXException.class,
+                () -> validator.validate(new StreamSource(new StringReader(webApp("<no-such-element/>")))));
+    }
+
+    @Test
+    public void resolvesDtdsToBundledCopies() throws Exception {
+        DescriptorResolver resolver = DescriptorResolver.getInstance();
+        InputSource source =
+                resolver.resolveEntity("-//Sun Microsystems, Inc.//DTD Web Application 2.3//EN", "ignored.dtd");
+        assertNotNull(source);
+        assertTrue(source.getSystemId(), source.getSystemId().endsWith("web-app_2_3.dtd"));
+        source.getByteStream().close();
+        assertEquals(
+                resolver.getResource(null, "http://java.sun.com/dtd/web-app_2_3.dtd"),
+                resolver.getResource("-//Sun Microsystems, Inc.//DTD Web Application 2.3//EN", null));
+        assertNull(resolver.resolveEntity(null, "http://example.com/unknown.dtd"));
+    }
+
+    private static String webApp(String content) {
+        return "<web-app xmlns='http://xmlns.jcp.org/xml/ns/javaee' version='4.0'>" + content + "</web-app>";
+    }
+}